@@ -0,0 +1,88 @@
+#!/usr/bin/env bash
+#
+# Smoke test of the GraalVM native image against embedded H2. Starts the binary
+# with the prod and native-smoke profiles and walks through the main flows:
+# register and log in (JWT), set up airports, an airplane and a flight, search,
+# top up the wallet, book and read the booking back. Any non-2xx response or
+# missing field fails the test; the server log is kept in target/native-smoke.log.
+#
+# Usage (from the backend folder, GraalVM JDK):
+#   ./mvnw -Dprod -Pnative -DskipTests native:compile
+#   loadtest/native-smoke.sh
+#
+# Environment:
+#   BINARY  the native executable (default target/flight-reservation-system)
+#   PORT    server port (default 1212)
+
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+BINARY="${BINARY:-target/flight-reservation-system}"
+PORT="${PORT:-1212}"
+BASE_URL="http://localhost:${PORT}"
+LOG=target/native-smoke.log
+
+[ -x "$BINARY" ] || { echo "No native executable at ${BINARY}" >&2; exit 1; }
+
+"$BINARY" --spring.profiles.active=prod,native-smoke "--server.port=${PORT}" >"$LOG" 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 100); do
+	curl -s -o /dev/null "${BASE_URL}/api/login" && break
+	kill -0 "$PID" 2>/dev/null || { echo "Application exited, see ${LOG}" >&2; exit 1; }
+	sleep 0.1
+done
+
+# call METHOD PATH TOKEN [BODY]: prints the response body, fails on a non-2xx status.
+call() {
+	local method="$1" path="$2" token="$3" body="${4:-}" response status
+	local args=(-s -w '\n%{http_code}' -X "$method" -H 'Content-Type: application/json')
+	[ -n "$token" ] && args+=(-H "Authorization: Bearer ${token}")
+	[ -n "$body" ] && args+=(-d "$body")
+	response=$(curl "${args[@]}" "${BASE_URL}${path}")
+	status=$(tail -n 1 <<<"$response")
+	response=$(sed '$d' <<<"$response")
+	if [ "${status:0:1}" != 2 ]; then
+		echo "FAIL ${method} ${path}: HTTP ${status} ${response}" >&2
+		exit 1
+	fi
+	echo "ok   ${method} ${path} (${status})" >&2
+	echo "$response"
+}
+
+# field NAME: extracts a string or number field from the JSON on stdin.
+field() {
+	local value
+	value=$(sed -n "s/.*\"$1\":\"\{0,1\}\([^\",}]*\).*/\1/p" | head -n 1)
+	[ -n "$value" ] || { echo "FAIL missing field $1" >&2; exit 1; }
+	echo "$value"
+}
+
+user() {
+	echo "{\"userName\":\"$1\",\"userEmail\":\"$2\",\"userGender\":\"Other\",\"userPassword\":\"smoke-test-1\",\"userRole\":\"$3\"}"
+}
+
+call POST /api/register "" "$(user 'Smoke Admin' admin@smoke.test ADMIN)" >/dev/null
+call POST /api/register "" "$(user 'Smoke Customer' customer@smoke.test CUSTOMER)" >/dev/null
+ADMIN=$(call POST /api/login "" '{"userEmail":"admin@smoke.test","userPassword":"smoke-test-1"}' | field token)
+CUSTOMER=$(call POST /api/login "" '{"userEmail":"customer@smoke.test","userPassword":"smoke-test-1"}' | field token)
+
+call POST /api/airports "$ADMIN" '{"airportCode":"SMA","airportName":"Smoke Alpha","airportCity":"Alpha","airportState":"Alpha","airportCountry":"Testland"}' >/dev/null
+call POST /api/airports "$ADMIN" '{"airportCode":"SMB","airportName":"Smoke Bravo","airportCity":"Bravo","airportState":"Bravo","airportCountry":"Testland"}' >/dev/null
+FROM=$(call GET /api/airports/SMA "$ADMIN" | field airportId)
+TO=$(call GET /api/airports/SMB "$ADMIN" | field airportId)
+PLANE=$(call POST /api/airplanes "$ADMIN" '{"airplaneNumber":"SM-001","airplaneName":"Smoke One","airplaneModel":"A320","manufacturer":"Airbus","capacity":120}' | field airplaneId)
+
+DATE=$(date -d tomorrow +%Y-%m-%d)
+FLIGHT=$(call POST /api/flights "$ADMIN" "{\"airplaneId\":${PLANE},\"departureTime\":\"${DATE}T09:00:00\",\"arrivalTime\":\"${DATE}T11:30:00\",\"departureAirportId\":${FROM},\"arrivalAirportId\":${TO},\"price\":150.00,\"airline\":\"Smoke Air\"}" | field id)
+
+FOUND=$(call GET "/api/flights/search?sourceId=${FROM}&destinationId=${TO}&date=${DATE}" "$CUSTOMER")
+grep -q "\"id\":${FLIGHT}[,}]" <<<"$FOUND" || { echo "FAIL search did not return flight ${FLIGHT}" >&2; exit 1; }
+
+call POST /api/wallet/add "$CUSTOMER" '{"balance":1000.00}' >/dev/null
+BOOKING=$(call POST /api/bookings "$CUSTOMER" "{\"flightId\":${FLIGHT},\"passengers\":[{\"passengerName\":\"Smoke Passenger\",\"passengerAge\":30,\"passengerGender\":\"Other\"}]}" | field bookingId)
+call GET "/api/bookings/${BOOKING}" "$CUSTOMER" | field flightId >/dev/null
+call GET /api/bookings/user "$CUSTOMER" >/dev/null
+
+echo "Native smoke test passed (booking ${BOOKING})"
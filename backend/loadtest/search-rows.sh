@@ -0,0 +1,136 @@
+#!/usr/bin/env bash
+#
+# Rows fetched versus rows returned by flight reads. Starts the packaged
+# application against embedded H2 with Hibernate statistics on, seeds one route
+# with many departed and a few upcoming flights, then runs route searches (with
+# and without a date), the flight list and single-flight reads. For each it
+# prints the rows the database returned to Hibernate (from the HHH000117 query
+# statistics in the log), the flights in the response and the average latency.
+# With the departure-time bound in the query both numbers match; the departed
+# flights seeded on the route are what a post-filtering read would fetch and
+# discard on every request.
+#
+# Usage (from the backend folder):
+#   ./mvnw -DskipTests package
+#   loadtest/search-rows.sh
+#
+# Environment:
+#   PAST      departed flights seeded on the route (default 2000)
+#   FUTURE    upcoming flights seeded on the route (default 20)
+#   REQUESTS  requests per measured read (default 50)
+#   PORT      server port (default 1212)
+
+set -euo pipefail
+
+PAST="${PAST:-2000}"
+FUTURE="${FUTURE:-20}"
+REQUESTS="${REQUESTS:-50}"
+PORT="${PORT:-1212}"
+BASE_URL="http://localhost:${PORT}"
+
+cd "$(dirname "$0")/.."
+APP=$(ls target/*.war 2>/dev/null | grep -v '\.original$' | head -n 1)
+if [ -z "$APP" ]; then
+	echo "No packaged application in target/, run ./mvnw -DskipTests package first" >&2
+	exit 1
+fi
+LOG=target/search-rows.log
+
+java -jar "$APP" "--server.port=${PORT}" \
+	"--spring.datasource.url=jdbc:h2:mem:frs;DB_CLOSE_DELAY=-1;MODE=Oracle" \
+	"--spring.datasource.driver-class-name=org.h2.Driver" \
+	"--spring.datasource.username=sa" "--spring.datasource.password=" \
+	"--spring.jpa.hibernate.ddl-auto=create" \
+	"--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" \
+	"--spring.jpa.show-sql=false" \
+	"--spring.jpa.properties.hibernate.generate_statistics=true" \
+	"--logging.level.org.hibernate.stat=DEBUG" \
+	"--logging.level.org.springframework.security=INFO" \
+	"--rate-limit.admin.search.per-minute=100000000" "--rate-limit.admin.search.burst=100000000" \
+	"--rate-limit.admin.default.per-minute=100000000" "--rate-limit.admin.default.burst=100000000" \
+	"--flight-search.cache.ttl-ms=0" \
+	"--tickets.cache-dir=${TMPDIR:-/tmp}/frs-search-rows/tickets" \
+	"--reviews.search.index-dir=${TMPDIR:-/tmp}/frs-search-rows/review-index" \
+	>"$LOG" 2>&1 &
+PID=$!
+trap 'kill "$PID" 2>/dev/null || true' EXIT
+
+for _ in $(seq 1 120); do
+	curl -s -o /dev/null "${BASE_URL}/api/login" && break
+	kill -0 "$PID" 2>/dev/null || { echo "Application exited, see ${LOG}" >&2; exit 1; }
+	sleep 1
+done
+
+# post PATH BODY: prints the response body of an admin POST.
+post() {
+	curl -sf -H 'Content-Type: application/json' ${TOKEN:+-H "Authorization: Bearer ${TOKEN}"} -d "$2" \
+		"${BASE_URL}$1"
+}
+
+# field NAME: extracts a string or number field from the JSON on stdin.
+field() {
+	sed -n "s/.*\"$1\":\"\{0,1\}\([^\",}]*\).*/\1/p" | head -n 1
+}
+
+TOKEN=
+post /api/register '{"userName":"Bench Admin","userEmail":"admin@bench.test","userGender":"Other","userPassword":"bench-test-1","userRole":"ADMIN"}' >/dev/null
+TOKEN=$(post /api/login '{"userEmail":"admin@bench.test","userPassword":"bench-test-1"}' | field token)
+
+post /api/airports '{"airportCode":"BNA","airportName":"Bench Alpha","airportCity":"Alpha","airportState":"Alpha","airportCountry":"Testland"}' >/dev/null
+post /api/airports '{"airportCode":"BNB","airportName":"Bench Bravo","airportCity":"Bravo","airportState":"Bravo","airportCountry":"Testland"}' >/dev/null
+FROM=$(curl -sf -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/api/airports/BNA" | field airportId)
+TO=$(curl -sf -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}/api/airports/BNB" | field airportId)
+PLANE=$(post /api/airplanes '{"airplaneNumber":"BN-001","airplaneName":"Bench One","airplaneModel":"A320","manufacturer":"Airbus","capacity":120}' | field airplaneId)
+
+# flight OFFSET_MINUTES: adds a flight on the route departing that many minutes from now.
+flight() {
+	local departure arrival
+	departure=$(date -d "$1 minutes" +%Y-%m-%dT%H:%M:00)
+	arrival=$(date -d "$(( $1 + 150 )) minutes" +%Y-%m-%dT%H:%M:00)
+	post /api/flights "{\"airplaneId\":${PLANE},\"departureTime\":\"${departure}\",\"arrivalTime\":\"${arrival}\",\"departureAirportId\":${FROM},\"arrivalAirportId\":${TO},\"price\":150.00,\"airline\":\"Bench Air\"}" |
+		field id
+}
+
+echo "Seeding ${PAST} departed and ${FUTURE} upcoming flights on one route..." >&2
+for i in $(seq 1 "$PAST"); do
+	flight "-$(( i * 37 ))" >/dev/null
+done
+UPCOMING=
+for i in $(seq 1 "$FUTURE"); do
+	UPCOMING=$(flight "$(( i * 180 + 60 ))")
+done
+DATE=$(date -d "$(( FUTURE * 180 + 60 )) minutes" +%Y-%m-%d)
+
+# statistics: prints the HHH000117 query statistics of the log, one per line.
+# Multi-line queries are joined onto the line of their log record, so the
+# query text and the row count can be matched together.
+statistics() {
+	awk '/^[0-9][0-9][0-9][0-9]-[0-9][0-9]-[0-9][0-9]/ { if (record != "") print record; record = $0; next }
+		{ record = record " " $0 }
+		END { if (record != "") print record }' "$LOG" | grep 'HHH000117'
+}
+
+# measure NAME PATH: runs the read REQUESTS times and prints rows fetched per
+# request, flights returned and average latency.
+measure() {
+	local name="$1" path="$2" before after fetched returned total=0 time
+	before=$(grep -c 'HHH000117' "$LOG" || true)
+	returned=$(curl -sf -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}${path}" | grep -o '"departureTime"' | wc -l)
+	for _ in $(seq 1 "$REQUESTS"); do
+		time=$(curl -sf -o /dev/null -w '%{time_total}' -H "Authorization: Bearer ${TOKEN}" "${BASE_URL}${path}")
+		total=$(echo "$total + $time" | bc -l)
+	done
+	sleep 1
+	after=$(grep -c 'HHH000117' "$LOG" || true)
+	fetched=$(statistics | tail -n "$(( after - before ))" | grep -i 'from Flight f' |
+		sed -n 's/.*rows: \([0-9]*\).*/\1/p' | awk -v n=$(( REQUESTS + 1 )) '{ s += $1 } END { printf "%.1f", s / n }')
+	printf '%-24s fetched/request %8s   returned %6s   avg %6.1f ms\n' "$name" "$fetched" "$returned" \
+		"$(echo "$total * 1000 / $REQUESTS" | bc -l)"
+}
+
+echo "Route: ${PAST} departed flights that a post-filtering read would also fetch"
+measure "search route" "/api/flights/search?sourceId=${FROM}&destinationId=${TO}"
+measure "search route and day" "/api/flights/search?sourceId=${FROM}&destinationId=${TO}&date=${DATE}"
+measure "list upcoming" "/api/flights"
+measure "flight by id" "/api/flights/${UPCOMING}"
+echo "Server log: ${LOG}"
@@ -0,0 +1,95 @@
+#!/usr/bin/env bash
+#
+# Startup measurement for the production build: trains an AppCDS archive and
+# reports time-to-first-request (JVM launch until the first HTTP response to a
+# login request, which goes through security, MVC and Hibernate) for
+#
+#   war       the executable war, as deployed today
+#   aot       plain class path with Spring AOT initialization
+#   aot-cds   the same, with the AppCDS archive
+#
+# Each result is appended to startup-history.csv (date, commit, mode, ms) so
+# regressions show up over time. With MAX_MS set, the script fails if aot-cds
+# is slower than that.
+#
+# Usage (from the backend folder):
+#   ./mvnw -Dprod -DskipTests package
+#   loadtest/startup.sh
+#
+# Environment:
+#   RUNS      measured starts per mode, the median is reported (default 3)
+#   PORT      server port (default 1212)
+#   HISTORY   history file (default loadtest/startup-history.csv)
+#   MAX_MS    optional budget for aot-cds time-to-first-request
+#   JAVA_OPTS extra JVM options for every run
+
+set -euo pipefail
+
+RUNS="${RUNS:-3}"
+PORT="${PORT:-1212}"
+HISTORY="${HISTORY:-loadtest/startup-history.csv}"
+JAVA_OPTS="${JAVA_OPTS:-}"
+MAIN_CLASS=com.version1.frs.BackendApplication
+
+cd "$(dirname "$0")/.."
+WAR=$(ls target/*.war 2>/dev/null | head -n 1)
+CLASSES_JAR=$(ls target/*-classes.jar 2>/dev/null | head -n 1)
+if [ -z "$WAR" ] || [ -z "$CLASSES_JAR" ] || [ ! -d target/lib ]; then
+	echo "Production build not found, run ./mvnw -Dprod -DskipTests package first" >&2
+	exit 1
+fi
+
+# AppCDS needs the same class path, as jar files only, for training and use.
+CLASSPATH="${CLASSES_JAR}:$(ls target/lib/*.jar | sort | paste -sd: -)"
+ARCHIVE=target/app-cds.jsa
+ARGS=(--spring.profiles.active=prod "--server.port=${PORT}")
+
+echo "Training run for ${ARCHIVE}"
+rm -f "$ARCHIVE"
+java $JAVA_OPTS -XX:ArchiveClassesAtExit="$ARCHIVE" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+	-cp "$CLASSPATH" "$MAIN_CLASS" "${ARGS[@]}" >target/app-cds-training.log 2>&1
+[ -f "$ARCHIVE" ] || { echo "No archive written, see target/app-cds-training.log" >&2; exit 1; }
+
+# Prints the milliseconds from launch until the first HTTP response.
+time_to_first_request() {
+	local start now code pid
+	start=$(date +%s%N)
+	"$@" >target/startup-run.log 2>&1 &
+	pid=$!
+	code=000
+	while [ "$code" = 000 ]; do
+		if ! kill -0 "$pid" 2>/dev/null; then
+			echo "Application exited, see target/startup-run.log" >&2
+			exit 1
+		fi
+		sleep 0.05
+		code=$(curl -s -o /dev/null -w '%{http_code}' -H 'Content-Type: application/json' \
+			-d '{"userEmail":"startup-probe@example.com","userPassword":"probe"}' \
+			"http://localhost:${PORT}/api/login" || true)
+	done
+	now=$(date +%s%N)
+	kill "$pid"
+	wait "$pid" 2>/dev/null || true
+	echo $(((now - start) / 1000000))
+}
+
+measure() {
+	local mode="$1" budget="${2:-}" samples=() median
+	shift 2
+	for _ in $(seq 1 "$RUNS"); do
+		samples+=("$(time_to_first_request "$@")")
+	done
+	median=$(printf '%s\n' "${samples[@]}" | sort -n | sed -n "$(((RUNS + 1) / 2))p")
+	printf '%-8s %6d ms  (runs: %s)\n' "$mode" "$median" "${samples[*]}"
+	[ -f "$HISTORY" ] || echo "date,commit,mode,ttfr_ms" >"$HISTORY"
+	echo "$(date -u +%Y-%m-%dT%H:%M:%SZ),$(git rev-parse --short HEAD 2>/dev/null || echo unknown),${mode},${median}" >>"$HISTORY"
+	if [ -n "$budget" ] && [ "$median" -gt "$budget" ]; then
+		echo "Time to first request of ${median} ms exceeds the budget of ${budget} ms" >&2
+		exit 1
+	fi
+}
+
+measure war "" java $JAVA_OPTS -jar "$WAR" "${ARGS[@]}"
+measure aot "" java $JAVA_OPTS -Dspring.aot.enabled=true -cp "$CLASSPATH" "$MAIN_CLASS" "${ARGS[@]}"
+measure aot-cds "${MAX_MS:-}" java $JAVA_OPTS -XX:SharedArchiveFile="$ARCHIVE" -Dspring.aot.enabled=true \
+	-cp "$CLASSPATH" "$MAIN_CLASS" "${ARGS[@]}"
@@ -0,0 +1,118 @@
+#!/usr/bin/env bash
+#
+# Load-test comparison of platform-thread and virtual-thread request execution.
+#
+# Starts the packaged application once per mode with the same settings, logs in,
+# drives flight search and booking history with `hey` (https://github.com/rakyll/hey)
+# and prints throughput, latency percentiles and the peak number of JVM platform
+# threads for each mode.
+#
+# Usage (from the backend folder, JDK 21):
+#   ./mvnw -Pvirtual-threads -DskipTests package
+#   EMAIL=customer@example.com PASSWORD=secret loadtest/thread-modes.sh
+#
+# Environment:
+#   EMAIL, PASSWORD   credentials of an existing CUSTOMER account (required; the
+#                     booking history endpoint is customer-only)
+#   SOURCE_ID, DEST_ID airports used for the search requests (default 1 and 2)
+#   CONCURRENCY       concurrent clients (default 400, above Tomcat's 200 threads)
+#   DURATION          duration of each run (default 30s)
+#   PROFILES          extra Spring profiles for both runs, e.g. replica-local
+#   PORT              server port (default 1212)
+
+set -euo pipefail
+
+: "${EMAIL:?EMAIL must be set}"
+: "${PASSWORD:?PASSWORD must be set}"
+SOURCE_ID="${SOURCE_ID:-1}"
+DEST_ID="${DEST_ID:-2}"
+CONCURRENCY="${CONCURRENCY:-400}"
+DURATION="${DURATION:-30s}"
+PROFILES="${PROFILES:-}"
+PORT="${PORT:-1212}"
+BASE_URL="http://localhost:${PORT}"
+
+cd "$(dirname "$0")/.."
+APP=$(ls target/*.war 2>/dev/null | grep -v '\.original$' | head -n 1)
+if [ -z "$APP" ]; then
+	echo "No packaged application in target/, run ./mvnw -Pvirtual-threads -DskipTests package first" >&2
+	exit 1
+fi
+command -v hey >/dev/null || { echo "hey is not installed" >&2; exit 1; }
+
+# Rate limits and bulkheads are opened up for the test so that both modes are
+# limited by request execution and the connection pool, not by admission control.
+OVERRIDES=(
+	"--server.port=${PORT}"
+	"--rate-limit.admin.search.per-minute=100000000" "--rate-limit.admin.search.burst=100000000"
+	"--rate-limit.admin.default.per-minute=100000000" "--rate-limit.admin.default.burst=100000000"
+	"--rate-limit.customer.search.per-minute=100000000" "--rate-limit.customer.search.burst=100000000"
+	"--rate-limit.customer.default.per-minute=100000000" "--rate-limit.customer.default.burst=100000000"
+	"--rate-limit.customer.booking.per-minute=100000000" "--rate-limit.customer.booking.burst=100000000"
+	"--bulkhead.search.max-concurrent=${CONCURRENCY}" "--bulkhead.search.max-queued=${CONCURRENCY}"
+	"--bulkhead.booking.max-concurrent=${CONCURRENCY}" "--bulkhead.booking.max-queued=${CONCURRENCY}"
+	"--logging.level.org.springframework.security=INFO" "--spring.jpa.show-sql=false"
+)
+
+RESULTS=$(mktemp -d)
+trap 'kill "${PID:-}" 2>/dev/null || true' EXIT
+
+run_mode() {
+	local mode="$1" profiles="$2"
+	echo "=== ${mode} threads ==="
+	java -Djdk.tracePinnedThreads=short -jar "$APP" "--spring.profiles.active=${profiles}" "${OVERRIDES[@]}" \
+		>"${RESULTS}/${mode}.log" 2>&1 &
+	PID=$!
+
+	for _ in $(seq 1 120); do
+		curl -s -o /dev/null "${BASE_URL}/api/login" && break
+		sleep 1
+	done
+
+	local token
+	token=$(curl -s -H 'Content-Type: application/json' \
+		-d "{\"userEmail\":\"${EMAIL}\",\"userPassword\":\"${PASSWORD}\"}" "${BASE_URL}/api/login" |
+		sed -n 's/.*"token":"\([^"]*\)".*/\1/p')
+	if [ -z "$token" ]; then
+		echo "Login failed, see ${RESULTS}/${mode}.log" >&2
+		exit 1
+	fi
+
+	# Warm up, then measure.
+	hey -z 10s -c 50 -H "Authorization: Bearer ${token}" \
+		"${BASE_URL}/api/flights/search?sourceId=${SOURCE_ID}&destinationId=${DEST_ID}" >/dev/null
+
+	local peak=0
+	(
+		while kill -0 "$PID" 2>/dev/null; do
+			jcmd "$PID" Thread.print 2>/dev/null | grep -c '^"' || true
+			sleep 1
+		done
+	) >"${RESULTS}/${mode}.threads" &
+	local sampler=$!
+
+	hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" \
+		"${BASE_URL}/api/flights/search?sourceId=${SOURCE_ID}&destinationId=${DEST_ID}" >"${RESULTS}/${mode}.search"
+	hey -z "$DURATION" -c "$CONCURRENCY" -H "Authorization: Bearer ${token}" \
+		"${BASE_URL}/api/bookings/user" >"${RESULTS}/${mode}.bookings"
+
+	kill "$sampler" 2>/dev/null || true
+	peak=$(sort -n "${RESULTS}/${mode}.threads" | tail -n 1)
+	kill "$PID"
+	wait "$PID" 2>/dev/null || true
+
+	for endpoint in search bookings; do
+		echo "-- ${endpoint}"
+		grep -E 'Requests/sec|Average:|  (50|99)% in' "${RESULTS}/${mode}.${endpoint}"
+		grep -E '^\s+\[[0-9]+\]' "${RESULTS}/${mode}.${endpoint}"
+	done
+	echo "-- peak platform threads: ${peak:-n/a}"
+	if grep -q 'VirtualThread' "${RESULTS}/${mode}.log"; then
+		echo "-- pinned virtual threads reported, see ${RESULTS}/${mode}.log"
+	fi
+}
+
+run_mode platform "${PROFILES}"
+run_mode virtual "virtual-threads${PROFILES:+,${PROFILES}}"
+
+echo "Raw hey output and server logs: ${RESULTS}"
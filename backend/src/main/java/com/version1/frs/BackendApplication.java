@@ -3,11 +3,15 @@
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.version1.frs.config.NativeRuntimeHints;
  
 @SpringBootApplication
 @EntityScan(basePackages = "com.version1.frs.model")                    // ensures model classes are scanned
 @EnableJpaRepositories(basePackages = "com.version1.frs.repository")   // ensures repo interfaces are scanned
+@ImportRuntimeHints(NativeRuntimeHints.class)                          // reflection metadata for the native image
 public class BackendApplication {
  
     public static void main(String[] args) {
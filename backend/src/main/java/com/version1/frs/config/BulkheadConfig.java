@@ -0,0 +1,25 @@
+package com.version1.frs.config;
+
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.version1.frs.security.BulkheadFilter;
+
+/**
+ * Registers the {@link BulkheadFilter} ahead of the Spring Security filter
+ * chain, so that saturated endpoint classes are rejected before any
+ * authentication work is done.
+ */
+@Configuration
+public class BulkheadConfig {
+
+	@Bean
+	FilterRegistrationBean<BulkheadFilter> bulkheadFilterRegistration(BulkheadFilter bulkheadFilter) {
+		FilterRegistrationBean<BulkheadFilter> registration = new FilterRegistrationBean<>(bulkheadFilter);
+		registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 10);
+		registration.addUrlPatterns("/api/*");
+		return registration;
+	}
+}
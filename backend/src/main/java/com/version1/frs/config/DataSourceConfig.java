@@ -0,0 +1,59 @@
+package com.version1.frs.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Splits database traffic between the primary and a read replica when
+ * {@code spring.datasource.replica.url} is set; otherwise Spring Boot's single
+ * data source is used unchanged. The replica is configured with the same keys
+ * as the primary under {@code spring.datasource.replica.*}. Service methods
+ * annotated with {@code @Transactional(readOnly = true)} read from the replica;
+ * see {@link ReplicaRoutingDataSource}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+public class DataSourceConfig {
+
+	@Bean(autowireCandidate = false)
+	HikariDataSource primaryPool(DataSourceProperties properties) {
+		HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		pool.setPoolName("primary");
+		return pool;
+	}
+
+	@Bean(autowireCandidate = false)
+	HikariDataSource replicaPool(Environment environment) throws Exception {
+		DataSourceProperties properties = Binder.get(environment)
+				.bind("spring.datasource.replica", DataSourceProperties.class).get();
+		properties.afterPropertiesSet();
+		HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		pool.setPoolName("replica");
+		pool.setReadOnly(true);
+		return pool;
+	}
+
+	/**
+	 * The data source used by JPA and JDBC. The pools are not autowire
+	 * candidates, so they are obtained through their bean methods.
+	 */
+	@Bean
+	@Primary
+	DataSource dataSource(DataSourceProperties properties, Environment environment, ReadYourWrites readYourWrites)
+			throws Exception {
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryPool(properties),
+				replicaPool(environment), readYourWrites);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+}
@@ -0,0 +1,84 @@
+package com.version1.frs.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import com.version1.frs.controller.AirportController;
+import com.version1.frs.controller.AuthController;
+
+/**
+ * Reachability metadata for the GraalVM native image, registered during AOT
+ * processing. Spring derives hints for beans, repositories and controller
+ * signatures itself; this adds what it cannot see:
+ * <ul>
+ * <li>the JPA entities, read and written reflectively by Hibernate,</li>
+ * <li>all DTOs, which Jackson also binds outside controller signatures (nested
+ * in pages and maps, outbox payloads, exports and booking summaries), and the
+ * message bodies that controllers return as {@code ResponseEntity<Object>},</li>
+ * <li>the jjwt implementation, which jjwt-api loads by class name, and its
+ * Jackson serializer service files.</li>
+ * </ul>
+ * The entity and DTO packages are scanned at build time, so new classes are
+ * picked up without touching this class.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+	private static final String MODEL_PACKAGE = "com.version1.frs.model";
+	private static final String DTO_PACKAGE = "com.version1.frs.dto";
+
+	private static final String[] JJWT_TYPES = { "io.jsonwebtoken.impl.DefaultJwtBuilder",
+			"io.jsonwebtoken.impl.DefaultJwtParser", "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+			"io.jsonwebtoken.impl.DefaultClaims", "io.jsonwebtoken.impl.DefaultHeader",
+			"io.jsonwebtoken.impl.DefaultJwsHeader", "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+			"io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+			"io.jsonwebtoken.impl.compression.GzipCompressionCodec", "io.jsonwebtoken.jackson.io.JacksonSerializer",
+			"io.jsonwebtoken.jackson.io.JacksonDeserializer" };
+
+	@Override
+	public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+		for (Class<?> entity : classesIn(MODEL_PACKAGE, classLoader)) {
+			hints.reflection().registerType(entity, MemberCategory.DECLARED_FIELDS,
+					MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_METHODS);
+		}
+
+		BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+		for (Class<?> dto : classesIn(DTO_PACKAGE, classLoader)) {
+			bindings.registerReflectionHints(hints.reflection(), dto);
+		}
+		bindings.registerReflectionHints(hints.reflection(), AirportController.MessageResponse.class,
+				AuthController.MessageResponse.class);
+
+		for (String type : JJWT_TYPES) {
+			hints.reflection().registerTypeIfPresent(classLoader, type, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+					MemberCategory.INVOKE_PUBLIC_METHODS);
+		}
+		hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+	}
+
+	/**
+	 * Finds the top-level and nested classes of a package and its sub-packages.
+	 */
+	private static List<Class<?>> classesIn(String basePackage, ClassLoader classLoader) {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return true;
+			}
+		};
+		scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+		List<Class<?>> classes = new ArrayList<>();
+		for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+			classes.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+		}
+		return classes;
+	}
+}
@@ -0,0 +1,59 @@
+package com.version1.frs.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers which users have recently changed their own data, so that
+ * {@link ReplicaRoutingDataSource} can keep their reads on the primary until
+ * the replica has caught up. Services record a write once its transaction has
+ * committed; without a replica the entries are simply never consulted.
+ */
+@Component
+public class ReadYourWrites {
+
+	/** Expired pins are purged once the map grows past this size. */
+	private static final int PURGE_THRESHOLD = 10_000;
+
+	private final long windowNanos;
+	private final Map<Long, Long> pinnedUntil = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates the tracker.
+	 *
+	 * @param readYourWritesMs how long a user's reads stay on the primary after
+	 *                         the user's last committed write
+	 */
+	public ReadYourWrites(@Value("${replica.read-your-writes-ms:5000}") long readYourWritesMs) {
+		this.windowNanos = TimeUnit.MILLISECONDS.toNanos(readYourWritesMs);
+	}
+
+	/**
+	 * Pins a user's reads to the primary for the configured window. Call after
+	 * the write has committed.
+	 *
+	 * @param userId the ID of the user whose data changed
+	 */
+	public void recordWrite(Long userId) {
+		long now = System.nanoTime();
+		pinnedUntil.put(userId, now + windowNanos);
+		if (pinnedUntil.size() > PURGE_THRESHOLD) {
+			pinnedUntil.values().removeIf(until -> now - until >= 0);
+		}
+	}
+
+	/**
+	 * Checks whether a user's reads are currently pinned to the primary.
+	 *
+	 * @param userId the ID of the user
+	 * @return true if the user wrote within the configured window
+	 */
+	public boolean isPinned(Long userId) {
+		Long until = pinnedUntil.get(userId);
+		return until != null && System.nanoTime() - until < 0;
+	}
+}
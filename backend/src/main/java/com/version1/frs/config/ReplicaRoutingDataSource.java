@@ -0,0 +1,73 @@
+package com.version1.frs.config;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.version1.frs.security.UserDetailsImpl;
+
+/**
+ * Routes connections of read-only transactions to the replica and everything
+ * else to the primary. Must be wrapped in a lazy connection proxy, so that the
+ * connection is only fetched once the transaction's read-only flag is known.
+ *
+ * <p>
+ * Replicas lag behind the primary, so a user who has just booked could read a
+ * stale state. Read-only transactions of a user whose data changed recently, as
+ * recorded in {@link ReadYourWrites} after the change committed, therefore stay
+ * on the primary. Read-write transactions alone do not pin anyone, since many
+ * of them (logins, failed bookings) change nothing the user reads back.
+ * </p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+	static final String PRIMARY = "primary";
+	static final String REPLICA = "replica";
+
+	private final ReadYourWrites readYourWrites;
+
+	/**
+	 * Creates a routing data source.
+	 *
+	 * @param primary        the primary pool, used for writes
+	 * @param replica        the replica pool, used for read-only transactions
+	 * @param readYourWrites the users whose reads stay on the primary
+	 */
+	public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReadYourWrites readYourWrites) {
+		this.readYourWrites = readYourWrites;
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		String key = route();
+		log.debug("Routing transaction {} to {}", TransactionSynchronizationManager.getCurrentTransactionName(), key);
+		return key;
+	}
+
+	private String route() {
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			return PRIMARY;
+		}
+		Long userId = currentUserId();
+		return userId != null && readYourWrites.isPinned(userId) ? PRIMARY : REPLICA;
+	}
+
+	private static Long currentUserId() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication != null && authentication.getPrincipal() instanceof UserDetailsImpl user) {
+			return user.getId();
+		}
+		return null;
+	}
+}
@@ -0,0 +1,13 @@
+package com.version1.frs.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task support, used for background jobs such as
+ * waitlist promotion.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
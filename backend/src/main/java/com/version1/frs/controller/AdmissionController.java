@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025 Version 1
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.version1.frs.dto.BulkheadStatsResponse;
+import com.version1.frs.dto.RateLimitStatsResponse;
+import com.version1.frs.security.BulkheadFilter;
+import com.version1.frs.security.RateLimitFilter;
+import com.version1.frs.security.RateLimiter;
+
+/**
+ * Controller exposing admission control and rate limiting metrics to admins,
+ * so queue depth and rejections can be watched during high-traffic sales.
+ *
+ * Base URL: /api/admin/admission
+ */
+@RestController
+@RequestMapping("/api/admin/admission")
+public class AdmissionController {
+
+	private final BulkheadFilter bulkheadFilter;
+	private final RateLimitFilter rateLimitFilter;
+
+	/**
+	 * Constructor for injecting the admission filters.
+	 *
+	 * @param bulkheadFilter  the filter holding the per-class bulkheads
+	 * @param rateLimitFilter the filter holding the per-user rate limiter
+	 */
+	public AdmissionController(BulkheadFilter bulkheadFilter, RateLimitFilter rateLimitFilter) {
+		this.bulkheadFilter = bulkheadFilter;
+		this.rateLimitFilter = rateLimitFilter;
+	}
+
+	/**
+	 * Retrieves concurrency, queue depth and rejection counters per endpoint
+	 * class.
+	 *
+	 * @return a list of bulkhead statistics
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/bulkheads")
+	public ResponseEntity<List<BulkheadStatsResponse>> getBulkheadStats() {
+		return ResponseEntity.ok(bulkheadFilter.getStats());
+	}
+
+	/**
+	 * Retrieves the per-user rate limiter counters.
+	 *
+	 * @return the rate limit statistics
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/rate-limits")
+	public ResponseEntity<RateLimitStatsResponse> getRateLimitStats() {
+		RateLimiter limiter = rateLimitFilter.getRateLimiter();
+		return ResponseEntity.ok(
+				new RateLimitStatsResponse(limiter.size(), limiter.getRejected(), limiter.getOverflowed()));
+	}
+}
@@ -17,7 +17,11 @@
 package com.version1.frs.controller;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -30,10 +34,14 @@
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.version1.frs.dto.AirplaneRequest;
 import com.version1.frs.dto.AirplaneResponse;
+import com.version1.frs.dto.CabinLayoutRequest;
+import com.version1.frs.dto.CabinLayoutResponse;
 import com.version1.frs.service.AirplaneService;
+import com.version1.frs.service.SeatMapService;
 
 import jakarta.validation.Valid;
 
@@ -50,14 +58,23 @@
 public class AirplaneController {
 
 	private final AirplaneService airplaneService;
+	private final SeatMapService seatMapService;
+	private final CacheControl listCacheControl;
 
 	/**
-	 * Constructor-based injection for {@link AirplaneService}.
+	 * Constructor-based injection for {@link AirplaneService} and
+	 * {@link SeatMapService}.
 	 *
 	 * @param airplaneService the service used to handle airplane operations
+	 * @param seatMapService  the service used to manage cabin layouts
+	 * @param maxAgeSeconds   how long clients may use the airplane list before
+	 *                        revalidating it
 	 */
-	public AirplaneController(AirplaneService airplaneService) {
+	public AirplaneController(AirplaneService airplaneService, SeatMapService seatMapService,
+			@Value("${http-cache.reference-data.max-age-seconds:300}") long maxAgeSeconds) {
 		this.airplaneService = airplaneService;
+		this.seatMapService = seatMapService;
+		this.listCacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate();
 	}
 
 	/**
@@ -73,13 +90,21 @@ public ResponseEntity<AirplaneResponse> addAirplane(@Valid @RequestBody Airplane
 	}
 
 	/**
-	 * Retrieves all airplanes in the system.
+	 * Retrieves all airplanes in the system. The list carries an ETag; a matching
+	 * If-None-Match is answered with 304 Not Modified without reading the
+	 * airplanes.
 	 *
-	 * @return list of all airplane response objects
+	 * @param webRequest the current request, used for the ETag check
+	 * @return list of all airplane response objects, or 304 Not Modified
 	 */
 	@GetMapping
-	public ResponseEntity<List<AirplaneResponse>> getAllAirplanes() {
-		return ResponseEntity.ok(airplaneService.getAllAirplanes());
+	public ResponseEntity<List<AirplaneResponse>> getAllAirplanes(ServletWebRequest webRequest) {
+		String etag = airplaneService.getAirplanesETag();
+		if (webRequest.checkNotModified(etag)) {
+			webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, listCacheControl.getHeaderValue());
+			return null;
+		}
+		return ResponseEntity.ok().eTag(etag).cacheControl(listCacheControl).body(airplaneService.getAllAirplanes());
 	}
 
 	/**
@@ -93,6 +118,34 @@ public ResponseEntity<AirplaneResponse> getAirplaneById(@PathVariable Long id) {
 		return ResponseEntity.ok(airplaneService.getAirplaneById(id));
 	}
 
+	/**
+	 * Retrieves the cabin layout of an airplane. An empty list means the default
+	 * six-abreast economy layout sized to the airplane's capacity is used.
+	 *
+	 * @param id the ID of the airplane
+	 * @return list of cabins ordered by row
+	 */
+	@GetMapping("/{id}/layout")
+	public ResponseEntity<List<CabinLayoutResponse>> getLayout(@PathVariable Long id) {
+		return ResponseEntity.ok(seatMapService.getLayout(id));
+	}
+
+	/**
+	 * Replaces the cabin layout of an airplane and sets its capacity to the
+	 * resulting number of seats. Only accessible by users with ADMIN role, and
+	 * only while none of the airplane's flights has booked seats.
+	 *
+	 * @param id     the ID of the airplane
+	 * @param cabins the new cabins
+	 * @return the saved layout
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@PutMapping("/{id}/layout")
+	public ResponseEntity<List<CabinLayoutResponse>> updateLayout(@PathVariable Long id,
+			@Valid @RequestBody List<CabinLayoutRequest> cabins) {
+		return ResponseEntity.ok(seatMapService.updateLayout(id, cabins));
+	}
+
 	/**
 	 * Retrieves an airplane by its unique airplane number.
 	 *
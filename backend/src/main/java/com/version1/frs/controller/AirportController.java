@@ -17,8 +17,12 @@
 package com.version1.frs.controller;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -32,6 +36,7 @@
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import com.version1.frs.dto.AirportRequest;
 import com.version1.frs.dto.AirportResponse;
@@ -52,11 +57,14 @@
 public class AirportController {
 
 	private final AirportService airportService;
+	private final CacheControl listCacheControl;
 
 	// Constructor Injection (cleaner, test-friendly)
 	
-	public AirportController(AirportService airportService) {
+	public AirportController(AirportService airportService,
+			@Value("${http-cache.reference-data.max-age-seconds:300}") long maxAgeSeconds) {
 		this.airportService = airportService;
+		this.listCacheControl = CacheControl.maxAge(maxAgeSeconds, TimeUnit.SECONDS).cachePrivate();
 	}
 
 	/**
@@ -115,18 +123,27 @@ public ResponseEntity<Object> deleteAirport(@PathVariable String airportCode) {
 	}
 
 	/**
-	 * Retrieves all airports. Accessible by both ADMIN and CUSTOMER roles.
+	 * Retrieves all airports. Accessible by both ADMIN and CUSTOMER roles. The
+	 * list carries an ETag; a matching If-None-Match is answered with 304 Not
+	 * Modified without reading the airports.
 	 *
-	 * @return a list of airports or an error/empty response message
+	 * @param webRequest the current request, used for the ETag check
+	 * @return a list of airports, 304 Not Modified, or an error/empty response
+	 *         message
 	 */
 	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
 	@GetMapping
-	public ResponseEntity<Object> getAllAirports() {
+	public ResponseEntity<Object> getAllAirports(ServletWebRequest webRequest) {
+		String etag = airportService.getAirportsETag();
+		if (webRequest.checkNotModified(etag)) {
+			webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, listCacheControl.getHeaderValue());
+			return null;
+		}
 		try {
 			List<AirportResponse> airports = airportService.getAllAirports();
 			return airports.isEmpty()
 					? new ResponseEntity<>(new MessageResponse("No airports found"), HttpStatus.NOT_FOUND)
-					: ResponseEntity.ok(airports);
+					: ResponseEntity.ok().eTag(etag).cacheControl(listCacheControl).body(airports);
 		} catch (Exception e) {
 			return new ResponseEntity<>(new MessageResponse("Failed to retrieve airports: " + e.getMessage()),
 					HttpStatus.INTERNAL_SERVER_ERROR);
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 Version 1
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.version1.frs.dto.AircraftUtilizationResponse;
+import com.version1.frs.dto.AirlineStatsResponse;
+import com.version1.frs.dto.ApiResponse;
+import com.version1.frs.dto.FlightLoadResponse;
+import com.version1.frs.dto.RouteStatsResponse;
+import com.version1.frs.service.AnalyticsService;
+
+/**
+ * Controller exposing fleet utilization and load-factor analytics to admins.
+ * All figures are served from the incrementally maintained flight rollups.
+ *
+ * Base URL: /api/analytics
+ */
+@RestController
+@RequestMapping("/api/analytics")
+public class AnalyticsController {
+
+	private final AnalyticsService analyticsService;
+
+	/**
+	 * Constructor for injecting the required {@link AnalyticsService}.
+	 *
+	 * @param analyticsService the analytics service used for dashboard queries
+	 */
+	public AnalyticsController(AnalyticsService analyticsService) {
+		this.analyticsService = analyticsService;
+	}
+
+	/**
+	 * Retrieves load factor and revenue per flight for flights departing in the
+	 * given range. Defaults to the next seven days.
+	 *
+	 * @param from the first departure day (optional)
+	 * @param to   the last departure day (optional)
+	 * @return a list of per-flight load figures
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/flights")
+	public ResponseEntity<List<FlightLoadResponse>> getFlightLoad(
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		LocalDate start = from != null ? from : LocalDate.now();
+		LocalDate end = to != null ? to : start.plusDays(6);
+		return ResponseEntity.ok(analyticsService.getFlightLoad(start, end));
+	}
+
+	/**
+	 * Retrieves load factor and revenue aggregated per route.
+	 *
+	 * @return a list of per-route figures, highest revenue first
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/routes")
+	public ResponseEntity<List<RouteStatsResponse>> getRouteStats() {
+		return ResponseEntity.ok(analyticsService.getRouteStats());
+	}
+
+	/**
+	 * Retrieves load factor and revenue aggregated per airline.
+	 *
+	 * @return a list of per-airline figures, highest revenue first
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/airlines")
+	public ResponseEntity<List<AirlineStatsResponse>> getAirlineStats() {
+		return ResponseEntity.ok(analyticsService.getAirlineStats());
+	}
+
+	/**
+	 * Retrieves scheduled block hours per airplane and day. Defaults to today.
+	 *
+	 * @param from the first day (optional)
+	 * @param to   the last day (optional)
+	 * @return a list of per-airplane, per-day utilization figures
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/utilization")
+	public ResponseEntity<List<AircraftUtilizationResponse>> getAircraftUtilization(
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		LocalDate start = from != null ? from : LocalDate.now();
+		LocalDate end = to != null ? to : start;
+		return ResponseEntity.ok(analyticsService.getAircraftUtilization(start, end));
+	}
+
+	/**
+	 * Creates rollups for any flights that are missing one. Useful after bulk
+	 * imports that bypass the service layer.
+	 *
+	 * @return a message with the number of rollups created
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/rebuild")
+	public ResponseEntity<ApiResponse> rebuild() {
+		int created = analyticsService.rebuildMissingStats();
+		return ResponseEntity.ok(new ApiResponse("Created rollups for " + created + " flights."));
+	}
+}
@@ -17,9 +17,18 @@
 package com.version1.frs.controller;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -31,13 +40,20 @@
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.version1.frs.dto.ApiResponse;
 import com.version1.frs.dto.BookingRequest;
 import com.version1.frs.dto.BookingResponse;
+import com.version1.frs.dto.BookingSummaryResponse;
+import com.version1.frs.dto.PageResponse;
 import com.version1.frs.security.UserDetailsImpl;
+import com.version1.frs.service.BookingExportService;
 import com.version1.frs.service.BookingService;
+import com.version1.frs.service.TicketService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
 /**
@@ -50,15 +66,29 @@
 @RequestMapping("/api/bookings")
 public class BookingController {
 
+	/** Request attributes through which Tomcat offers and performs sendfile. */
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
 	private final BookingService bookingService;
+	private final BookingExportService bookingExportService;
+	private final TicketService ticketService;
 
 	/**
-	 * Constructor for injecting the required {@link BookingService}.
+	 * Constructor for injecting the required {@link BookingService},
+	 * {@link BookingExportService} and {@link TicketService}.
 	 *
-	 * @param bookingService the booking service used for booking operations
+	 * @param bookingService       the booking service used for booking operations
+	 * @param bookingExportService the service used for bulk exports
+	 * @param ticketService        the service providing ticket PDFs
 	 */
-	public BookingController(BookingService bookingService) {
+	public BookingController(BookingService bookingService, BookingExportService bookingExportService,
+			TicketService ticketService) {
 		this.bookingService = bookingService;
+		this.bookingExportService = bookingExportService;
+		this.ticketService = ticketService;
 	}
 
 	/**
@@ -94,6 +124,24 @@ public ResponseEntity<List<BookingResponse>> getUserBookings(@AuthenticationPrin
 		return ResponseEntity.ok(bookingService.getBookingsByUser(userId));
 	}
 
+	/**
+	 * Retrieves a page of the authenticated customer's booking history, most
+	 * recent first. Each entry includes the flight schedule, airports and
+	 * passengers. Accessible only by users with the CUSTOMER role.
+	 *
+	 * @param page        the zero-based page number (default 0)
+	 * @param size        the page size (default 20, at most 100)
+	 * @param userDetails the authenticated user's details
+	 * @return a page of booking summaries
+	 */
+	@PreAuthorize("hasRole('CUSTOMER')")
+	@GetMapping("/user/history")
+	public ResponseEntity<PageResponse<BookingSummaryResponse>> getUserBookingHistory(
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size,
+			@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		return ResponseEntity.ok(bookingService.getBookingHistory(userDetails.getId(), page, size));
+	}
+
 	/**
 	 * Retrieves all bookings in the system. Accessible only by users with the ADMIN
 	 * role. Optionally filters bookings by customerId.
@@ -107,6 +155,40 @@ public ResponseEntity<List<BookingResponse>> getAllBookings(@RequestParam(requir
 		return ResponseEntity.ok(bookingService.getAllBookings(customerId));
 	}
 
+	/**
+	 * Exports bookings as CSV or NDJSON, optionally filtered by booking date and
+	 * flight. The response is streamed while the bookings are read, so exports of
+	 * any size use constant memory. Accessible only by users with the ADMIN role.
+	 *
+	 * @param format   "csv" (default) or "ndjson"
+	 * @param from     the first booking day (optional)
+	 * @param to       the last booking day (optional)
+	 * @param flightId the ID of the flight (optional)
+	 * @return the streamed export, or 400 Bad Request for an unknown format
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportBookings(@RequestParam(defaultValue = "csv") String format,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) Long flightId) {
+
+		MediaType mediaType;
+		if ("csv".equalsIgnoreCase(format)) {
+			mediaType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+		} else if ("ndjson".equalsIgnoreCase(format)) {
+			mediaType = MediaType.APPLICATION_NDJSON;
+		} else {
+			return ResponseEntity.badRequest().build();
+		}
+
+		StreamingResponseBody body = out -> bookingExportService.exportBookings(format, from, to, flightId, out);
+		return ResponseEntity.ok().contentType(mediaType)
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"bookings." + format.toLowerCase() + "\"")
+				.body(body);
+	}
+
 	/**
 	 * Retrieves a specific booking by its ID. Accessible by: - ADMIN: can view any
 	 * booking - CUSTOMER: can only view their own bookings
@@ -132,6 +214,59 @@ public ResponseEntity<BookingResponse> getBookingById(@PathVariable Long id,
 		return ResponseEntity.ok(booking);
 	}
 
+	/**
+	 * Downloads the ticket PDF of a booking. Tickets are rendered in the
+	 * background after booking; until the PDF is ready, 202 Accepted is returned
+	 * with a Retry-After header. The content hash is sent as ETag, so clients
+	 * re-downloading an unchanged ticket get 304 Not Modified. On Tomcat the file
+	 * is handed to the connector and sent with sendfile, without being copied
+	 * through the JVM. Accessible by: - ADMIN: any booking - CUSTOMER: only their
+	 * own bookings
+	 *
+	 * @param id          the ID of the booking
+	 * @param userDetails the authenticated user's details
+	 * @param webRequest  the current request, used for the ETag check
+	 * @return the PDF, 202 Accepted, 304 Not Modified, or 403 Forbidden
+	 */
+	@PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
+	@GetMapping("/{id}/ticket")
+	public ResponseEntity<Resource> downloadTicket(@PathVariable Long id,
+			@AuthenticationPrincipal UserDetailsImpl userDetails, ServletWebRequest webRequest) {
+
+		BookingResponse booking = bookingService.getBookingById(id);
+
+		boolean isCustomer = userDetails.getAuthorities().stream()
+				.anyMatch(a -> a.getAuthority().equals("ROLE_CUSTOMER"));
+
+		if (isCustomer && !booking.getCustomerId().equals(userDetails.getId())) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+		}
+
+		TicketService.TicketFile ticket = ticketService.getTicket(id);
+		if (ticket == null) {
+			return ResponseEntity.status(HttpStatus.ACCEPTED).header(HttpHeaders.RETRY_AFTER, "2").build();
+		}
+
+		String etag = "\"" + ticket.contentHash() + "\"";
+		if (webRequest.checkNotModified(etag)) {
+			return null;
+		}
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_PDF)
+				.contentLength(ticket.contentLength()).eTag(etag)
+				.cacheControl(CacheControl.maxAge(0, TimeUnit.SECONDS).cachePrivate().mustRevalidate())
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"ticket-" + id + ".pdf\"");
+
+		HttpServletRequest request = webRequest.getRequest();
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, ticket.path().toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, 0L);
+			request.setAttribute(SENDFILE_END, ticket.contentLength());
+			return response.build();
+		}
+		return response.body(new FileSystemResource(ticket.path()));
+	}
+
 	/**
 	 * Deletes a booking by ID. Accessible by: - CUSTOMER: only if the booking
 	 * belongs to them - ADMIN: can delete any booking
@@ -142,8 +277,6 @@ public ResponseEntity<BookingResponse> getBookingById(@PathVariable Long id,
 	@PreAuthorize("hasRole('CUSTOMER') or hasRole('ADMIN')")
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse> deleteBooking(@PathVariable Long id) {
-		bookingService.deleteBooking(id);
-
 		BigDecimal refundAmount = bookingService.deleteBooking(id);
 		String msg = "Booking cancelled and ₹" + refundAmount + " refunded to your wallet.";
 		return ResponseEntity.ok(new ApiResponse(msg));
@@ -16,11 +16,18 @@
 
 package com.version1.frs.controller;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -28,15 +35,27 @@
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.version1.frs.dto.FareCalendarResponse;
+import com.version1.frs.dto.FlightPriceRequest;
 import com.version1.frs.dto.FlightRequest;
 import com.version1.frs.dto.FlightResponse;
+import com.version1.frs.dto.PageResponse;
+import com.version1.frs.dto.SeatMapResponse;
+import com.version1.frs.service.AirportService;
+import com.version1.frs.service.BookingExportService;
 import com.version1.frs.service.FlightService;
 
+import jakarta.validation.Valid;
+
 /**
  * Controller for managing flights. Supports flight addition, deletion,
  * retrieval, and searching.
@@ -48,15 +67,28 @@
 @CrossOrigin
 public class FlightController {
 
+	/** Longest fare calendar range, in days. */
+	private static final int MAX_CALENDAR_DAYS = 366;
+
 	private final FlightService flightService;
+	private final BookingExportService bookingExportService;
+	private final AirportService airportService;
 
 	/**
-	 * Constructor for injecting the required {@link FlightService}.
+	 * Constructor for injecting the required {@link FlightService},
+	 * {@link BookingExportService} and {@link AirportService}.
 	 *
-	 * @param flightService the flight service to be used for flight operations
+	 * @param flightService        the flight service to be used for flight
+	 *                             operations
+	 * @param bookingExportService the service used to stream passenger manifests
+	 * @param airportService       the service used to resolve airport codes and
+	 *                             cities in searches
 	 */
-	public FlightController(FlightService flightService) {
+	public FlightController(FlightService flightService, BookingExportService bookingExportService,
+			AirportService airportService) {
 		this.flightService = flightService;
+		this.bookingExportService = bookingExportService;
+		this.airportService = airportService;
 	}
 
 	/**
@@ -85,15 +117,88 @@ public ResponseEntity<List<FlightResponse>> getAllFlights() {
 
 	/**
 	 * Retrieves a specific flight by its ID. Accessible by both ADMIN and CUSTOMER
-	 * roles.
+	 * roles. The response carries an ETag that also covers seat availability;
+	 * clients must revalidate it on every use, and a matching If-None-Match is
+	 * answered with 304 Not Modified without reading the flight. Flights that
+	 * have departed or whose seat map is not cached carry no ETag and are always
+	 * loaded, so they get the same error as without the header.
 	 *
-	 * @param id the ID of the flight to retrieve
-	 * @return flight response DTO if found
+	 * @param id         the ID of the flight to retrieve
+	 * @param webRequest the current request, used for the ETag check
+	 * @return flight response DTO if found, or 304 Not Modified
 	 */
 	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
 	@GetMapping("/{id}")
-	public ResponseEntity<FlightResponse> getFlightById(@PathVariable Long id) {
-		return ResponseEntity.ok(flightService.getFlightById(id));
+	public ResponseEntity<FlightResponse> getFlightById(@PathVariable Long id, ServletWebRequest webRequest) {
+		CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+		String etag = flightService.getFlightETag(id);
+		if (etag != null && webRequest.checkNotModified(etag)) {
+			webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+			return null;
+		}
+		FlightResponse flight = flightService.getFlightById(id);
+		return etag == null ? ResponseEntity.ok(flight)
+				: ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(flight);
+	}
+
+	/**
+	 * Retrieves the seat map of a flight, listing every seat with its cabin class
+	 * and whether it is occupied. Accessible by both ADMIN and CUSTOMER roles.
+	 *
+	 * @param id the ID of the flight
+	 * @return seat map response DTO
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/{id}/seats")
+	public ResponseEntity<SeatMapResponse> getSeatMap(@PathVariable Long id) {
+		return ResponseEntity.ok(flightService.getSeatMap(id));
+	}
+
+	/**
+	 * Streams the passenger manifest of a flight as CSV or NDJSON, one passenger
+	 * per line with seat and booking customer. Also available for departed
+	 * flights. Accessible only by ADMIN role.
+	 *
+	 * @param id     the ID of the flight
+	 * @param format "csv" (default) or "ndjson"
+	 * @return the streamed manifest, 404 Not Found if the flight does not exist,
+	 *         or 400 Bad Request for an unknown format
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/{id}/manifest")
+	public ResponseEntity<StreamingResponseBody> getManifest(@PathVariable Long id,
+			@RequestParam(defaultValue = "csv") String format) {
+		MediaType mediaType;
+		if ("csv".equalsIgnoreCase(format)) {
+			mediaType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+		} else if ("ndjson".equalsIgnoreCase(format)) {
+			mediaType = MediaType.APPLICATION_NDJSON;
+		} else {
+			return ResponseEntity.badRequest().build();
+		}
+		if (!flightService.flightExists(id)) {
+			return ResponseEntity.notFound().build();
+		}
+
+		StreamingResponseBody body = out -> bookingExportService.exportManifest(id, format, out);
+		return ResponseEntity.ok().contentType(mediaType)
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"manifest-" + id + "." + format.toLowerCase() + "\"")
+				.body(body);
+	}
+
+	/**
+	 * Changes the ticket price of a flight. Accessible only by ADMIN role.
+	 *
+	 * @param id      the ID of the flight
+	 * @param request the new price
+	 * @return the repriced flight as a response DTO
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@PutMapping("/{id}/price")
+	public ResponseEntity<FlightResponse> updateFlightPrice(@PathVariable Long id,
+			@Valid @RequestBody FlightPriceRequest request) {
+		return ResponseEntity.ok(flightService.updateFlightPrice(id, request.getPrice()));
 	}
 
 	/**
@@ -116,25 +221,170 @@ public ResponseEntity<?> deleteFlight(@PathVariable Long id) {
 
 	/**
 	 * Searches for flights based on source, destination, and date. Accessible by
-	 * both ADMIN and CUSTOMER roles.
+	 * both ADMIN and CUSTOMER roles. Airports can be given by ID or by code or
+	 * city name, where a city stands for all of its airports. Searches for a
+	 * single route on a given day are answered from pre-encoded JSON,
+	 * gzip-compressed if the client accepts it.
 	 * 
-	 * @param sourceId      ID of the source airport (optional)
-	 * @param destinationId ID of the destination airport (optional)
-	 * @param date          date of the flight in ISO format (optional)
+	 * @param sourceId       ID of the source airport (optional)
+	 * @param destinationId  ID of the destination airport (optional)
+	 * @param source         code or city of the source airport (optional)
+	 * @param destination    code or city of the destination airport (optional)
+	 * @param date           date of the flight in ISO format (optional)
+	 * @param acceptEncoding the Accept-Encoding header of the request
 	 * @return list of flights matching the search criteria
-	 * @throws IllegalArgumentException if the given date is in the past
+	 * @throws IllegalArgumentException if the given date is in the past, or an
+	 *                                  airport code or city is unknown
 	 */
 	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
 	@GetMapping("/search")
-	public ResponseEntity<List<FlightResponse>> searchFlights(@RequestParam(required = false) Long sourceId,
-			@RequestParam(required = false) Long destinationId,
-			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+	public ResponseEntity<?> searchFlights(@RequestParam(required = false) Long sourceId,
+			@RequestParam(required = false) Long destinationId, @RequestParam(required = false) String source,
+			@RequestParam(required = false) String destination,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
 		if (date != null && date.isBefore(LocalDate.now())) {
 			throw new IllegalArgumentException("The flight date cannot be in the past.");
 		}
 
+		Set<Long> sourceIds = airportIds(sourceId, source, "source");
+		Set<Long> destinationIds = airportIds(destinationId, destination, "destination");
+
+		if (sourceIds != null && sourceIds.size() == 1 && destinationIds != null && destinationIds.size() == 1
+				&& date != null) {
+			FlightService.EncodedFlights encoded = flightService.searchFlightsEncoded(sourceIds.iterator().next(),
+					destinationIds.iterator().next(), date);
+			ResponseEntity.BodyBuilder response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+					.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+			if (acceptsGzip(acceptEncoding)) {
+				return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+			}
+			return response.body(encoded.json());
+		}
+
+		if (source != null || destination != null) {
+			return ResponseEntity.ok(flightService.searchFlightsBetween(sourceIds, destinationIds, date));
+		}
+
 		List<FlightResponse> flights = flightService.searchFlights(sourceId, destinationId, date);
 		return ResponseEntity.ok(flights);
 	}
+
+	/**
+	 * Searches for upcoming flights with server-side filtering, sorting and
+	 * pagination, so that clients only receive the page they show. Accessible
+	 * by both ADMIN and CUSTOMER roles.
+	 *
+	 * @param sourceId      ID of the source airport (optional)
+	 * @param destinationId ID of the destination airport (optional)
+	 * @param source        code or city of the source airport (optional)
+	 * @param destination   code or city of the destination airport (optional)
+	 * @param date          date of the flight in ISO format (optional)
+	 * @param airline       airlines to include, repeatable (optional)
+	 * @param maxPrice      highest price to include (optional)
+	 * @param departFrom    start of the departure time-of-day band, e.g. 06:00
+	 *                      (optional)
+	 * @param departTo      end of the departure time-of-day band, e.g. 12:00
+	 *                      (optional)
+	 * @param sort          "price", "departure" (default) or "duration"
+	 * @param direction     "asc" (default) or "desc"
+	 * @param page          the zero-based page number (default 0)
+	 * @param size          the page size (default 20, at most 100)
+	 * @return a page of flight response DTOs
+	 * @throws IllegalArgumentException if the given date is in the past, an
+	 *                                  airport code or city is unknown, or the
+	 *                                  sort key is unknown
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/search/page")
+	public ResponseEntity<PageResponse<FlightResponse>> searchFlightsPage(
+			@RequestParam(required = false) Long sourceId, @RequestParam(required = false) Long destinationId,
+			@RequestParam(required = false) String source, @RequestParam(required = false) String destination,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+			@RequestParam(required = false) Set<String> airline, @RequestParam(required = false) BigDecimal maxPrice,
+			@RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime departFrom,
+			@RequestParam(required = false) @DateTimeFormat(pattern = "HH:mm") LocalTime departTo,
+			@RequestParam(defaultValue = "departure") String sort, @RequestParam(defaultValue = "asc") String direction,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+
+		if (date != null && date.isBefore(LocalDate.now())) {
+			throw new IllegalArgumentException("The flight date cannot be in the past.");
+		}
+
+		return ResponseEntity.ok(flightService.searchFlightsPage(airportIds(sourceId, source, "source"),
+				airportIds(destinationId, destination, "destination"), date, airline, maxPrice, departFrom, departTo,
+				sort, "desc".equalsIgnoreCase(direction), page, size));
+	}
+
+	/**
+	 * Retrieves the lowest fare per day on a route, for days that have upcoming
+	 * flights. Accessible by both ADMIN and CUSTOMER roles.
+	 *
+	 * @param sourceId      ID of the source airport
+	 * @param destinationId ID of the destination airport
+	 * @param from          first day in ISO format (optional, defaults to today)
+	 * @param days          number of days, 1 to 366 (defaults to 60)
+	 * @return the fare calendar response DTO
+	 * @throws IllegalArgumentException if the number of days is out of range
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/fare-calendar")
+	public ResponseEntity<FareCalendarResponse> getFareCalendar(@RequestParam Long sourceId,
+			@RequestParam Long destinationId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(defaultValue = "60") int days) {
+		if (days < 1 || days > MAX_CALENDAR_DAYS) {
+			throw new IllegalArgumentException("The number of days must be between 1 and " + MAX_CALENDAR_DAYS + ".");
+		}
+		return ResponseEntity.ok(flightService.getFareCalendar(sourceId, destinationId, from, days));
+	}
+
+	/**
+	 * Resolves the airports of one end of a search, given either by ID or by code
+	 * or city name.
+	 *
+	 * @return the airport IDs, or null if neither is given
+	 * @throws IllegalArgumentException if both are given or nothing matches the
+	 *                                  code or city
+	 */
+	private Set<Long> airportIds(Long id, String codeOrCity, String parameter) {
+		if (codeOrCity == null) {
+			return id == null ? null : Set.of(id);
+		}
+		if (id != null) {
+			throw new IllegalArgumentException("Use either " + parameter + "Id or " + parameter + ", not both.");
+		}
+		Set<Long> ids = airportService.resolveAirportIds(codeOrCity);
+		if (ids.isEmpty()) {
+			throw new IllegalArgumentException("Unknown airport code or city: " + codeOrCity);
+		}
+		return ids;
+	}
+
+	/**
+	 * Checks whether an Accept-Encoding header allows gzip, i.e. lists gzip or *
+	 * without q=0.
+	 */
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.split(";");
+			String name = parts[0].trim();
+			if (!name.equalsIgnoreCase("gzip") && !name.equals("*")) {
+				continue;
+			}
+			boolean refused = false;
+			for (int i = 1; i < parts.length; i++) {
+				String param = parts[i].trim();
+				if (param.startsWith("q=") && param.substring(2).matches("0(\\.0{0,3})?")) {
+					refused = true;
+				}
+			}
+			return !refused;
+		}
+		return false;
+	}
 }
@@ -26,10 +26,15 @@
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.version1.frs.dto.AirlineRatingResponse;
+import com.version1.frs.dto.FlightRatingResponse;
+import com.version1.frs.dto.PageResponse;
 import com.version1.frs.dto.ReviewRequest;
 import com.version1.frs.dto.ReviewResponse;
+import com.version1.frs.dto.ReviewSearchResponse;
 import com.version1.frs.security.UserDetailsImpl;
 import com.version1.frs.service.ReviewService;
 
@@ -86,6 +91,68 @@ public List<ReviewResponse> getReviewsByFlightId(@PathVariable Long flightId) {
 		return reviewService.getReviewsByFlightId(flightId);
 	}
 
+	/**
+	 * Retrieves a page of a flight's reviews, most recent first. Accessible by
+	 * both ADMIN and CUSTOMER roles.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param page     the zero-based page number (default 0)
+	 * @param size     the page size (default 20, at most 100)
+	 * @return a page of review response DTOs
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/flight/{flightId}/recent")
+	public ResponseEntity<PageResponse<ReviewResponse>> getRecentReviewsByFlightId(@PathVariable Long flightId,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+		return ResponseEntity.ok(reviewService.getRecentReviewsByFlightId(flightId, page, size));
+	}
+
+	/**
+	 * Searches review text for the given words, e.g. "delay" or "legroom", most
+	 * relevant first. Words are matched by stem, so "delayed" also finds
+	 * "delays". Accessible by both ADMIN and CUSTOMER roles.
+	 *
+	 * @param q        the search words
+	 * @param flightId restricts results to one flight (optional)
+	 * @param airline  restricts results to one airline (optional)
+	 * @param page     the zero-based page number (default 0)
+	 * @param size     the page size (default 20, at most 100)
+	 * @return a page of matching reviews with their relevance scores
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/search")
+	public ResponseEntity<PageResponse<ReviewSearchResponse>> searchReviews(@RequestParam String q,
+			@RequestParam(required = false) Long flightId, @RequestParam(required = false) String airline,
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size) {
+		return ResponseEntity.ok(reviewService.searchReviews(q, flightId, airline, page, size));
+	}
+
+	/**
+	 * Retrieves the review count, average rating and star histogram of a flight.
+	 * Served from the flight's rating rollup with a single lookup. Accessible by
+	 * both ADMIN and CUSTOMER roles.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the rating totals of the flight
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/flight/{flightId}/rating")
+	public ResponseEntity<FlightRatingResponse> getFlightRating(@PathVariable Long flightId) {
+		return ResponseEntity.ok(reviewService.getFlightRating(flightId));
+	}
+
+	/**
+	 * Retrieves rating totals per airline, derived from the flight rollups.
+	 * Accessible by both ADMIN and CUSTOMER roles.
+	 *
+	 * @return list of per-airline rating totals, best average first
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/airlines")
+	public ResponseEntity<List<AirlineRatingResponse>> getAirlineRatings() {
+		return ResponseEntity.ok(reviewService.getAirlineRatings());
+	}
+
 	/**
 	 * Retrieves all reviews posted by the current authenticated customer.
 	 * Accessible only by customers (ROLE_CUSTOMER).
@@ -102,11 +169,46 @@ public List<ReviewResponse> getReviewsByCurrentCustomer(@AuthenticationPrincipal
 	}
 
 	/**
-	 * Retrieves all reviews in the system, intended for public viewing. Accessible
-	 * to all (public endpoint).
+	 * Retrieves a page of the current authenticated customer's reviews, most
+	 * recent first. Accessible only by customers (ROLE_CUSTOMER).
+	 *
+	 * @param page        the zero-based page number (default 0)
+	 * @param size        the page size (default 20, at most 100)
+	 * @param userDetails the authenticated user details to get the customer ID
+	 * @return a page of review response DTOs
+	 */
+	@PreAuthorize("hasRole('CUSTOMER')")
+	@GetMapping("/my/recent")
+	public ResponseEntity<PageResponse<ReviewResponse>> getRecentReviewsByCurrentCustomer(
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "20") int size,
+			@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		return ResponseEntity.ok(reviewService.getRecentReviewsByUserId(userDetails.getId(), page, size));
+	}
+
+	/**
+	 * Retrieves a page of all reviews, most recent first. Prefer this over the
+	 * unpaginated list for the homepage. Accessible by both ADMIN and CUSTOMER
+	 * roles.
+	 *
+	 * @param page the zero-based page number (default 0)
+	 * @param size the page size (default 20, at most 100)
+	 * @return a page of review response DTOs
+	 */
+	@PreAuthorize("hasAnyRole('ADMIN', 'CUSTOMER')")
+	@GetMapping("/recent")
+	public ResponseEntity<PageResponse<ReviewResponse>> getRecentReviews(@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		return ResponseEntity.ok(reviewService.getRecentReviews(page, size));
+	}
+
+	/**
+	 * Retrieves the latest reviews, intended for public viewing. Accessible to
+	 * all (public endpoint). Returns at most one page of 100 reviews.
 	 * 
-	 * @return list of all review response DTOs
+	 * @return list of the latest review response DTOs
+	 * @deprecated use {@code GET /api/reviews/recent}, which is paginated
 	 */
+	@Deprecated
 	@GetMapping
 	public List<ReviewResponse> getAllReviews() {
 		return reviewService.getAllReviews();
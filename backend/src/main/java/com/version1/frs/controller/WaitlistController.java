@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Version 1
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.version1.frs.dto.ApiResponse;
+import com.version1.frs.dto.BookingRequest;
+import com.version1.frs.dto.WaitlistResponse;
+import com.version1.frs.security.UserDetailsImpl;
+import com.version1.frs.service.WaitlistService;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller for flight waitlists. Customers can join the waitlist of a
+ * sold-out flight and are booked automatically, in order, when seats are
+ * released. Admins can inspect the queue of any flight.
+ *
+ * Base URL: /api/waitlist
+ */
+@RestController
+@RequestMapping("/api/waitlist")
+public class WaitlistController {
+
+	private final WaitlistService waitlistService;
+
+	/**
+	 * Constructor for injecting the required {@link WaitlistService}.
+	 *
+	 * @param waitlistService the waitlist service
+	 */
+	public WaitlistController(WaitlistService waitlistService) {
+		this.waitlistService = waitlistService;
+	}
+
+	/**
+	 * Adds the authenticated customer to the waitlist of a sold-out flight. The
+	 * booking is made, and the wallet debited, when the customer reaches the head
+	 * of the queue and enough seats are free.
+	 *
+	 * @param request     the booking to make once seats are free
+	 * @param userDetails the authenticated user's details
+	 * @return the created waitlist entry with its queue position
+	 */
+	@PreAuthorize("hasRole('CUSTOMER')")
+	@PostMapping
+	public ResponseEntity<WaitlistResponse> joinWaitlist(@Valid @RequestBody BookingRequest request,
+			@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		return ResponseEntity.status(HttpStatus.CREATED).body(waitlistService.joinWaitlist(request, userDetails.getId()));
+	}
+
+	/**
+	 * Retrieves the waitlist entries of the authenticated customer.
+	 *
+	 * @param userDetails the authenticated user's details
+	 * @return a list of waitlist entries, most recent first
+	 */
+	@PreAuthorize("hasRole('CUSTOMER')")
+	@GetMapping("/user")
+	public ResponseEntity<List<WaitlistResponse>> getUserWaitlist(
+			@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		return ResponseEntity.ok(waitlistService.getWaitlistByUser(userDetails.getId()));
+	}
+
+	/**
+	 * Withdraws one of the authenticated customer's waiting entries.
+	 *
+	 * @param id          the ID of the waitlist entry
+	 * @param userDetails the authenticated user's details
+	 * @return a confirmation message
+	 */
+	@PreAuthorize("hasRole('CUSTOMER')")
+	@DeleteMapping("/{id}")
+	public ResponseEntity<ApiResponse> cancelEntry(@PathVariable Long id,
+			@AuthenticationPrincipal UserDetailsImpl userDetails) {
+		waitlistService.cancelEntry(id, userDetails.getId());
+		return ResponseEntity.ok(new ApiResponse("You have left the waitlist."));
+	}
+
+	/**
+	 * Retrieves the waitlist of a flight in queue order. Accessible only by users
+	 * with the ADMIN role.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return a list of waitlist entries
+	 */
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/flight/{flightId}")
+	public ResponseEntity<List<WaitlistResponse>> getFlightWaitlist(@PathVariable Long flightId) {
+		return ResponseEntity.ok(waitlistService.getWaitlistByFlight(flightId));
+	}
+}
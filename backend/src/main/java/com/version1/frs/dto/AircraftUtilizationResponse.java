@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.time.LocalDate;
+
+/**
+ * DTO describing how many scheduled block hours an airplane flies on a given
+ * day. Built directly by a JPQL constructor expression over the flight
+ * rollups.
+ */
+public class AircraftUtilizationResponse {
+
+	private Long airplaneId;
+	private LocalDate date;
+	private long flights;
+	private double blockHours;
+
+	/**
+	 * Parameterized constructor used by the rollup query.
+	 *
+	 * @param airplaneId   the airplane ID
+	 * @param date         the departure day
+	 * @param flights      the number of flights departing that day
+	 * @param blockMinutes the total scheduled block time in minutes
+	 */
+	public AircraftUtilizationResponse(Long airplaneId, LocalDate date, Long flights, Long blockMinutes) {
+		this.airplaneId = airplaneId;
+		this.date = date;
+		this.flights = flights;
+		this.blockHours = blockMinutes / 60.0;
+	}
+
+	public Long getAirplaneId() {
+		return airplaneId;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public long getFlights() {
+		return flights;
+	}
+
+	public double getBlockHours() {
+		return blockHours;
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DTO describing the review totals of an airline, aggregated over the rating
+ * rollups of its flights.
+ */
+public class AirlineRatingResponse {
+
+	private String airline;
+	private long flights;
+	private long reviewCount;
+	private double averageRating;
+	private Map<Integer, Long> histogram;
+
+	/**
+	 * Parameterized constructor used by the rollup query.
+	 *
+	 * @param airline     the airline name
+	 * @param flights     the number of reviewed flights
+	 * @param reviewCount the total number of reviews
+	 * @param ratingSum   the sum of all ratings
+	 * @param oneStar     the number of one-star reviews
+	 * @param twoStars    the number of two-star reviews
+	 * @param threeStars  the number of three-star reviews
+	 * @param fourStars   the number of four-star reviews
+	 * @param fiveStars   the number of five-star reviews
+	 */
+	public AirlineRatingResponse(String airline, Long flights, Long reviewCount, Double ratingSum, Long oneStar,
+			Long twoStars, Long threeStars, Long fourStars, Long fiveStars) {
+		this.airline = airline;
+		this.flights = flights;
+		this.reviewCount = reviewCount;
+		this.averageRating = reviewCount == 0 ? 0 : ratingSum / reviewCount;
+		this.histogram = new LinkedHashMap<>();
+		histogram.put(1, oneStar);
+		histogram.put(2, twoStars);
+		histogram.put(3, threeStars);
+		histogram.put(4, fourStars);
+		histogram.put(5, fiveStars);
+	}
+
+	public String getAirline() {
+		return airline;
+	}
+
+	public long getFlights() {
+		return flights;
+	}
+
+	public long getReviewCount() {
+		return reviewCount;
+	}
+
+	public double getAverageRating() {
+		return averageRating;
+	}
+
+	public Map<Integer, Long> getHistogram() {
+		return histogram;
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for an entry in a customer's booking history. In
+ * addition to the booking itself it carries the flight schedule, route and
+ * passengers, so the history can be rendered without further requests.
+ */
+public class BookingSummaryResponse {
+
+	private Long bookingId;
+	private LocalDateTime bookingTime;
+	private BigDecimal totalAmount;
+	private Long flightId;
+	private String airline;
+	private LocalDateTime departureTime;
+	private LocalDateTime arrivalTime;
+	private Long fromAirportId;
+	private String fromAirportCode;
+	private String fromAirportName;
+	private Long toAirportId;
+	private String toAirportCode;
+	private String toAirportName;
+	private List<PassengerResponse> passengers;
+
+	public BookingSummaryResponse() {
+	}
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public LocalDateTime getBookingTime() {
+		return bookingTime;
+	}
+
+	public void setBookingTime(LocalDateTime bookingTime) {
+		this.bookingTime = bookingTime;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+
+	public void setTotalAmount(BigDecimal totalAmount) {
+		this.totalAmount = totalAmount;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public void setFlightId(Long flightId) {
+		this.flightId = flightId;
+	}
+
+	public String getAirline() {
+		return airline;
+	}
+
+	public void setAirline(String airline) {
+		this.airline = airline;
+	}
+
+	public LocalDateTime getDepartureTime() {
+		return departureTime;
+	}
+
+	public void setDepartureTime(LocalDateTime departureTime) {
+		this.departureTime = departureTime;
+	}
+
+	public LocalDateTime getArrivalTime() {
+		return arrivalTime;
+	}
+
+	public void setArrivalTime(LocalDateTime arrivalTime) {
+		this.arrivalTime = arrivalTime;
+	}
+
+	public Long getFromAirportId() {
+		return fromAirportId;
+	}
+
+	public void setFromAirportId(Long fromAirportId) {
+		this.fromAirportId = fromAirportId;
+	}
+
+	public String getFromAirportCode() {
+		return fromAirportCode;
+	}
+
+	public void setFromAirportCode(String fromAirportCode) {
+		this.fromAirportCode = fromAirportCode;
+	}
+
+	public String getFromAirportName() {
+		return fromAirportName;
+	}
+
+	public void setFromAirportName(String fromAirportName) {
+		this.fromAirportName = fromAirportName;
+	}
+
+	public Long getToAirportId() {
+		return toAirportId;
+	}
+
+	public void setToAirportId(Long toAirportId) {
+		this.toAirportId = toAirportId;
+	}
+
+	public String getToAirportCode() {
+		return toAirportCode;
+	}
+
+	public void setToAirportCode(String toAirportCode) {
+		this.toAirportCode = toAirportCode;
+	}
+
+	public String getToAirportName() {
+		return toAirportName;
+	}
+
+	public void setToAirportName(String toAirportName) {
+		this.toAirportName = toAirportName;
+	}
+
+	public List<PassengerResponse> getPassengers() {
+		return passengers;
+	}
+
+	public void setPassengers(List<PassengerResponse> passengers) {
+		this.passengers = passengers;
+	}
+}
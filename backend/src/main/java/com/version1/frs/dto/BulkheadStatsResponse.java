@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+/**
+ * Data Transfer Object (DTO) with the admission counters of one endpoint class
+ * (booking, wallet or search). {@code admitted}, {@code rejected} and
+ * {@code timedOut} are totals since startup; {@code rejected} includes
+ * requests that timed out while queued.
+ */
+public class BulkheadStatsResponse {
+
+	private String name;
+	private int maxConcurrent;
+	private int maxQueued;
+	private int active;
+	private int queued;
+	private int peakQueued;
+	private long admitted;
+	private long rejected;
+	private long timedOut;
+
+	public BulkheadStatsResponse(String name, int maxConcurrent, int maxQueued, int active, int queued,
+			int peakQueued, long admitted, long rejected, long timedOut) {
+		this.name = name;
+		this.maxConcurrent = maxConcurrent;
+		this.maxQueued = maxQueued;
+		this.active = active;
+		this.queued = queued;
+		this.peakQueued = peakQueued;
+		this.admitted = admitted;
+		this.rejected = rejected;
+		this.timedOut = timedOut;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	public int getMaxQueued() {
+		return maxQueued;
+	}
+
+	public int getActive() {
+		return active;
+	}
+
+	public int getQueued() {
+		return queued;
+	}
+
+	public int getPeakQueued() {
+		return peakQueued;
+	}
+
+	public long getAdmitted() {
+		return admitted;
+	}
+
+	public long getRejected() {
+		return rejected;
+	}
+
+	public long getTimedOut() {
+		return timedOut;
+	}
+}
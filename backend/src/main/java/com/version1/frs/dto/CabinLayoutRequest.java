@@ -0,0 +1,74 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
+
+/**
+ * DTO for defining one cabin of an airplane's seat layout. A cabin covers the
+ * rows from {@code firstRow} to {@code lastRow}, each with the given seat
+ * letters; a space in the letters marks an aisle (e.g. "ABC DEF").
+ */
+public class CabinLayoutRequest {
+
+	@NotBlank(message = "Cabin class is required")
+	private String cabinClass;
+
+	@Min(value = 1, message = "First row must be at least 1")
+	private int firstRow;
+
+	@Min(value = 1, message = "Last row must be at least 1")
+	private int lastRow;
+
+	@NotBlank(message = "Seat letters are required")
+	@Pattern(regexp = "[A-Za-z ]{1,20}", message = "Seat letters may only contain letters and spaces")
+	private String seatLetters;
+
+	public String getCabinClass() {
+		return cabinClass;
+	}
+
+	public void setCabinClass(String cabinClass) {
+		this.cabinClass = cabinClass;
+	}
+
+	public int getFirstRow() {
+		return firstRow;
+	}
+
+	public void setFirstRow(int firstRow) {
+		this.firstRow = firstRow;
+	}
+
+	public int getLastRow() {
+		return lastRow;
+	}
+
+	public void setLastRow(int lastRow) {
+		this.lastRow = lastRow;
+	}
+
+	public String getSeatLetters() {
+		return seatLetters;
+	}
+
+	public void setSeatLetters(String seatLetters) {
+		this.seatLetters = seatLetters;
+	}
+}
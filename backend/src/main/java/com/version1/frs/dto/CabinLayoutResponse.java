@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+/**
+ * DTO describing one cabin of an airplane's seat layout.
+ */
+public class CabinLayoutResponse {
+
+	private String cabinClass;
+	private int firstRow;
+	private int lastRow;
+	private String seatLetters;
+
+	/**
+	 * Parameterized constructor to initialize all fields.
+	 *
+	 * @param cabinClass  the cabin class
+	 * @param firstRow    the first row of the cabin
+	 * @param lastRow     the last row of the cabin
+	 * @param seatLetters the seat letters of each row, spaces marking aisles
+	 */
+	public CabinLayoutResponse(String cabinClass, int firstRow, int lastRow, String seatLetters) {
+		this.cabinClass = cabinClass;
+		this.firstRow = firstRow;
+		this.lastRow = lastRow;
+		this.seatLetters = seatLetters;
+	}
+
+	public String getCabinClass() {
+		return cabinClass;
+	}
+
+	public int getFirstRow() {
+		return firstRow;
+	}
+
+	public int getLastRow() {
+		return lastRow;
+	}
+
+	public String getSeatLetters() {
+		return seatLetters;
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO describing the fare calendar of a route: the lowest price per day over
+ * a date range. Days without flights are left out.
+ */
+public class FareCalendarResponse {
+
+	private Long sourceId;
+	private Long destinationId;
+	private LocalDate from;
+	private LocalDate to;
+	private List<FareDayResponse> days;
+
+	/**
+	 * Parameterized constructor.
+	 *
+	 * @param sourceId      the ID of the departure airport
+	 * @param destinationId the ID of the arrival airport
+	 * @param from          the first day of the range
+	 * @param to            the last day of the range
+	 * @param days          the days with flights, in date order
+	 */
+	public FareCalendarResponse(Long sourceId, Long destinationId, LocalDate from, LocalDate to,
+			List<FareDayResponse> days) {
+		this.sourceId = sourceId;
+		this.destinationId = destinationId;
+		this.from = from;
+		this.to = to;
+		this.days = days;
+	}
+
+	public Long getSourceId() {
+		return sourceId;
+	}
+
+	public Long getDestinationId() {
+		return destinationId;
+	}
+
+	public LocalDate getFrom() {
+		return from;
+	}
+
+	public LocalDate getTo() {
+		return to;
+	}
+
+	public List<FareDayResponse> getDays() {
+		return days;
+	}
+}
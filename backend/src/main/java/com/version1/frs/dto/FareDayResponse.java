@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO describing one day of a fare calendar: the lowest price of the flights
+ * on the route that day, the flight offering it and the number of flights.
+ */
+public class FareDayResponse {
+
+	private LocalDate date;
+	private BigDecimal lowestPrice;
+	private Long flightId;
+	private int flightCount;
+
+	/**
+	 * Parameterized constructor.
+	 *
+	 * @param date        the departure date
+	 * @param lowestPrice the lowest price on that day
+	 * @param flightId    the ID of the flight with the lowest price
+	 * @param flightCount the number of flights on that day
+	 */
+	public FareDayResponse(LocalDate date, BigDecimal lowestPrice, Long flightId, int flightCount) {
+		this.date = date;
+		this.lowestPrice = lowestPrice;
+		this.flightId = flightId;
+		this.flightCount = flightCount;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public BigDecimal getLowestPrice() {
+		return lowestPrice;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public int getFlightCount() {
+		return flightCount;
+	}
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * DTO describing the load factor and revenue of a single flight, as served by
+ * the admin analytics endpoints.
+ */
+public class FlightLoadResponse {
+
+	private Long flightId;
+	private String airline;
+	private Long fromAirportId;
+	private Long toAirportId;
+	private LocalDate departureDate;
+	private int capacity;
+	private int ticketsSold;
+	private double loadFactor;
+	private BigDecimal revenue;
+
+	/**
+	 * Parameterized constructor. The load factor is derived from the ticket count
+	 * and capacity.
+	 *
+	 * @param flightId      the flight ID
+	 * @param airline       the operating airline
+	 * @param fromAirportId the departure airport ID
+	 * @param toAirportId   the arrival airport ID
+	 * @param departureDate the departure day
+	 * @param capacity      the seat capacity of the flight
+	 * @param ticketsSold   the number of tickets sold
+	 * @param revenue       the booked revenue
+	 */
+	public FlightLoadResponse(Long flightId, String airline, Long fromAirportId, Long toAirportId,
+			LocalDate departureDate, int capacity, int ticketsSold, BigDecimal revenue) {
+		this.flightId = flightId;
+		this.airline = airline;
+		this.fromAirportId = fromAirportId;
+		this.toAirportId = toAirportId;
+		this.departureDate = departureDate;
+		this.capacity = capacity;
+		this.ticketsSold = ticketsSold;
+		this.loadFactor = capacity == 0 ? 0 : (double) ticketsSold / capacity;
+		this.revenue = revenue;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public String getAirline() {
+		return airline;
+	}
+
+	public Long getFromAirportId() {
+		return fromAirportId;
+	}
+
+	public Long getToAirportId() {
+		return toAirportId;
+	}
+
+	public LocalDate getDepartureDate() {
+		return departureDate;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public int getTicketsSold() {
+		return ticketsSold;
+	}
+
+	public double getLoadFactor() {
+		return loadFactor;
+	}
+
+	public BigDecimal getRevenue() {
+		return revenue;
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.util.Map;
+
+/**
+ * DTO describing the review totals of a single flight: number of reviews,
+ * average rating and the number of reviews per star.
+ */
+public class FlightRatingResponse {
+
+	private Long flightId;
+	private long reviewCount;
+	private double averageRating;
+	private Map<Integer, Long> histogram;
+
+	/**
+	 * Parameterized constructor.
+	 *
+	 * @param flightId      the ID of the flight
+	 * @param reviewCount   the number of reviews
+	 * @param averageRating the average rating, 0 if there are no reviews
+	 * @param histogram     the number of reviews per star, keyed 1 to 5
+	 */
+	public FlightRatingResponse(Long flightId, long reviewCount, double averageRating,
+			Map<Integer, Long> histogram) {
+		this.flightId = flightId;
+		this.reviewCount = reviewCount;
+		this.averageRating = averageRating;
+		this.histogram = histogram;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public long getReviewCount() {
+		return reviewCount;
+	}
+
+	public double getAverageRating() {
+		return averageRating;
+	}
+
+	public Map<Integer, Long> getHistogram() {
+		return histogram;
+	}
+}
@@ -37,6 +37,7 @@ public class FlightResponse {
 	private Long toAirportId;
 	private String toAirportName;
 	private BigDecimal price;
+	private Integer availableSeats;
 
 	// Getters and Setters
 
@@ -201,4 +202,22 @@ public BigDecimal getPrice() {
 	public void setPrice(BigDecimal price) {
 		this.price = price;
 	}
+
+	/**
+	 * Gets the number of seats still available on the flight.
+	 * 
+	 * @return available seats
+	 */
+	public Integer getAvailableSeats() {
+		return availableSeats;
+	}
+
+	/**
+	 * Sets the number of seats still available on the flight.
+	 * 
+	 * @param availableSeats the available seats to set
+	 */
+	public void setAvailableSeats(Integer availableSeats) {
+		this.availableSeats = availableSeats;
+	}
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) for one page of a paginated result. No total count
+ * is included; clients keep requesting the next page while {@code hasNext} is
+ * true.
+ *
+ * @param <T> the type of the page items
+ */
+public class PageResponse<T> {
+
+	private List<T> content;
+	private int page;
+	private int size;
+	private boolean hasNext;
+
+	public PageResponse(List<T> content, int page, int size, boolean hasNext) {
+		this.content = content;
+		this.page = page;
+		this.size = size;
+		this.hasNext = hasNext;
+	}
+
+	public List<T> getContent() {
+		return content;
+	}
+
+	public int getPage() {
+		return page;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public boolean isHasNext() {
+		return hasNext;
+	}
+}
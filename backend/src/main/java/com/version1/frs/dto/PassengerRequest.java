@@ -15,6 +15,9 @@ public class PassengerRequest {
     @NotBlank(message = "Passenger gender is required")
     private String passengerGender;
 
+    // Optional; a seat is auto-assigned when left empty
+    private String seatNumber;
+
     // Getters and Setters
     public String getPassengerName() {
         return passengerName;
@@ -39,4 +42,12 @@ public String getPassengerGender() {
     public void setPassengerGender(String passengerGender) {
         this.passengerGender = passengerGender;
     }
+
+    public String getSeatNumber() {
+        return seatNumber;
+    }
+
+    public void setSeatNumber(String seatNumber) {
+        this.seatNumber = seatNumber;
+    }
 }
@@ -5,12 +5,18 @@ public class PassengerResponse {
     private String passengerName;
     private int passengerAge;
     private String passengerGender;
+    private String seatNumber;
 
     // Constructor
     public PassengerResponse(String name, int age, String gender) {
+        this(name, age, gender, null);
+    }
+
+    public PassengerResponse(String name, int age, String gender, String seatNumber) {
         this.passengerName = name;
         this.passengerAge = age;
         this.passengerGender = gender;
+        this.seatNumber = seatNumber;
     }
 
     // Getters
@@ -25,4 +31,8 @@ public int getPassengerAge() {
     public String getPassengerGender() {
         return passengerGender;
     }
+
+    public String getSeatNumber() {
+        return seatNumber;
+    }
 }
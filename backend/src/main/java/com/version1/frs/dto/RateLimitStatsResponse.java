@@ -0,0 +1,46 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+/**
+ * Data Transfer Object (DTO) with the per-user rate limiter counters. Totals
+ * are counted since startup.
+ */
+public class RateLimitStatsResponse {
+
+	private int trackedKeys;
+	private long rejected;
+	private long overflowed;
+
+	public RateLimitStatsResponse(int trackedKeys, long rejected, long overflowed) {
+		this.trackedKeys = trackedKeys;
+		this.rejected = rejected;
+		this.overflowed = overflowed;
+	}
+
+	public int getTrackedKeys() {
+		return trackedKeys;
+	}
+
+	public long getRejected() {
+		return rejected;
+	}
+
+	public long getOverflowed() {
+		return overflowed;
+	}
+}
@@ -31,6 +31,29 @@ public class ReviewResponse {
 	private Float rating;
 	private String reviewText;
 
+	/**
+	 * Default constructor.
+	 */
+	public ReviewResponse() {
+	}
+
+	/**
+	 * Parameterized constructor used by the review projection queries.
+	 *
+	 * @param reviewId   the review ID
+	 * @param userId     the ID of the reviewing user
+	 * @param flightId   the ID of the reviewed flight
+	 * @param rating     the rating
+	 * @param reviewText the review text
+	 */
+	public ReviewResponse(Long reviewId, Long userId, Long flightId, Float rating, String reviewText) {
+		this.reviewId = reviewId;
+		this.userId = userId;
+		this.flightId = flightId;
+		this.rating = rating;
+		this.reviewText = reviewText;
+	}
+
 	/**
 	 * Gets the review ID.
 	 * 
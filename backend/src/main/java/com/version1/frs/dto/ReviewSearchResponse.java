@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+/**
+ * DTO for a review matching a full-text search, with its relevance score.
+ */
+public class ReviewSearchResponse {
+
+	private Long reviewId;
+	private Long userId;
+	private Long flightId;
+	private Float rating;
+	private String reviewText;
+	private double score;
+
+	/**
+	 * Parameterized constructor.
+	 *
+	 * @param review the matching review
+	 * @param score  the BM25 relevance score, higher is better
+	 */
+	public ReviewSearchResponse(ReviewResponse review, double score) {
+		this.reviewId = review.getReviewId();
+		this.userId = review.getUserId();
+		this.flightId = review.getFlightId();
+		this.rating = review.getRating();
+		this.reviewText = review.getReviewText();
+		this.score = score;
+	}
+
+	public Long getReviewId() {
+		return reviewId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public Float getRating() {
+		return rating;
+	}
+
+	public String getReviewText() {
+		return reviewText;
+	}
+
+	public double getScore() {
+		return score;
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO summarizing load factor and revenue across all flights of one route.
+ * Built directly by a JPQL constructor expression over the flight rollups.
+ */
+public class RouteStatsResponse {
+
+	private Long fromAirportId;
+	private Long toAirportId;
+	private long flights;
+	private long ticketsSold;
+	private long capacity;
+	private double loadFactor;
+	private BigDecimal revenue;
+
+	/**
+	 * Parameterized constructor used by the rollup query.
+	 *
+	 * @param fromAirportId the departure airport ID
+	 * @param toAirportId   the arrival airport ID
+	 * @param flights       the number of flights on the route
+	 * @param ticketsSold   the total tickets sold on the route
+	 * @param capacity      the total seats offered on the route
+	 * @param revenue       the total revenue of the route
+	 */
+	public RouteStatsResponse(Long fromAirportId, Long toAirportId, Long flights, Long ticketsSold, Long capacity,
+			BigDecimal revenue) {
+		this.fromAirportId = fromAirportId;
+		this.toAirportId = toAirportId;
+		this.flights = flights;
+		this.ticketsSold = ticketsSold;
+		this.capacity = capacity;
+		this.loadFactor = capacity == 0 ? 0 : (double) ticketsSold / capacity;
+		this.revenue = revenue;
+	}
+
+	public Long getFromAirportId() {
+		return fromAirportId;
+	}
+
+	public Long getToAirportId() {
+		return toAirportId;
+	}
+
+	public long getFlights() {
+		return flights;
+	}
+
+	public long getTicketsSold() {
+		return ticketsSold;
+	}
+
+	public long getCapacity() {
+		return capacity;
+	}
+
+	public double getLoadFactor() {
+		return loadFactor;
+	}
+
+	public BigDecimal getRevenue() {
+		return revenue;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.util.List;
+
+/**
+ * DTO describing the seat map of a flight: every seat of the airplane's layout
+ * together with its occupancy.
+ */
+public class SeatMapResponse {
+
+	private Long flightId;
+	private int totalSeats;
+	private int availableSeats;
+	private List<SeatResponse> seats;
+
+	/**
+	 * Parameterized constructor to initialize all fields.
+	 *
+	 * @param flightId       the flight ID
+	 * @param totalSeats     the number of seats in the layout
+	 * @param availableSeats the number of free seats
+	 * @param seats          the seats in layout order
+	 */
+	public SeatMapResponse(Long flightId, int totalSeats, int availableSeats, List<SeatResponse> seats) {
+		this.flightId = flightId;
+		this.totalSeats = totalSeats;
+		this.availableSeats = availableSeats;
+		this.seats = seats;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public int getTotalSeats() {
+		return totalSeats;
+	}
+
+	public int getAvailableSeats() {
+		return availableSeats;
+	}
+
+	public List<SeatResponse> getSeats() {
+		return seats;
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+/**
+ * DTO describing a single seat of a flight's seat map.
+ */
+public class SeatResponse {
+
+	private String seatNumber;
+	private String cabinClass;
+	private int row;
+	private boolean occupied;
+
+	/**
+	 * Parameterized constructor to initialize all fields.
+	 *
+	 * @param seatNumber the seat number, e.g. "12C"
+	 * @param cabinClass the cabin class of the seat
+	 * @param row        the row number
+	 * @param occupied   whether the seat is already taken
+	 */
+	public SeatResponse(String seatNumber, String cabinClass, int row, boolean occupied) {
+		this.seatNumber = seatNumber;
+		this.cabinClass = cabinClass;
+		this.row = row;
+		this.occupied = occupied;
+	}
+
+	public String getSeatNumber() {
+		return seatNumber;
+	}
+
+	public String getCabinClass() {
+		return cabinClass;
+	}
+
+	public int getRow() {
+		return row;
+	}
+
+	public boolean isOccupied() {
+		return occupied;
+	}
+}
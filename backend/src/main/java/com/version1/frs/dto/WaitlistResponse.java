@@ -0,0 +1,92 @@
+/*
+ * Copyright 2022-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.version1.frs.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object (DTO) representing a customer's entry in the waitlist of
+ * a sold-out flight.
+ *
+ * <p>
+ * While the entry is waiting, {@code position} is its 1-based place in the
+ * queue. Once promoted, {@code bookingId} refers to the booking that was
+ * created; if the promotion failed, {@code failureReason} explains why.
+ * </p>
+ */
+public class WaitlistResponse {
+
+	private Long waitlistId;
+	private Long customerId;
+	private Long flightId;
+	private LocalDateTime requestedAt;
+	private String status;
+	private Long position;
+	private Long bookingId;
+	private String failureReason;
+	private List<PassengerResponse> passengers;
+
+	public WaitlistResponse(Long waitlistId, Long customerId, Long flightId, LocalDateTime requestedAt, String status,
+			Long position, Long bookingId, String failureReason, List<PassengerResponse> passengers) {
+		this.waitlistId = waitlistId;
+		this.customerId = customerId;
+		this.flightId = flightId;
+		this.requestedAt = requestedAt;
+		this.status = status;
+		this.position = position;
+		this.bookingId = bookingId;
+		this.failureReason = failureReason;
+		this.passengers = passengers;
+	}
+
+	public Long getWaitlistId() {
+		return waitlistId;
+	}
+
+	public Long getCustomerId() {
+		return customerId;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public LocalDateTime getRequestedAt() {
+		return requestedAt;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public Long getPosition() {
+		return position;
+	}
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public String getFailureReason() {
+		return failureReason;
+	}
+
+	public List<PassengerResponse> getPassengers() {
+		return passengers;
+	}
+}
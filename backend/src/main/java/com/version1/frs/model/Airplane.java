@@ -1,10 +1,16 @@
 package com.version1.frs.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 
 /**
@@ -60,6 +66,14 @@ public class Airplane {
 	@Column(name = "CAPACITY", nullable = false)
 	private int capacity;
 
+	/**
+	 * Cabins making up the seat layout of the airplane, ordered by row. When
+	 * empty, a default six-abreast layout is derived from the capacity.
+	 */
+	@OneToMany(mappedBy = "airplane", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OrderBy("firstRow ASC")
+	private List<CabinLayout> cabinLayouts = new ArrayList<>();
+
 	// -------------------- Getters and Setters --------------------
 
 	/**
@@ -169,4 +183,22 @@ public int getCapacity() {
 	public void setCapacity(int capacity) {
 		this.capacity = capacity;
 	}
+
+	/**
+	 * Gets the cabins making up the seat layout of the airplane.
+	 * 
+	 * @return the cabin layouts, ordered by first row
+	 */
+	public List<CabinLayout> getCabinLayouts() {
+		return cabinLayouts;
+	}
+
+	/**
+	 * Sets the cabins making up the seat layout of the airplane.
+	 * 
+	 * @param cabinLayouts the cabin layouts to set
+	 */
+	public void setCabinLayouts(List<CabinLayout> cabinLayouts) {
+		this.cabinLayouts = cabinLayouts;
+	}
 }
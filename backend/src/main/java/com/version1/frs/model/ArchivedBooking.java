@@ -0,0 +1,64 @@
+package com.version1.frs.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Booking of an archived flight, moved out of TBL_BOOKINGS by the archival
+ * job. Maps to the TBL_BOOKINGS_ARCHIVE table; its tickets are in
+ * {@link ArchivedTicket}. Customer and flight are kept as plain IDs.
+ */
+@Entity
+@Table(name = "TBL_BOOKINGS_ARCHIVE",
+		indexes = @Index(name = "IDX_BOOKINGS_ARCHIVE_USER", columnList = "USER_ID, BOOKING_ID"))
+public class ArchivedBooking {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the booking, unchanged from TBL_BOOKINGS.
+	 */
+	@Id
+	@Column(name = "BOOKING_ID")
+	private Long bookingId;
+
+	@Column(name = "USER_ID", nullable = false)
+	private Long userId;
+
+	@Column(name = "FLIGHT_ID", nullable = false)
+	private Long flightId;
+
+	@Column(name = "BOOKING_TIME", nullable = false)
+	private LocalDateTime bookingTime;
+
+	@Column(name = "TOTAL_AMOUNT", nullable = false)
+	private BigDecimal totalAmount;
+
+	// -------------------- Getters --------------------
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public LocalDateTime getBookingTime() {
+		return bookingTime;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+}
@@ -0,0 +1,93 @@
+package com.version1.frs.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Departed flight moved out of TBL_FLIGHTS by the archival job. Maps to the
+ * TBL_FLIGHTS_ARCHIVE table. Rows are written by bulk INSERT ... SELECT and
+ * never change afterwards; airports and airplane are kept as plain IDs.
+ */
+@Entity
+@Table(name = "TBL_FLIGHTS_ARCHIVE")
+public class ArchivedFlight {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the flight, unchanged from TBL_FLIGHTS.
+	 */
+	@Id
+	@Column(name = "ID")
+	private Long id;
+
+	@Column(name = "AIRPLANE_ID", nullable = false)
+	private Long airplaneId;
+
+	@Column(name = "DEPARTURE_TIME", nullable = false)
+	private LocalDateTime departureTime;
+
+	@Column(name = "ARRIVAL_TIME", nullable = false)
+	private LocalDateTime arrivalTime;
+
+	@Column(name = "FROM_AIRPORT_ID", nullable = false)
+	private Long fromAirportId;
+
+	@Column(name = "TO_AIRPORT_ID", nullable = false)
+	private Long toAirportId;
+
+	@Column(name = "PRICE", nullable = false)
+	private BigDecimal price;
+
+	@Column(name = "AIRLINE", nullable = false)
+	private String airline;
+
+	/**
+	 * Time the flight was archived.
+	 */
+	@Column(name = "ARCHIVED_AT", nullable = false)
+	private LocalDateTime archivedAt;
+
+	// -------------------- Getters --------------------
+
+	public Long getId() {
+		return id;
+	}
+
+	public Long getAirplaneId() {
+		return airplaneId;
+	}
+
+	public LocalDateTime getDepartureTime() {
+		return departureTime;
+	}
+
+	public LocalDateTime getArrivalTime() {
+		return arrivalTime;
+	}
+
+	public Long getFromAirportId() {
+		return fromAirportId;
+	}
+
+	public Long getToAirportId() {
+		return toAirportId;
+	}
+
+	public BigDecimal getPrice() {
+		return price;
+	}
+
+	public String getAirline() {
+		return airline;
+	}
+
+	public LocalDateTime getArchivedAt() {
+		return archivedAt;
+	}
+}
@@ -0,0 +1,61 @@
+package com.version1.frs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Review of an archived flight, moved out of TBL_REVIEWS by the archival job.
+ * Maps to the TBL_REVIEWS_ARCHIVE table. The flight's rating rollup is kept,
+ * so ratings still include archived reviews.
+ */
+@Entity
+@Table(name = "TBL_REVIEWS_ARCHIVE",
+		indexes = @Index(name = "IDX_REVIEWS_ARCHIVE_USER", columnList = "USER_ID, REVIEW_ID"))
+public class ArchivedReview {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the review, unchanged from TBL_REVIEWS.
+	 */
+	@Id
+	@Column(name = "REVIEW_ID")
+	private Long reviewId;
+
+	@Column(name = "USER_ID", nullable = false)
+	private Long userId;
+
+	@Column(name = "FLIGHT_ID", nullable = false)
+	private Long flightId;
+
+	@Column(name = "RATING", nullable = false)
+	private Float rating;
+
+	@Column(name = "REVIEW_TEXT", length = 500)
+	private String reviewText;
+
+	// -------------------- Getters --------------------
+
+	public Long getReviewId() {
+		return reviewId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public Float getRating() {
+		return rating;
+	}
+
+	public String getReviewText() {
+		return reviewText;
+	}
+}
@@ -0,0 +1,67 @@
+package com.version1.frs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Ticket of an archived booking, moved out of TBL_BOOKED_TICKETS by the
+ * archival job. Maps to the TBL_BOOKED_TICKETS_ARCHIVE table.
+ */
+@Entity
+@Table(name = "TBL_BOOKED_TICKETS_ARCHIVE",
+		indexes = @Index(name = "IDX_BOOKED_TICKETS_ARCHIVE_BOOKING", columnList = "BOOKING_ID"))
+public class ArchivedTicket {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the ticket, unchanged from TBL_BOOKED_TICKETS.
+	 */
+	@Id
+	@Column(name = "TICKET_ID")
+	private Long ticketId;
+
+	@Column(name = "BOOKING_ID", nullable = false)
+	private Long bookingId;
+
+	@Column(name = "PASSENGER_NAME", nullable = false)
+	private String passengerName;
+
+	@Column(name = "PASSENGER_AGE", nullable = false)
+	private int passengerAge;
+
+	@Column(name = "PASSENGER_GENDER", nullable = false)
+	private String passengerGender;
+
+	@Column(name = "SEAT_NUMBER", length = 8)
+	private String seatNumber;
+
+	// -------------------- Getters --------------------
+
+	public Long getTicketId() {
+		return ticketId;
+	}
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public String getPassengerName() {
+		return passengerName;
+	}
+
+	public int getPassengerAge() {
+		return passengerAge;
+	}
+
+	public String getPassengerGender() {
+		return passengerGender;
+	}
+
+	public String getSeatNumber() {
+		return seatNumber;
+	}
+}
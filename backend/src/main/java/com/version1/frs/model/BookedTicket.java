@@ -3,7 +3,7 @@
 import jakarta.persistence.*;
 
 @Entity
-@Table(name = "TBL_BOOKED_TICKETS")
+@Table(name = "TBL_BOOKED_TICKETS", indexes = @Index(name = "IDX_BOOKED_TICKETS_BOOKING", columnList = "BOOKING_ID"))
 public class BookedTicket {
 
     @Id
@@ -24,6 +24,9 @@ public class BookedTicket {
     @Column(name = "PASSENGER_GENDER", nullable = false)
     private String passengerGender;
 
+    @Column(name = "SEAT_NUMBER", length = 8)
+    private String seatNumber;
+
     // -------------------- Getters and Setters --------------------
 
     public Long getTicketId() {
@@ -65,4 +68,12 @@ public String getPassengerGender() {
     public void setPassengerGender(String passengerGender) {
         this.passengerGender = passengerGender;
     }
+
+    public String getSeatNumber() {
+        return seatNumber;
+    }
+
+    public void setSeatNumber(String seatNumber) {
+        this.seatNumber = seatNumber;
+    }
 }
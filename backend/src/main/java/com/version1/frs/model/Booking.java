@@ -12,6 +12,7 @@
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -22,7 +23,7 @@
  * 'TBL_BOOKINGS' table in the database.
  */
 @Entity
-@Table(name = "TBL_BOOKINGS")
+@Table(name = "TBL_BOOKINGS", indexes = @Index(name = "IDX_BOOKINGS_FLIGHT", columnList = "FLIGHT_ID, BOOKING_ID, USER_ID"))
 public class Booking {
 
 	// -------------------- Fields --------------------
@@ -0,0 +1,212 @@
+package com.version1.frs.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * Denormalized read model of a booking, holding the booking, a summary of its
+ * flight and the passenger list in one row. Maps to the TBL_BOOKING_SUMMARIES
+ * table. Rows are written together with the booking and removed with it, so a
+ * customer's booking history is served by a single indexed query without
+ * touching the booking, ticket, flight or airport tables.
+ */
+@Entity
+@Table(name = "TBL_BOOKING_SUMMARIES", indexes = @Index(name = "IDX_BOOKING_SUMMARY_USER", columnList = "USER_ID, BOOKING_TIME, BOOKING_ID"))
+public class BookingSummary {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the booking this summary belongs to. Mapped to the
+	 * 'BOOKING_ID' column and shared with {@link Booking}.
+	 */
+	@Id
+	@Column(name = "BOOKING_ID")
+	private Long bookingId;
+
+	@Column(name = "USER_ID", nullable = false)
+	private Long userId;
+
+	@Column(name = "BOOKING_TIME", nullable = false)
+	private LocalDateTime bookingTime;
+
+	@Column(name = "TOTAL_AMOUNT", nullable = false)
+	private BigDecimal totalAmount;
+
+	@Column(name = "FLIGHT_ID", nullable = false)
+	private Long flightId;
+
+	@Column(name = "AIRLINE", nullable = false)
+	private String airline;
+
+	@Column(name = "DEPARTURE_TIME", nullable = false)
+	private LocalDateTime departureTime;
+
+	@Column(name = "ARRIVAL_TIME", nullable = false)
+	private LocalDateTime arrivalTime;
+
+	@Column(name = "FROM_AIRPORT_ID", nullable = false)
+	private Long fromAirportId;
+
+	@Column(name = "FROM_AIRPORT_CODE")
+	private String fromAirportCode;
+
+	@Column(name = "FROM_AIRPORT_NAME")
+	private String fromAirportName;
+
+	@Column(name = "TO_AIRPORT_ID", nullable = false)
+	private Long toAirportId;
+
+	@Column(name = "TO_AIRPORT_CODE")
+	private String toAirportCode;
+
+	@Column(name = "TO_AIRPORT_NAME")
+	private String toAirportName;
+
+	@Column(name = "PASSENGER_COUNT", nullable = false)
+	private int passengerCount;
+
+	/**
+	 * Passengers of the booking as a JSON array of name, age, gender and seat.
+	 */
+	@Lob
+	@Column(name = "PASSENGERS", nullable = false)
+	private String passengers;
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public Long getUserId() {
+		return userId;
+	}
+
+	public void setUserId(Long userId) {
+		this.userId = userId;
+	}
+
+	public LocalDateTime getBookingTime() {
+		return bookingTime;
+	}
+
+	public void setBookingTime(LocalDateTime bookingTime) {
+		this.bookingTime = bookingTime;
+	}
+
+	public BigDecimal getTotalAmount() {
+		return totalAmount;
+	}
+
+	public void setTotalAmount(BigDecimal totalAmount) {
+		this.totalAmount = totalAmount;
+	}
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public void setFlightId(Long flightId) {
+		this.flightId = flightId;
+	}
+
+	public String getAirline() {
+		return airline;
+	}
+
+	public void setAirline(String airline) {
+		this.airline = airline;
+	}
+
+	public LocalDateTime getDepartureTime() {
+		return departureTime;
+	}
+
+	public void setDepartureTime(LocalDateTime departureTime) {
+		this.departureTime = departureTime;
+	}
+
+	public LocalDateTime getArrivalTime() {
+		return arrivalTime;
+	}
+
+	public void setArrivalTime(LocalDateTime arrivalTime) {
+		this.arrivalTime = arrivalTime;
+	}
+
+	public Long getFromAirportId() {
+		return fromAirportId;
+	}
+
+	public void setFromAirportId(Long fromAirportId) {
+		this.fromAirportId = fromAirportId;
+	}
+
+	public String getFromAirportCode() {
+		return fromAirportCode;
+	}
+
+	public void setFromAirportCode(String fromAirportCode) {
+		this.fromAirportCode = fromAirportCode;
+	}
+
+	public String getFromAirportName() {
+		return fromAirportName;
+	}
+
+	public void setFromAirportName(String fromAirportName) {
+		this.fromAirportName = fromAirportName;
+	}
+
+	public Long getToAirportId() {
+		return toAirportId;
+	}
+
+	public void setToAirportId(Long toAirportId) {
+		this.toAirportId = toAirportId;
+	}
+
+	public String getToAirportCode() {
+		return toAirportCode;
+	}
+
+	public void setToAirportCode(String toAirportCode) {
+		this.toAirportCode = toAirportCode;
+	}
+
+	public String getToAirportName() {
+		return toAirportName;
+	}
+
+	public void setToAirportName(String toAirportName) {
+		this.toAirportName = toAirportName;
+	}
+
+	public int getPassengerCount() {
+		return passengerCount;
+	}
+
+	public void setPassengerCount(int passengerCount) {
+		this.passengerCount = passengerCount;
+	}
+
+	public String getPassengers() {
+		return passengers;
+	}
+
+	public void setPassengers(String passengers) {
+		this.passengers = passengers;
+	}
+}
@@ -0,0 +1,114 @@
+package com.version1.frs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class describing one cabin of an airplane's seat layout. Maps to the
+ * TBL_CABIN_LAYOUTS table. A cabin covers a contiguous range of rows that all
+ * share the same seat letters, e.g. rows 10 to 35 with letters "ABC DEF",
+ * where a space marks an aisle.
+ */
+@Entity
+@Table(name = "TBL_CABIN_LAYOUTS")
+public class CabinLayout {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Unique identifier for the cabin layout. Mapped to the 'CABIN_ID' column.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "CABIN_ID")
+	private Long cabinId;
+
+	/**
+	 * The airplane this cabin belongs to. Represents a many-to-one relationship
+	 * with {@link Airplane}.
+	 */
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "AIRPLANE_ID", nullable = false)
+	private Airplane airplane;
+
+	/**
+	 * Name of the cabin class, e.g. FIRST, BUSINESS or ECONOMY.
+	 */
+	@Column(name = "CABIN_CLASS", nullable = false, length = 20)
+	private String cabinClass;
+
+	/**
+	 * Number of the first row in the cabin.
+	 */
+	@Column(name = "FIRST_ROW", nullable = false)
+	private int firstRow;
+
+	/**
+	 * Number of the last row in the cabin (inclusive).
+	 */
+	@Column(name = "LAST_ROW", nullable = false)
+	private int lastRow;
+
+	/**
+	 * Seat letters of each row from left to right. A space marks an aisle.
+	 */
+	@Column(name = "SEAT_LETTERS", nullable = false, length = 20)
+	private String seatLetters;
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getCabinId() {
+		return cabinId;
+	}
+
+	public void setCabinId(Long cabinId) {
+		this.cabinId = cabinId;
+	}
+
+	public Airplane getAirplane() {
+		return airplane;
+	}
+
+	public void setAirplane(Airplane airplane) {
+		this.airplane = airplane;
+	}
+
+	public String getCabinClass() {
+		return cabinClass;
+	}
+
+	public void setCabinClass(String cabinClass) {
+		this.cabinClass = cabinClass;
+	}
+
+	public int getFirstRow() {
+		return firstRow;
+	}
+
+	public void setFirstRow(int firstRow) {
+		this.firstRow = firstRow;
+	}
+
+	public int getLastRow() {
+		return lastRow;
+	}
+
+	public void setLastRow(int lastRow) {
+		this.lastRow = lastRow;
+	}
+
+	public String getSeatLetters() {
+		return seatLetters;
+	}
+
+	public void setSeatLetters(String seatLetters) {
+		this.seatLetters = seatLetters;
+	}
+}
@@ -9,6 +9,7 @@
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -17,10 +18,12 @@
 /**
  * Entity class representing a Flight in the system. Maps to the TBL_FLIGHTS
  * table in the database and includes details like departure/arrival times,
- * price, airline name, associated airports, and airplane.
+ * price, airline name, associated airports, and airplane. Route searches are
+ * served by the index on route and departure time.
  */
 @Entity
-@Table(name = "TBL_FLIGHTS")
+@Table(name = "TBL_FLIGHTS", indexes = @Index(name = "IDX_FLIGHTS_ROUTE_DEPARTURE",
+		columnList = "FROM_AIRPORT_ID, TO_AIRPORT_ID, DEPARTURE_TIME"))
 public class Flight {
 
 	// -------------------- Fields --------------------
@@ -0,0 +1,139 @@
+package com.version1.frs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Rollup entity holding the running review totals of a single flight. Maps to
+ * the TBL_FLIGHT_RATINGS table. Rows are updated with atomic deltas whenever a
+ * review is posted, so the average and star histogram of a flight cost a single
+ * primary-key read. The airline is copied from the flight so that airline
+ * rollups can be grouped without joins.
+ */
+@Entity
+@Table(name = "TBL_FLIGHT_RATINGS", indexes = @Index(name = "IDX_FLIGHT_RATINGS_AIRLINE", columnList = "AIRLINE"))
+public class FlightRating {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the flight this rollup belongs to. Mapped to the 'FLIGHT_ID'
+	 * column and shared with {@link Flight}.
+	 */
+	@Id
+	@Column(name = "FLIGHT_ID")
+	private Long flightId;
+
+	/**
+	 * Name of the airline operating the flight.
+	 */
+	@Column(name = "AIRLINE", nullable = false)
+	private String airline;
+
+	/**
+	 * Number of reviews posted for the flight.
+	 */
+	@Column(name = "REVIEW_COUNT", nullable = false)
+	private long reviewCount;
+
+	/**
+	 * Sum of all ratings, from which the average is derived.
+	 */
+	@Column(name = "RATING_SUM", nullable = false)
+	private double ratingSum;
+
+	/**
+	 * Number of reviews per star, with ratings rounded to the nearest star.
+	 */
+	@Column(name = "ONE_STAR", nullable = false)
+	private long oneStar;
+
+	@Column(name = "TWO_STARS", nullable = false)
+	private long twoStars;
+
+	@Column(name = "THREE_STARS", nullable = false)
+	private long threeStars;
+
+	@Column(name = "FOUR_STARS", nullable = false)
+	private long fourStars;
+
+	@Column(name = "FIVE_STARS", nullable = false)
+	private long fiveStars;
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public void setFlightId(Long flightId) {
+		this.flightId = flightId;
+	}
+
+	public String getAirline() {
+		return airline;
+	}
+
+	public void setAirline(String airline) {
+		this.airline = airline;
+	}
+
+	public long getReviewCount() {
+		return reviewCount;
+	}
+
+	public void setReviewCount(long reviewCount) {
+		this.reviewCount = reviewCount;
+	}
+
+	public double getRatingSum() {
+		return ratingSum;
+	}
+
+	public void setRatingSum(double ratingSum) {
+		this.ratingSum = ratingSum;
+	}
+
+	public long getOneStar() {
+		return oneStar;
+	}
+
+	public void setOneStar(long oneStar) {
+		this.oneStar = oneStar;
+	}
+
+	public long getTwoStars() {
+		return twoStars;
+	}
+
+	public void setTwoStars(long twoStars) {
+		this.twoStars = twoStars;
+	}
+
+	public long getThreeStars() {
+		return threeStars;
+	}
+
+	public void setThreeStars(long threeStars) {
+		this.threeStars = threeStars;
+	}
+
+	public long getFourStars() {
+		return fourStars;
+	}
+
+	public void setFourStars(long fourStars) {
+		this.fourStars = fourStars;
+	}
+
+	public long getFiveStars() {
+		return fiveStars;
+	}
+
+	public void setFiveStars(long fiveStars) {
+		this.fiveStars = fiveStars;
+	}
+}
@@ -0,0 +1,82 @@
+package com.version1.frs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Entity class holding the seat occupancy of a single flight. Maps to the
+ * TBL_FLIGHT_SEAT_MAPS table. Occupancy is stored as a compact bitset (one bit
+ * per seat, in the seat order of the airplane's layout) so that a widebody
+ * flight fits in a few dozen bytes.
+ */
+@Entity
+@Table(name = "TBL_FLIGHT_SEAT_MAPS")
+public class FlightSeatMap {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the flight this seat map belongs to. Mapped to the
+	 * 'FLIGHT_ID' column and shared with {@link Flight}.
+	 */
+	@Id
+	@Column(name = "FLIGHT_ID")
+	private Long flightId;
+
+	/**
+	 * Occupancy bitset as produced by {@link java.util.BitSet#toByteArray()}.
+	 */
+	@Column(name = "OCCUPANCY", nullable = false, length = 2000)
+	private byte[] occupancy = new byte[0];
+
+	/**
+	 * Number of occupied seats, kept alongside the bitset for cheap availability
+	 * checks.
+	 */
+	@Column(name = "OCCUPIED_COUNT", nullable = false)
+	private int occupiedCount;
+
+	/**
+	 * Version used to order concurrent updates of the in-memory seat map cache.
+	 */
+	@Version
+	@Column(name = "VERSION", nullable = false)
+	private Long version;
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public void setFlightId(Long flightId) {
+		this.flightId = flightId;
+	}
+
+	public byte[] getOccupancy() {
+		return occupancy;
+	}
+
+	public void setOccupancy(byte[] occupancy) {
+		this.occupancy = occupancy;
+	}
+
+	public int getOccupiedCount() {
+		return occupiedCount;
+	}
+
+	public void setOccupiedCount(int occupiedCount) {
+		this.occupiedCount = occupiedCount;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+}
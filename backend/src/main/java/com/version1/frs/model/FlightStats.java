@@ -0,0 +1,171 @@
+package com.version1.frs.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Rollup entity holding the running booking totals of a single flight. Maps to
+ * the TBL_FLIGHT_STATS table. Rows are maintained incrementally from the
+ * booking and cancellation paths so that analytics queries never have to scan
+ * the booking tables. Route, airline and schedule attributes are copied from
+ * the flight so that the rollup can be grouped without joins.
+ */
+@Entity
+@Table(name = "TBL_FLIGHT_STATS", indexes = {
+		@Index(name = "IDX_FLIGHT_STATS_ROUTE", columnList = "FROM_AIRPORT_ID, TO_AIRPORT_ID"),
+		@Index(name = "IDX_FLIGHT_STATS_DAY", columnList = "DEPARTURE_DATE, AIRPLANE_ID") })
+public class FlightStats {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the flight this rollup belongs to. Mapped to the 'FLIGHT_ID'
+	 * column and shared with {@link Flight}.
+	 */
+	@Id
+	@Column(name = "FLIGHT_ID")
+	private Long flightId;
+
+	/**
+	 * Identifier of the airplane operating the flight.
+	 */
+	@Column(name = "AIRPLANE_ID", nullable = false)
+	private Long airplaneId;
+
+	/**
+	 * Name of the airline operating the flight.
+	 */
+	@Column(name = "AIRLINE", nullable = false)
+	private String airline;
+
+	/**
+	 * Identifier of the departure airport.
+	 */
+	@Column(name = "FROM_AIRPORT_ID", nullable = false)
+	private Long fromAirportId;
+
+	/**
+	 * Identifier of the arrival airport.
+	 */
+	@Column(name = "TO_AIRPORT_ID", nullable = false)
+	private Long toAirportId;
+
+	/**
+	 * Calendar day on which the flight departs.
+	 */
+	@Column(name = "DEPARTURE_DATE", nullable = false)
+	private LocalDate departureDate;
+
+	/**
+	 * Scheduled gate-to-gate duration of the flight in minutes.
+	 */
+	@Column(name = "BLOCK_MINUTES", nullable = false)
+	private long blockMinutes;
+
+	/**
+	 * Seat capacity of the airplane, kept in sync when its capacity or seat
+	 * layout changes.
+	 */
+	@Column(name = "CAPACITY", nullable = false)
+	private int capacity;
+
+	/**
+	 * Number of tickets currently sold on the flight.
+	 */
+	@Column(name = "TICKETS_SOLD", nullable = false)
+	private int ticketsSold;
+
+	/**
+	 * Total revenue currently booked on the flight.
+	 */
+	@Column(name = "REVENUE", nullable = false)
+	private BigDecimal revenue = BigDecimal.ZERO;
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getFlightId() {
+		return flightId;
+	}
+
+	public void setFlightId(Long flightId) {
+		this.flightId = flightId;
+	}
+
+	public Long getAirplaneId() {
+		return airplaneId;
+	}
+
+	public void setAirplaneId(Long airplaneId) {
+		this.airplaneId = airplaneId;
+	}
+
+	public String getAirline() {
+		return airline;
+	}
+
+	public void setAirline(String airline) {
+		this.airline = airline;
+	}
+
+	public Long getFromAirportId() {
+		return fromAirportId;
+	}
+
+	public void setFromAirportId(Long fromAirportId) {
+		this.fromAirportId = fromAirportId;
+	}
+
+	public Long getToAirportId() {
+		return toAirportId;
+	}
+
+	public void setToAirportId(Long toAirportId) {
+		this.toAirportId = toAirportId;
+	}
+
+	public LocalDate getDepartureDate() {
+		return departureDate;
+	}
+
+	public void setDepartureDate(LocalDate departureDate) {
+		this.departureDate = departureDate;
+	}
+
+	public long getBlockMinutes() {
+		return blockMinutes;
+	}
+
+	public void setBlockMinutes(long blockMinutes) {
+		this.blockMinutes = blockMinutes;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public int getTicketsSold() {
+		return ticketsSold;
+	}
+
+	public void setTicketsSold(int ticketsSold) {
+		this.ticketsSold = ticketsSold;
+	}
+
+	public BigDecimal getRevenue() {
+		return revenue;
+	}
+
+	public void setRevenue(BigDecimal revenue) {
+		this.revenue = revenue;
+	}
+}
@@ -0,0 +1,198 @@
+package com.version1.frs.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+/**
+ * Entity class representing a domain event waiting to be delivered to its
+ * handlers (transactional outbox). This class maps to the 'TBL_OUTBOX_EVENTS'
+ * table. Events are inserted in the same transaction as the change they
+ * describe, so an event exists if and only if the change was committed.
+ */
+@Entity
+@Table(name = "TBL_OUTBOX_EVENTS", indexes = {
+		@Index(name = "IDX_OUTBOX_PENDING", columnList = "STATUS, EVENT_ID"),
+		@Index(name = "IDX_OUTBOX_AGGREGATE", columnList = "AGGREGATE_TYPE, AGGREGATE_ID, STATUS, EVENT_ID") })
+public class OutboxEvent {
+
+	// -------------------- Aggregate types --------------------
+
+	public static final String BOOKING = "BOOKING";
+	public static final String WALLET = "WALLET";
+	public static final String FLIGHT = "FLIGHT";
+	public static final String AIRPORT = "AIRPORT";
+
+	// -------------------- Event types --------------------
+
+	public static final String BOOKING_CREATED = "BOOKING_CREATED";
+	public static final String BOOKING_CANCELLED = "BOOKING_CANCELLED";
+	public static final String WALLET_CREDITED = "WALLET_CREDITED";
+	public static final String WALLET_DEBITED = "WALLET_DEBITED";
+	public static final String WALLET_BALANCE_SET = "WALLET_BALANCE_SET";
+	public static final String FLIGHT_UPDATED = "FLIGHT_UPDATED";
+	public static final String SEATS_ASSIGNED = "SEATS_ASSIGNED";
+	public static final String AIRPORT_UPDATED = "AIRPORT_UPDATED";
+
+	// -------------------- Statuses --------------------
+
+	/** Not delivered yet, or delivery is being retried. */
+	public static final String PENDING = "PENDING";
+
+	/** Delivered to all handlers. */
+	public static final String DONE = "DONE";
+
+	/** Gave up after the maximum number of attempts. */
+	public static final String DEAD = "DEAD";
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Unique, increasing identifier of the event. Delivery follows this order.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "EVENT_ID")
+	private Long eventId;
+
+	/**
+	 * Type of the entity the event is about, e.g. {@link #BOOKING}.
+	 */
+	@Column(name = "AGGREGATE_TYPE", nullable = false, length = 32)
+	private String aggregateType;
+
+	/**
+	 * Identifier of the entity the event is about. Events of one aggregate are
+	 * delivered in order.
+	 */
+	@Column(name = "AGGREGATE_ID", nullable = false)
+	private Long aggregateId;
+
+	@Column(name = "EVENT_TYPE", nullable = false, length = 64)
+	private String eventType;
+
+	/**
+	 * Event data as a JSON object.
+	 */
+	@Lob
+	@Column(name = "PAYLOAD", nullable = false)
+	private String payload;
+
+	@Column(name = "CREATED_AT", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "STATUS", nullable = false, length = 16)
+	private String status;
+
+	@Column(name = "ATTEMPTS", nullable = false)
+	private int attempts;
+
+	/**
+	 * Earliest time of the next delivery attempt after a failure.
+	 */
+	@Column(name = "NEXT_ATTEMPT_AT")
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "PROCESSED_AT")
+	private LocalDateTime processedAt;
+
+	@Column(name = "LAST_ERROR", length = 1000)
+	private String lastError;
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getEventId() {
+		return eventId;
+	}
+
+	public void setEventId(Long eventId) {
+		this.eventId = eventId;
+	}
+
+	public String getAggregateType() {
+		return aggregateType;
+	}
+
+	public void setAggregateType(String aggregateType) {
+		this.aggregateType = aggregateType;
+	}
+
+	public Long getAggregateId() {
+		return aggregateId;
+	}
+
+	public void setAggregateId(Long aggregateId) {
+		this.aggregateId = aggregateId;
+	}
+
+	public String getEventType() {
+		return eventType;
+	}
+
+	public void setEventType(String eventType) {
+		this.eventType = eventType;
+	}
+
+	public String getPayload() {
+		return payload;
+	}
+
+	public void setPayload(String payload) {
+		this.payload = payload;
+	}
+
+	public LocalDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(LocalDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public int getAttempts() {
+		return attempts;
+	}
+
+	public void setAttempts(int attempts) {
+		this.attempts = attempts;
+	}
+
+	public LocalDateTime getNextAttemptAt() {
+		return nextAttemptAt;
+	}
+
+	public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+		this.nextAttemptAt = nextAttemptAt;
+	}
+
+	public LocalDateTime getProcessedAt() {
+		return processedAt;
+	}
+
+	public void setProcessedAt(LocalDateTime processedAt) {
+		this.processedAt = processedAt;
+	}
+
+	public String getLastError() {
+		return lastError;
+	}
+
+	public void setLastError(String lastError) {
+		this.lastError = lastError;
+	}
+}
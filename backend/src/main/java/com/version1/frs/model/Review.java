@@ -2,9 +2,11 @@
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -15,7 +17,9 @@
  * optional review text, and associations to both user and flight.
  */
 @Entity
-@Table(name = "TBL_REVIEWS")
+@Table(name = "TBL_REVIEWS", indexes = {
+		@Index(name = "IDX_REVIEWS_FLIGHT", columnList = "FLIGHT_ID, REVIEW_ID"),
+		@Index(name = "IDX_REVIEWS_USER", columnList = "USER_ID, REVIEW_ID") })
 public class Review {
 
 	// -------------------- Fields --------------------
@@ -30,17 +34,17 @@ public class Review {
 
 	/**
 	 * The user who submitted the review. Represents a many-to-one relationship with
-	 * {@link User}.
+	 * {@link User}, loaded lazily.
 	 */
-	@ManyToOne(optional = false)
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
 	@JoinColumn(name = "USER_ID")
 	private User user;
 
 	/**
 	 * The flight being reviewed. Represents a many-to-one relationship with
-	 * {@link Flight}.
+	 * {@link Flight}, loaded lazily.
 	 */
-	@ManyToOne(optional = false)
+	@ManyToOne(optional = false, fetch = FetchType.LAZY)
 	@JoinColumn(name = "FLIGHT_ID")
 	private Flight flight;
 
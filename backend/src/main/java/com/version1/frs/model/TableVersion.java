@@ -0,0 +1,67 @@
+package com.version1.frs.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Change counter of a reference-data table. Maps to the TBL_TABLE_VERSIONS
+ * table. The counter is incremented in the same transaction as every admin
+ * write to the table and is the source of the ETags of the table's read
+ * endpoints. Counters start at the time they were created, in milliseconds, so
+ * that versions are never reused after the database is recreated.
+ */
+@Entity
+@Table(name = "TBL_TABLE_VERSIONS")
+public class TableVersion {
+
+	// -------------------- Table names --------------------
+
+	public static final String AIRPORTS = "TBL_AIRPORTS";
+	public static final String AIRPLANES = "TBL_AIRPLANES";
+	public static final String FLIGHTS = "TBL_FLIGHTS";
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Name of the counted table. Mapped to the 'TABLE_NAME' column.
+	 */
+	@Id
+	@Column(name = "TABLE_NAME", length = 64)
+	private String tableName;
+
+	/**
+	 * Current version of the table's contents.
+	 */
+	@Column(name = "VERSION", nullable = false)
+	private long version;
+
+	// -------------------- Constructors --------------------
+
+	public TableVersion() {
+	}
+
+	public TableVersion(String tableName, long version) {
+		this.tableName = tableName;
+		this.version = version;
+	}
+
+	// -------------------- Getters and Setters --------------------
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	public void setTableName(String tableName) {
+		this.tableName = tableName;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+}
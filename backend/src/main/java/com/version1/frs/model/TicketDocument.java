@@ -0,0 +1,82 @@
+package com.version1.frs.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * Entity recording the rendered ticket PDF of a booking. Maps to the
+ * TBL_TICKET_DOCUMENTS table. The PDF itself lives in the local ticket file
+ * cache under its SHA-256 content hash; this row only points to it, so a ticket
+ * is rendered once and then served from disk until the booking is cancelled.
+ */
+@Entity
+@Table(name = "TBL_TICKET_DOCUMENTS", indexes = @Index(name = "IDX_TICKET_DOCUMENTS_HASH", columnList = "CONTENT_HASH"))
+public class TicketDocument {
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Identifier of the booking the ticket belongs to. Mapped to the 'BOOKING_ID'
+	 * column and shared with {@link Booking}.
+	 */
+	@Id
+	@Column(name = "BOOKING_ID")
+	private Long bookingId;
+
+	/**
+	 * Hex-encoded SHA-256 hash of the PDF, used as file name and ETag.
+	 */
+	@Column(name = "CONTENT_HASH", nullable = false, length = 64)
+	private String contentHash;
+
+	/**
+	 * Size of the PDF in bytes.
+	 */
+	@Column(name = "CONTENT_LENGTH", nullable = false)
+	private long contentLength;
+
+	/**
+	 * Time at which the ticket was rendered.
+	 */
+	@Column(name = "RENDERED_AT", nullable = false)
+	private LocalDateTime renderedAt;
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public String getContentHash() {
+		return contentHash;
+	}
+
+	public void setContentHash(String contentHash) {
+		this.contentHash = contentHash;
+	}
+
+	public long getContentLength() {
+		return contentLength;
+	}
+
+	public void setContentLength(long contentLength) {
+		this.contentLength = contentLength;
+	}
+
+	public LocalDateTime getRenderedAt() {
+		return renderedAt;
+	}
+
+	public void setRenderedAt(LocalDateTime renderedAt) {
+		this.renderedAt = renderedAt;
+	}
+}
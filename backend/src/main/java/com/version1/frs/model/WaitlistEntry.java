@@ -0,0 +1,182 @@
+package com.version1.frs.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * Entity class representing a customer's place in the waitlist of a sold-out
+ * flight. This class maps to the 'TBL_WAITLIST' table in the database. Entries
+ * are served in ID order, so the generated ID doubles as the queue position.
+ */
+@Entity
+@Table(name = "TBL_WAITLIST", indexes = @Index(name = "IDX_WAITLIST_QUEUE", columnList = "FLIGHT_ID, STATUS, WAITLIST_ID"))
+public class WaitlistEntry {
+
+	/** Waiting for seats to become free. */
+	public static final String WAITING = "WAITING";
+
+	/** Promoted into a booking. */
+	public static final String PROMOTED = "PROMOTED";
+
+	/** Promotion was attempted but the booking could not be made. */
+	public static final String FAILED = "FAILED";
+
+	/** Withdrawn by the customer. */
+	public static final String CANCELLED = "CANCELLED";
+
+	// -------------------- Fields --------------------
+
+	/**
+	 * Unique identifier for the waitlist entry. Mapped to the 'WAITLIST_ID'
+	 * column in the database.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "WAITLIST_ID")
+	private Long waitlistId;
+
+	/**
+	 * Customer waiting for seats. Mapped to the 'USER_ID' column in the database.
+	 */
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "USER_ID", nullable = false)
+	private User user;
+
+	/**
+	 * Sold-out flight the customer is waiting for. Mapped to the 'FLIGHT_ID'
+	 * column in the database.
+	 */
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "FLIGHT_ID", nullable = false)
+	private Flight flight;
+
+	/**
+	 * The time the customer joined the waitlist. Mapped to the 'REQUESTED_AT'
+	 * column in the database.
+	 */
+	@Column(name = "REQUESTED_AT", nullable = false)
+	private LocalDateTime requestedAt;
+
+	/**
+	 * One of {@link #WAITING}, {@link #PROMOTED}, {@link #FAILED} or
+	 * {@link #CANCELLED}. Mapped to the 'STATUS' column in the database.
+	 */
+	@Column(name = "STATUS", nullable = false, length = 16)
+	private String status;
+
+	/**
+	 * Booking created when the entry was promoted. Mapped to the 'BOOKING_ID'
+	 * column in the database.
+	 */
+	@Column(name = "BOOKING_ID")
+	private Long bookingId;
+
+	/**
+	 * Reason the promotion failed, e.g. an insufficient wallet balance. Mapped to
+	 * the 'FAILURE_REASON' column in the database.
+	 */
+	@Column(name = "FAILURE_REASON")
+	private String failureReason;
+
+	/**
+	 * Version used to detect a customer withdrawing an entry while it is being
+	 * promoted.
+	 */
+	@Version
+	@Column(name = "VERSION", nullable = false)
+	private Long version;
+
+	@OneToMany(mappedBy = "entry", cascade = CascadeType.ALL, orphanRemoval = true)
+	@OrderBy("passengerId ASC")
+	private List<WaitlistPassenger> passengers = new ArrayList<>();
+
+	// -------------------- Getters and Setters --------------------
+
+	public Long getWaitlistId() {
+		return waitlistId;
+	}
+
+	public void setWaitlistId(Long waitlistId) {
+		this.waitlistId = waitlistId;
+	}
+
+	public User getUser() {
+		return user;
+	}
+
+	public void setUser(User user) {
+		this.user = user;
+	}
+
+	public Flight getFlight() {
+		return flight;
+	}
+
+	public void setFlight(Flight flight) {
+		this.flight = flight;
+	}
+
+	public LocalDateTime getRequestedAt() {
+		return requestedAt;
+	}
+
+	public void setRequestedAt(LocalDateTime requestedAt) {
+		this.requestedAt = requestedAt;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Long getBookingId() {
+		return bookingId;
+	}
+
+	public void setBookingId(Long bookingId) {
+		this.bookingId = bookingId;
+	}
+
+	public String getFailureReason() {
+		return failureReason;
+	}
+
+	public void setFailureReason(String failureReason) {
+		this.failureReason = failureReason;
+	}
+
+	public Long getVersion() {
+		return version;
+	}
+
+	public void setVersion(Long version) {
+		this.version = version;
+	}
+
+	public List<WaitlistPassenger> getPassengers() {
+		return passengers;
+	}
+
+	public void setPassengers(List<WaitlistPassenger> passengers) {
+		this.passengers = passengers;
+	}
+}
@@ -0,0 +1,68 @@
+package com.version1.frs.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "TBL_WAITLIST_PASSENGERS")
+public class WaitlistPassenger {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "PASSENGER_ID")
+    private Long passengerId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "WAITLIST_ID", nullable = false)
+    private WaitlistEntry entry;
+
+    @Column(name = "PASSENGER_NAME", nullable = false)
+    private String passengerName;
+
+    @Column(name = "PASSENGER_AGE", nullable = false)
+    private int passengerAge;
+
+    @Column(name = "PASSENGER_GENDER", nullable = false)
+    private String passengerGender;
+
+    // -------------------- Getters and Setters --------------------
+
+    public Long getPassengerId() {
+        return passengerId;
+    }
+
+    public void setPassengerId(Long passengerId) {
+        this.passengerId = passengerId;
+    }
+
+    public WaitlistEntry getEntry() {
+        return entry;
+    }
+
+    public void setEntry(WaitlistEntry entry) {
+        this.entry = entry;
+    }
+
+    public String getPassengerName() {
+        return passengerName;
+    }
+
+    public void setPassengerName(String passengerName) {
+        this.passengerName = passengerName;
+    }
+
+    public int getPassengerAge() {
+        return passengerAge;
+    }
+
+    public void setPassengerAge(int passengerAge) {
+        this.passengerAge = passengerAge;
+    }
+
+    public String getPassengerGender() {
+        return passengerGender;
+    }
+
+    public void setPassengerGender(String passengerGender) {
+        this.passengerGender = passengerGender;
+    }
+}
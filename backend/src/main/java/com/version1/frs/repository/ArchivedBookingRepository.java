@@ -0,0 +1,23 @@
+package com.version1.frs.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.version1.frs.model.ArchivedBooking;
+
+/**
+ * Repository interface for {@link ArchivedBooking} entities, read when a
+ * customer's bookings are looked up across the live and archive tables.
+ */
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+	/**
+	 * Retrieves a customer's archived bookings using the (USER_ID, BOOKING_ID)
+	 * index.
+	 *
+	 * @param userId the ID of the customer
+	 * @return the archived bookings, most recent first
+	 */
+	List<ArchivedBooking> findByUserIdOrderByBookingIdDesc(Long userId);
+}
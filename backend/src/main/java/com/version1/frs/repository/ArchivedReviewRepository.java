@@ -0,0 +1,33 @@
+package com.version1.frs.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.dto.ReviewResponse;
+import com.version1.frs.model.ArchivedReview;
+
+/**
+ * Repository interface for {@link ArchivedReview} entities, read when a
+ * customer's reviews are looked up across the live and archive tables.
+ */
+public interface ArchivedReviewRepository extends JpaRepository<ArchivedReview, Long> {
+
+	/**
+	 * Retrieves a page of a user's archived reviews, most recent first, using the
+	 * (USER_ID, REVIEW_ID) index.
+	 *
+	 * @param userId   the ID of the user
+	 * @param pageable the page to retrieve
+	 * @return the requested slice
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.ReviewResponse(r.reviewId, r.userId, r.flightId, r.rating, r.reviewText)
+			  FROM ArchivedReview r
+			 WHERE r.userId = :userId
+			 ORDER BY r.reviewId DESC
+			""")
+	Slice<ReviewResponse> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+}
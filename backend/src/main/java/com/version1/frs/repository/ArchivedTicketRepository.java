@@ -0,0 +1,22 @@
+package com.version1.frs.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.version1.frs.model.ArchivedTicket;
+
+/**
+ * Repository interface for {@link ArchivedTicket} entities.
+ */
+public interface ArchivedTicketRepository extends JpaRepository<ArchivedTicket, Long> {
+
+	/**
+	 * Retrieves the tickets of archived bookings.
+	 *
+	 * @param bookingIds the IDs of the bookings
+	 * @return the tickets, in ticket order
+	 */
+	List<ArchivedTicket> findByBookingIdInOrderByTicketIdAsc(Collection<Long> bookingIds);
+}
@@ -0,0 +1,22 @@
+package com.version1.frs.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.version1.frs.model.BookedTicket;
+
+/**
+ * Repository interface for managing {@link BookedTicket} entities.
+ */
+public interface BookedTicketRepository extends JpaRepository<BookedTicket, Long> {
+
+	/**
+	 * Retrieves the tickets of a flight that have not been assigned a seat, i.e.
+	 * tickets booked before seat maps were introduced.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return a list of tickets without a seat number, in booking order
+	 */
+	List<BookedTicket> findByBooking_Flight_IdAndSeatNumberIsNullOrderByTicketIdAsc(Long flightId);
+}
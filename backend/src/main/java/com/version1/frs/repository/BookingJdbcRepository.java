@@ -0,0 +1,136 @@
+package com.version1.frs.repository;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Plain JDBC access to the booking tables for bulk reads. Rows are read with a
+ * forward-only cursor and a large fetch size and handed to the caller one at a
+ * time, so a full-table read runs in constant memory instead of materializing
+ * entities in the persistence context.
+ */
+@Repository
+public class BookingJdbcRepository {
+
+	/** Rows fetched from the database per round trip. */
+	private static final int FETCH_SIZE = 1000;
+
+	/**
+	 * One booking in an export.
+	 *
+	 * @param bookingId     the ID of the booking
+	 * @param userId        the ID of the customer
+	 * @param userEmail     the e-mail address of the customer
+	 * @param flightId      the ID of the flight
+	 * @param airline       the airline operating the flight
+	 * @param departureTime the departure time of the flight
+	 * @param bookingTime   the time the booking was made
+	 * @param totalAmount   the amount charged
+	 * @param passengers    the number of tickets in the booking
+	 */
+	public record ExportRow(long bookingId, long userId, String userEmail, long flightId, String airline,
+			LocalDateTime departureTime, LocalDateTime bookingTime, BigDecimal totalAmount, int passengers) {
+	}
+
+	/**
+	 * One passenger on a flight manifest.
+	 *
+	 * @param bookingId       the ID of the booking
+	 * @param ticketId        the ID of the ticket
+	 * @param seatNumber      the assigned seat, or null
+	 * @param passengerName   the name of the passenger
+	 * @param passengerAge    the age of the passenger
+	 * @param passengerGender the gender of the passenger
+	 * @param userId          the ID of the customer who booked
+	 * @param userName        the name of the customer who booked
+	 * @param userEmail       the e-mail address of the customer who booked
+	 */
+	public record ManifestRow(long bookingId, long ticketId, String seatNumber, String passengerName,
+			int passengerAge, String passengerGender, long userId, String userName, String userEmail) {
+	}
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public BookingJdbcRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+	}
+
+	/**
+	 * Streams bookings in booking ID order, optionally filtered by booking time
+	 * and flight.
+	 *
+	 * @param from     the earliest booking time (inclusive), or null
+	 * @param to       the latest booking time (exclusive), or null
+	 * @param flightId the ID of the flight, or null for all flights
+	 * @param consumer receives each row as it is read
+	 */
+	public void streamBookings(LocalDateTime from, LocalDateTime to, Long flightId, Consumer<ExportRow> consumer) {
+		StringBuilder sql = new StringBuilder("""
+				SELECT b.BOOKING_ID, b.USER_ID, u.USER_EMAIL, b.FLIGHT_ID, f.AIRLINE, f.DEPARTURE_TIME,
+				       b.BOOKING_TIME, b.TOTAL_AMOUNT,
+				       (SELECT COUNT(*) FROM TBL_BOOKED_TICKETS t WHERE t.BOOKING_ID = b.BOOKING_ID) AS PASSENGERS
+				  FROM TBL_BOOKINGS b
+				  JOIN TBL_USERS u ON u.USER_ID = b.USER_ID
+				  JOIN TBL_FLIGHTS f ON f.ID = b.FLIGHT_ID
+				 WHERE 1 = 1
+				""");
+		List<Object> args = new ArrayList<>();
+		if (from != null) {
+			sql.append(" AND b.BOOKING_TIME >= ?");
+			args.add(Timestamp.valueOf(from));
+		}
+		if (to != null) {
+			sql.append(" AND b.BOOKING_TIME < ?");
+			args.add(Timestamp.valueOf(to));
+		}
+		if (flightId != null) {
+			sql.append(" AND b.FLIGHT_ID = ?");
+			args.add(flightId);
+		}
+		sql.append(" ORDER BY b.BOOKING_ID");
+
+		jdbcTemplate.query(sql.toString(), rs -> {
+			consumer.accept(new ExportRow(rs.getLong("BOOKING_ID"), rs.getLong("USER_ID"), rs.getString("USER_EMAIL"),
+					rs.getLong("FLIGHT_ID"), rs.getString("AIRLINE"),
+					rs.getTimestamp("DEPARTURE_TIME").toLocalDateTime(),
+					rs.getTimestamp("BOOKING_TIME").toLocalDateTime(), rs.getBigDecimal("TOTAL_AMOUNT"),
+					rs.getInt("PASSENGERS")));
+		}, args.toArray());
+	}
+
+	/**
+	 * Streams the passengers of a flight with the customer who booked them, in
+	 * booking order. Bookings are found through the (FLIGHT_ID, BOOKING_ID,
+	 * USER_ID) index and tickets through the BOOKING_ID index.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param consumer receives each row as it is read
+	 */
+	public void streamManifest(Long flightId, Consumer<ManifestRow> consumer) {
+		String sql = """
+				SELECT b.BOOKING_ID, t.TICKET_ID, t.SEAT_NUMBER, t.PASSENGER_NAME, t.PASSENGER_AGE,
+				       t.PASSENGER_GENDER, u.USER_ID, u.USER_NAME, u.USER_EMAIL
+				  FROM TBL_BOOKINGS b
+				  JOIN TBL_BOOKED_TICKETS t ON t.BOOKING_ID = b.BOOKING_ID
+				  JOIN TBL_USERS u ON u.USER_ID = b.USER_ID
+				 WHERE b.FLIGHT_ID = ?
+				 ORDER BY b.BOOKING_ID, t.TICKET_ID
+				""";
+		jdbcTemplate.query(sql, rs -> {
+			consumer.accept(new ManifestRow(rs.getLong("BOOKING_ID"), rs.getLong("TICKET_ID"),
+					rs.getString("SEAT_NUMBER"), rs.getString("PASSENGER_NAME"), rs.getInt("PASSENGER_AGE"),
+					rs.getString("PASSENGER_GENDER"), rs.getLong("USER_ID"), rs.getString("USER_NAME"),
+					rs.getString("USER_EMAIL")));
+		}, flightId);
+	}
+}
@@ -1,8 +1,12 @@
 package com.version1.frs.repository;
 
+import java.math.BigDecimal;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.version1.frs.model.Booking;
 
@@ -18,6 +22,7 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 	 * @param userId the ID of the user whose bookings are to be retrieved
 	 * @return a list of bookings made by the user
 	 */
+	@EntityGraph(attributePaths = { "user", "flight", "bookedTickets" })
 	List<Booking> findByUserUserId(Long userId);
 
 	/**
@@ -28,4 +33,22 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 	 * @return true if the user has made a booking for the flight, false otherwise
 	 */
 	boolean existsByUser_UserIdAndFlight_Id(Long userId, Long flightId);
+
+	/**
+	 * Counts the tickets booked on a specific flight.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the number of booked tickets
+	 */
+	@Query("SELECT COUNT(t) FROM BookedTicket t WHERE t.booking.flight.id = :flightId")
+	long countTicketsByFlightId(@Param("flightId") Long flightId);
+
+	/**
+	 * Sums the amount of all bookings made on a specific flight.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the total booked amount, zero if there are no bookings
+	 */
+	@Query("SELECT COALESCE(SUM(b.totalAmount), 0) FROM Booking b WHERE b.flight.id = :flightId")
+	BigDecimal sumAmountByFlightId(@Param("flightId") Long flightId);
 }
@@ -0,0 +1,98 @@
+package com.version1.frs.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.model.BookingSummary;
+
+/**
+ * Repository interface for the {@link BookingSummary} read model.
+ */
+public interface BookingSummaryRepository extends JpaRepository<BookingSummary, Long> {
+
+	/**
+	 * Retrieves a page of a customer's booking summaries, most recent first. Uses
+	 * the (USER_ID, BOOKING_TIME, BOOKING_ID) index and, being a {@link Slice},
+	 * runs no count query.
+	 *
+	 * @param userId   the ID of the customer
+	 * @param pageable the page to retrieve
+	 * @return the requested slice
+	 */
+	Slice<BookingSummary> findByUserIdOrderByBookingTimeDescBookingIdDesc(Long userId, Pageable pageable);
+
+	/**
+	 * Finds bookings that do not have a summary yet, e.g. bookings made before
+	 * the read model existed.
+	 *
+	 * @param pageable the batch to retrieve
+	 * @return IDs of bookings without a summary
+	 */
+	@Query("""
+			SELECT b.bookingId FROM Booking b
+			WHERE NOT EXISTS (SELECT s FROM BookingSummary s WHERE s.bookingId = b.bookingId)
+			ORDER BY b.bookingId
+			""")
+	List<Long> findBookingIdsWithoutSummary(Pageable pageable);
+
+	/**
+	 * Copies the schedule and airline of a flight into the summaries of all its
+	 * bookings.
+	 *
+	 * @param flightId      the ID of the flight
+	 * @param airline       the airline operating the flight
+	 * @param departureTime the departure time
+	 * @param arrivalTime   the arrival time
+	 * @return the number of summaries updated
+	 */
+	@Modifying
+	@Query("""
+			UPDATE BookingSummary s
+			   SET s.airline = :airline, s.departureTime = :departureTime, s.arrivalTime = :arrivalTime
+			 WHERE s.flightId = :flightId
+			""")
+	int updateFlight(@Param("flightId") Long flightId, @Param("airline") String airline,
+			@Param("departureTime") LocalDateTime departureTime, @Param("arrivalTime") LocalDateTime arrivalTime);
+
+	/**
+	 * Copies the code and name of an airport into the summaries of bookings
+	 * departing from it.
+	 *
+	 * @param airportId the ID of the airport
+	 * @param code      the airport code
+	 * @param name      the airport name
+	 * @return the number of summaries updated
+	 */
+	@Modifying
+	@Query("""
+			UPDATE BookingSummary s
+			   SET s.fromAirportCode = :code, s.fromAirportName = :name
+			 WHERE s.fromAirportId = :airportId
+			""")
+	int updateFromAirport(@Param("airportId") Long airportId, @Param("code") String code,
+			@Param("name") String name);
+
+	/**
+	 * Copies the code and name of an airport into the summaries of bookings
+	 * arriving at it.
+	 *
+	 * @param airportId the ID of the airport
+	 * @param code      the airport code
+	 * @param name      the airport name
+	 * @return the number of summaries updated
+	 */
+	@Modifying
+	@Query("""
+			UPDATE BookingSummary s
+			   SET s.toAirportCode = :code, s.toAirportName = :name
+			 WHERE s.toAirportId = :airportId
+			""")
+	int updateToAirport(@Param("airportId") Long airportId, @Param("code") String code, @Param("name") String name);
+}
@@ -0,0 +1,134 @@
+package com.version1.frs.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+/**
+ * Bulk moves of departed flights and their bookings, tickets and reviews into
+ * the archive tables. Every step is a single set-based INSERT ... SELECT or
+ * DELETE over a chunk of flight IDs, so no entities are loaded. Waitlist
+ * entries and seat maps of the flights are dropped; booking summaries, ticket
+ * documents and the analytics and rating rollups are kept, as they do not
+ * reference the live tables.
+ */
+@Repository
+public class FlightArchiveRepository {
+
+	/**
+	 * Rows moved for one chunk of flights.
+	 *
+	 * @param flights  the number of flights archived
+	 * @param bookings the number of bookings archived
+	 * @param tickets  the number of tickets archived
+	 * @param reviews  the number of reviews archived
+	 */
+	public record MovedRows(int flights, int bookings, int tickets, int reviews) {
+	}
+
+	private final EntityManager entityManager;
+
+	// Constructor injection for dependencies
+	public FlightArchiveRepository(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	/**
+	 * Retrieves the IDs of flights that departed before a cutoff, oldest IDs
+	 * first.
+	 *
+	 * @param cutoff the departure time before which flights are archived
+	 * @param limit  the maximum number of IDs
+	 * @return the flight IDs
+	 */
+	public List<Long> findDepartedFlightIds(LocalDateTime cutoff, int limit) {
+		return entityManager
+				.createQuery("SELECT f.id FROM Flight f WHERE f.departureTime < :cutoff ORDER BY f.id", Long.class)
+				.setParameter("cutoff", cutoff).setMaxResults(limit).getResultList();
+	}
+
+	/**
+	 * Retrieves the IDs of the reviews of some flights.
+	 *
+	 * @param flightIds the flight IDs
+	 * @return the review IDs
+	 */
+	public List<Long> findReviewIds(List<Long> flightIds) {
+		return entityManager.createQuery("SELECT r.reviewId FROM Review r WHERE r.flight.id IN :ids", Long.class)
+				.setParameter("ids", flightIds).getResultList();
+	}
+
+	/**
+	 * Copies the flights and their bookings, tickets and reviews into the archive
+	 * tables and deletes them from the live tables. Must be called inside a
+	 * transaction; if any live row was not copied, e.g. because it was added
+	 * concurrently, the move fails and the transaction must be rolled back.
+	 *
+	 * @param flightIds  the IDs of departed flights
+	 * @param archivedAt the archive time recorded on the flights
+	 * @return the number of rows moved per table
+	 * @throws RuntimeException if the copied and deleted row counts differ
+	 */
+	public MovedRows moveToArchive(List<Long> flightIds, LocalDateTime archivedAt) {
+		int flights = update("""
+				INSERT INTO ArchivedFlight (id, airplaneId, departureTime, arrivalTime, fromAirportId, toAirportId,
+				       price, airline, archivedAt)
+				SELECT f.id, f.airplane.airplaneId, f.departureTime, f.arrivalTime, f.fromAirport.id, f.toAirport.id,
+				       f.price, f.airline, :archivedAt
+				  FROM Flight f
+				 WHERE f.id IN :ids
+				""", flightIds, archivedAt);
+		int bookings = update("""
+				INSERT INTO ArchivedBooking (bookingId, userId, flightId, bookingTime, totalAmount)
+				SELECT b.bookingId, b.user.userId, b.flight.id, b.bookingTime, b.totalAmount
+				  FROM Booking b
+				 WHERE b.flight.id IN :ids
+				""", flightIds, null);
+		int tickets = update("""
+				INSERT INTO ArchivedTicket (ticketId, bookingId, passengerName, passengerAge, passengerGender,
+				       seatNumber)
+				SELECT t.ticketId, t.booking.bookingId, t.passengerName, t.passengerAge, t.passengerGender,
+				       t.seatNumber
+				  FROM BookedTicket t
+				 WHERE t.booking.flight.id IN :ids
+				""", flightIds, null);
+		int reviews = update("""
+				INSERT INTO ArchivedReview (reviewId, userId, flightId, rating, reviewText)
+				SELECT r.reviewId, r.user.userId, r.flight.id, r.rating, r.reviewText
+				  FROM Review r
+				 WHERE r.flight.id IN :ids
+				""", flightIds, null);
+
+		int deletedTickets = update("""
+				DELETE FROM BookedTicket t
+				 WHERE t.booking.bookingId IN (SELECT b.bookingId FROM Booking b WHERE b.flight.id IN :ids)
+				""", flightIds, null);
+		int deletedBookings = update("DELETE FROM Booking b WHERE b.flight.id IN :ids", flightIds, null);
+		int deletedReviews = update("DELETE FROM Review r WHERE r.flight.id IN :ids", flightIds, null);
+		update("""
+				DELETE FROM WaitlistPassenger p
+				 WHERE p.entry.waitlistId IN (SELECT w.waitlistId FROM WaitlistEntry w WHERE w.flight.id IN :ids)
+				""", flightIds, null);
+		update("DELETE FROM WaitlistEntry w WHERE w.flight.id IN :ids", flightIds, null);
+		update("DELETE FROM FlightSeatMap m WHERE m.flightId IN :ids", flightIds, null);
+		int deletedFlights = update("DELETE FROM Flight f WHERE f.id IN :ids", flightIds, null);
+
+		if (deletedFlights != flights || deletedBookings != bookings || deletedTickets != tickets
+				|| deletedReviews != reviews) {
+			throw new RuntimeException("Archive copy and delete counts differ for flights " + flightIds);
+		}
+		return new MovedRows(flights, bookings, tickets, reviews);
+	}
+
+	private int update(String hql, List<Long> flightIds, LocalDateTime archivedAt) {
+		Query query = entityManager.createQuery(hql).setParameter("ids", flightIds);
+		if (archivedAt != null) {
+			query.setParameter("archivedAt", archivedAt);
+		}
+		return query.executeUpdate();
+	}
+}
@@ -0,0 +1,70 @@
+package com.version1.frs.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.dto.AirlineRatingResponse;
+import com.version1.frs.model.Flight;
+import com.version1.frs.model.FlightRating;
+
+/**
+ * Repository interface for managing {@link FlightRating} rollup rows. Provides
+ * the atomic delta update used when a review is posted and the airline rollup
+ * derived from the per-flight rows.
+ */
+public interface FlightRatingRepository extends JpaRepository<FlightRating, Long> {
+
+	/**
+	 * Atomically adds one review to a flight's rollup.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param rating   the rating of the review
+	 * @param stars    the histogram bucket of the rating, 1 to 5
+	 * @return the number of rows updated; 0 if the flight has no rollup yet
+	 */
+	@Modifying
+	@Query("""
+			UPDATE FlightRating r
+			   SET r.reviewCount = r.reviewCount + 1,
+			       r.ratingSum   = r.ratingSum + :rating,
+			       r.oneStar     = r.oneStar    + CASE WHEN :stars = 1 THEN 1 ELSE 0 END,
+			       r.twoStars    = r.twoStars   + CASE WHEN :stars = 2 THEN 1 ELSE 0 END,
+			       r.threeStars  = r.threeStars + CASE WHEN :stars = 3 THEN 1 ELSE 0 END,
+			       r.fourStars   = r.fourStars  + CASE WHEN :stars = 4 THEN 1 ELSE 0 END,
+			       r.fiveStars   = r.fiveStars  + CASE WHEN :stars = 5 THEN 1 ELSE 0 END
+			 WHERE r.flightId    = :flightId
+			""")
+	int applyReview(@Param("flightId") Long flightId, @Param("rating") double rating, @Param("stars") int stars);
+
+	/**
+	 * Summarizes ratings per airline from the per-flight rollups.
+	 *
+	 * @return a list of per-airline rating figures, best average first
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.AirlineRatingResponse(r.airline, COUNT(r), SUM(r.reviewCount),
+			       SUM(r.ratingSum), SUM(r.oneStar), SUM(r.twoStars), SUM(r.threeStars),
+			       SUM(r.fourStars), SUM(r.fiveStars))
+			  FROM FlightRating r
+			 GROUP BY r.airline
+			 ORDER BY SUM(r.ratingSum) / SUM(r.reviewCount) DESC
+			""")
+	List<AirlineRatingResponse> summarizeByAirline();
+
+	/**
+	 * Retrieves flights that have reviews but no rating rollup yet, e.g. because
+	 * they were reviewed before rollups existed.
+	 *
+	 * @return a list of flights without rating rollups
+	 */
+	@Query("""
+			SELECT f FROM Flight f
+			 WHERE EXISTS (SELECT v FROM Review v WHERE v.flight = f)
+			   AND NOT EXISTS (SELECT r FROM FlightRating r WHERE r.flightId = f.id)
+			""")
+	List<Flight> findReviewedFlightsWithoutRating();
+}
@@ -2,40 +2,57 @@
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.version1.frs.model.Flight;
 
+import jakarta.persistence.LockModeType;
+
 /**
  * Repository interface for managing {@link Flight} entities. Provides standard
  * CRUD operations along with custom query methods for filtering flights based
- * on criteria like source, destination, and time.
+ * on criteria like source, destination, and time. Searches with sorting and
+ * pagination are provided by {@link FlightSearchRepository}.
  */
-public interface FlightRepository extends JpaRepository<Flight, Long> {
+public interface FlightRepository extends JpaRepository<Flight, Long>, FlightSearchRepository {
 
 	/**
-	 * Searches for flights based on optional filters like source airport,
-	 * destination airport, and departure time window.
+	 * Retrieves a flight with its airports if it has not departed yet.
 	 *
-	 * @param sourceId      the ID of the source airport (nullable)
-	 * @param destinationId the ID of the destination airport (nullable)
-	 * @param startOfDay    the earliest allowed departure time (nullable)
-	 * @param endOfDay      the latest allowed departure time (nullable)
-	 * @return a list of matching {@link Flight} entities
+	 * @param id  the ID of the flight
+	 * @param now the lower bound for departure time
+	 * @return the {@link Flight} entity, or empty if it does not exist or has
+	 *         departed
 	 */
 	@Query("""
 			    SELECT f
 			      FROM Flight f
-			     WHERE (:sourceId       IS NULL OR f.fromAirport.id    = :sourceId)
-			       AND (:destinationId  IS NULL OR f.toAirport.id      = :destinationId)
-			       AND (:startOfDay     IS NULL OR f.departureTime    >= :startOfDay)
-			       AND (:endOfDay       IS NULL OR f.departureTime    <= :endOfDay)
+			      JOIN FETCH f.fromAirport
+			      JOIN FETCH f.toAirport
+			     WHERE f.id = :id
+			       AND f.departureTime > :now
 			""")
-	List<Flight> searchFlights(@Param("sourceId") Long sourceId, @Param("destinationId") Long destinationId,
-			@Param("startOfDay") LocalDateTime startOfDay, @Param("endOfDay") LocalDateTime endOfDay);
+	Optional<Flight> findUpcomingById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	/**
+	 * Checks whether a flight exists and has not departed yet.
+	 *
+	 * @param id  the ID of the flight
+	 * @param now the lower bound for departure time
+	 * @return true if the flight is upcoming
+	 */
+	@Query("""
+			    SELECT CASE WHEN COUNT(f) > 0 THEN true ELSE false END
+			      FROM Flight f
+			     WHERE f.id = :id
+			       AND f.departureTime > :now
+			""")
+	boolean existsUpcomingById(@Param("id") Long id, @Param("now") LocalDateTime now);
 
 	/**
 	 * Retrieves all flights with a departure time after the specified time.
@@ -44,4 +61,32 @@ List<Flight> searchFlights(@Param("sourceId") Long sourceId, @Param("destination
 	 * @return a list of future {@link Flight} entities
 	 */
 	List<Flight> findByDepartureTimeAfter(LocalDateTime now);
+
+	/**
+	 * Retrieves all flights that do not have a {@link com.version1.frs.model.FlightStats}
+	 * rollup yet.
+	 *
+	 * @return a list of flights without analytics rollups
+	 */
+	@Query("SELECT f FROM Flight f WHERE NOT EXISTS (SELECT s FROM FlightStats s WHERE s.flightId = f.id)")
+	List<Flight> findFlightsWithoutStats();
+
+	/**
+	 * Retrieves the IDs of all flights operated by an airline, ignoring case.
+	 *
+	 * @param airline the airline name
+	 * @return the flight IDs
+	 */
+	@Query("SELECT f.id FROM Flight f WHERE UPPER(f.airline) = UPPER(:airline)")
+	List<Long> findIdsByAirline(@Param("airline") String airline);
+
+	/**
+	 * Retrieves a flight and locks its row for the rest of the transaction.
+	 *
+	 * @param id the ID of the flight
+	 * @return an Optional containing the locked flight, or empty if none exists
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT f FROM Flight f WHERE f.id = :id")
+	Optional<Flight> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,58 @@
+package com.version1.frs.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.version1.frs.model.Flight;
+
+/**
+ * Custom repository fragment for flight searches whose filters, sort order and
+ * page are all applied by the database, so only the requested page of flights
+ * is loaded.
+ */
+public interface FlightSearchRepository {
+
+	/**
+	 * Sort keys for flight searches. Ties are broken by flight ID so that pages
+	 * do not overlap.
+	 */
+	enum SortKey {
+		PRICE, DEPARTURE, DURATION
+	}
+
+	/**
+	 * Search filters; null fields and empty sets do not filter.
+	 *
+	 * @param sourceIds      the IDs of the source airports
+	 * @param destinationIds the IDs of the destination airports
+	 * @param departAfter    the earliest departure time, exclusive
+	 * @param departBefore   the latest departure time, inclusive
+	 * @param airlines       the airlines to include, matched ignoring case
+	 * @param maxPrice       the highest price to include
+	 * @param bandStart      the start of the time-of-day band of the departure,
+	 *                       inclusive
+	 * @param bandEnd        the end of the time-of-day band of the departure,
+	 *                       inclusive; a band ending before it starts wraps past
+	 *                       midnight
+	 */
+	record Criteria(Collection<Long> sourceIds, Collection<Long> destinationIds, LocalDateTime departAfter, LocalDateTime departBefore,
+			Set<String> airlines, BigDecimal maxPrice, LocalTime bandStart, LocalTime bandEnd) {
+	}
+
+	/**
+	 * Searches for flights matching the criteria, sorted and paginated in the
+	 * query. Airports are fetched in the same query.
+	 *
+	 * @param criteria   the search filters
+	 * @param sortKey    the sort key
+	 * @param descending whether to sort in descending order
+	 * @param offset     the number of flights to skip
+	 * @param limit      the maximum number of flights to return, or 0 for all
+	 * @return the matching {@link Flight} entities in sort order
+	 */
+	List<Flight> searchFlightsSorted(Criteria criteria, SortKey sortKey, boolean descending, int offset, int limit);
+}
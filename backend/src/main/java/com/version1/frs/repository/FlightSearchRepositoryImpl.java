@@ -0,0 +1,95 @@
+package com.version1.frs.repository;
+
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.version1.frs.model.Flight;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+/**
+ * Builds the flight search query from the criteria that are set, so the
+ * database only sees predicates it can use: no {@code :param IS NULL OR}
+ * branches that keep it from using the route and departure index. Duration
+ * and time-of-day are computed with HQL's portable datetime arithmetic.
+ */
+public class FlightSearchRepositoryImpl implements FlightSearchRepository {
+
+	/** Departure time of day in minutes after midnight. */
+	private static final String MINUTE_OF_DAY = "(extract(hour from f.departureTime) * 60"
+			+ " + extract(minute from f.departureTime))";
+
+	private final EntityManager entityManager;
+
+	// Constructor injection for dependencies
+	public FlightSearchRepositoryImpl(EntityManager entityManager) {
+		this.entityManager = entityManager;
+	}
+
+	@Override
+	public List<Flight> searchFlightsSorted(Criteria criteria, SortKey sortKey, boolean descending, int offset,
+			int limit) {
+		StringBuilder hql = new StringBuilder(
+				"SELECT f FROM Flight f JOIN FETCH f.fromAirport JOIN FETCH f.toAirport WHERE 1 = 1");
+		Map<String, Object> params = new HashMap<>();
+
+		if (criteria.sourceIds() != null && !criteria.sourceIds().isEmpty()) {
+			hql.append(" AND f.fromAirport.id IN :sourceIds");
+			params.put("sourceIds", criteria.sourceIds());
+		}
+		if (criteria.destinationIds() != null && !criteria.destinationIds().isEmpty()) {
+			hql.append(" AND f.toAirport.id IN :destinationIds");
+			params.put("destinationIds", criteria.destinationIds());
+		}
+		if (criteria.departAfter() != null) {
+			hql.append(" AND f.departureTime > :departAfter");
+			params.put("departAfter", criteria.departAfter());
+		}
+		if (criteria.departBefore() != null) {
+			hql.append(" AND f.departureTime <= :departBefore");
+			params.put("departBefore", criteria.departBefore());
+		}
+		if (criteria.airlines() != null && !criteria.airlines().isEmpty()) {
+			hql.append(" AND UPPER(f.airline) IN :airlines");
+			params.put("airlines", criteria.airlines().stream().map(airline -> airline.toUpperCase(Locale.ROOT))
+					.collect(Collectors.toList()));
+		}
+		if (criteria.maxPrice() != null) {
+			hql.append(" AND f.price <= :maxPrice");
+			params.put("maxPrice", criteria.maxPrice());
+		}
+		if (criteria.bandStart() != null || criteria.bandEnd() != null) {
+			int start = minuteOfDay(criteria.bandStart() != null ? criteria.bandStart() : LocalTime.MIN);
+			int end = minuteOfDay(criteria.bandEnd() != null ? criteria.bandEnd() : LocalTime.MAX);
+			String operator = start <= end ? " AND " : " OR ";
+			hql.append(" AND (").append(MINUTE_OF_DAY).append(" >= :bandStart").append(operator)
+					.append(MINUTE_OF_DAY).append(" <= :bandEnd)");
+			params.put("bandStart", start);
+			params.put("bandEnd", end);
+		}
+
+		String direction = descending ? " DESC" : " ASC";
+		hql.append(" ORDER BY ").append(switch (sortKey) {
+		case PRICE -> "f.price";
+		case DEPARTURE -> "f.departureTime";
+		case DURATION -> "((f.arrivalTime - f.departureTime) by second)";
+		}).append(direction).append(", f.id").append(direction);
+
+		TypedQuery<Flight> query = entityManager.createQuery(hql.toString(), Flight.class);
+		params.forEach(query::setParameter);
+		query.setFirstResult(offset);
+		if (limit > 0) {
+			query.setMaxResults(limit);
+		}
+		return query.getResultList();
+	}
+
+	private static int minuteOfDay(LocalTime time) {
+		return time.getHour() * 60 + time.getMinute();
+	}
+}
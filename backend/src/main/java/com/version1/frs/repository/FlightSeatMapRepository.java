@@ -0,0 +1,63 @@
+package com.version1.frs.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.model.FlightSeatMap;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * Repository interface for managing {@link FlightSeatMap} entities. Seat
+ * assignment reads the seat map with a row lock so that concurrent bookings on
+ * the same flight are serialized.
+ */
+public interface FlightSeatMapRepository extends JpaRepository<FlightSeatMap, Long> {
+
+	/**
+	 * Retrieves the seat map of a flight and locks it for the rest of the
+	 * transaction.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return an Optional containing the locked seat map, or empty if none exists
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT m FROM FlightSeatMap m WHERE m.flightId = :flightId")
+	Optional<FlightSeatMap> findByIdForUpdate(@Param("flightId") Long flightId);
+
+	/**
+	 * Checks whether any flight operated by the given airplane already has
+	 * occupied seats.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 * @return true if at least one seat is occupied on one of its flights
+	 */
+	@Query("""
+			SELECT COUNT(m) > 0
+			  FROM FlightSeatMap m, Flight f
+			 WHERE f.id = m.flightId
+			   AND f.airplane.airplaneId = :airplaneId
+			   AND m.occupiedCount > 0
+			""")
+	boolean existsOccupiedForAirplane(@Param("airplaneId") Long airplaneId);
+
+	/**
+	 * Retrieves the IDs of upcoming flights that do not have a seat map yet.
+	 *
+	 * @param now the lower bound for departure time
+	 * @return a list of flight IDs
+	 */
+	@Query("""
+			SELECT f.id
+			  FROM Flight f
+			 WHERE f.departureTime > :now
+			   AND NOT EXISTS (SELECT m FROM FlightSeatMap m WHERE m.flightId = f.id)
+			""")
+	List<Long> findUpcomingFlightIdsWithoutSeatMap(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,108 @@
+package com.version1.frs.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.dto.AircraftUtilizationResponse;
+import com.version1.frs.dto.AirlineStatsResponse;
+import com.version1.frs.dto.RouteStatsResponse;
+import com.version1.frs.model.FlightStats;
+
+/**
+ * Repository interface for managing {@link FlightStats} rollup rows. Provides
+ * an atomic delta update used by the booking paths and the grouped queries
+ * behind the analytics endpoints.
+ */
+public interface FlightStatsRepository extends JpaRepository<FlightStats, Long> {
+
+	/**
+	 * Atomically adds the given ticket and revenue deltas to a flight's rollup.
+	 * Negative deltas are used for cancellations.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param tickets  the number of tickets to add
+	 * @param amount   the revenue to add
+	 * @return the number of rows updated, 0 if the flight has no rollup yet
+	 */
+	@Modifying
+	@Query("""
+			UPDATE FlightStats s
+			   SET s.ticketsSold = s.ticketsSold + :tickets,
+			       s.revenue     = s.revenue + :amount
+			 WHERE s.flightId    = :flightId
+			""")
+	int applyDelta(@Param("flightId") Long flightId, @Param("tickets") int tickets,
+			@Param("amount") BigDecimal amount);
+
+	/**
+	 * Sets the capacity of the rollups of all flights operated by an airplane.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 * @param capacity   the new seat capacity
+	 * @return the number of rows updated
+	 */
+	@Modifying
+	@Query("UPDATE FlightStats s SET s.capacity = :capacity WHERE s.airplaneId = :airplaneId")
+	int updateCapacity(@Param("airplaneId") Long airplaneId, @Param("capacity") int capacity);
+
+	/**
+	 * Retrieves the rollups of all flights departing within the given days,
+	 * ordered by departure day.
+	 *
+	 * @param from the first departure day (inclusive)
+	 * @param to   the last departure day (inclusive)
+	 * @return a list of flight rollups
+	 */
+	List<FlightStats> findByDepartureDateBetweenOrderByDepartureDateAscFlightIdAsc(LocalDate from, LocalDate to);
+
+	/**
+	 * Summarizes load and revenue per route (departure and arrival airport).
+	 *
+	 * @return one summary per route
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.RouteStatsResponse(s.fromAirportId, s.toAirportId, COUNT(s),
+			       SUM(s.ticketsSold), SUM(s.capacity), SUM(s.revenue))
+			  FROM FlightStats s
+			 GROUP BY s.fromAirportId, s.toAirportId
+			 ORDER BY SUM(s.revenue) DESC
+			""")
+	List<RouteStatsResponse> summarizeByRoute();
+
+	/**
+	 * Summarizes load and revenue per airline.
+	 *
+	 * @return one summary per airline
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.AirlineStatsResponse(s.airline, COUNT(s),
+			       SUM(s.ticketsSold), SUM(s.capacity), SUM(s.revenue))
+			  FROM FlightStats s
+			 GROUP BY s.airline
+			 ORDER BY SUM(s.revenue) DESC
+			""")
+	List<AirlineStatsResponse> summarizeByAirline();
+
+	/**
+	 * Summarizes scheduled block time per airplane and departure day.
+	 *
+	 * @param from the first departure day (inclusive)
+	 * @param to   the last departure day (inclusive)
+	 * @return one utilization entry per airplane and day
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.AircraftUtilizationResponse(s.airplaneId, s.departureDate, COUNT(s),
+			       SUM(s.blockMinutes))
+			  FROM FlightStats s
+			 WHERE s.departureDate BETWEEN :from AND :to
+			 GROUP BY s.airplaneId, s.departureDate
+			 ORDER BY s.departureDate, s.airplaneId
+			""")
+	List<AircraftUtilizationResponse> summarizeUtilization(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
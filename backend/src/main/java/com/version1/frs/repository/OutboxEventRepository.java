@@ -0,0 +1,93 @@
+package com.version1.frs.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.model.OutboxEvent;
+
+/**
+ * Repository interface for managing {@link OutboxEvent} entities.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * Retrieves the oldest pending events that are due for delivery, in delivery
+	 * order. Events waiting for a retry or claimed by a dispatcher are skipped,
+	 * and so is every event that has an earlier pending or dead event on the same
+	 * aggregate, so a batch never fills up with events that cannot be delivered
+	 * yet and later events never overtake one that gave up.
+	 *
+	 * @param now   the current time
+	 * @param limit the maximum number of events to return
+	 * @return the events ordered by ID
+	 */
+	@Query("""
+			SELECT e FROM OutboxEvent e
+			 WHERE e.status = 'PENDING'
+			   AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+			   AND NOT EXISTS (SELECT 1 FROM OutboxEvent p
+			                    WHERE p.status IN ('PENDING', 'DEAD')
+			                      AND p.aggregateType = e.aggregateType
+			                      AND p.aggregateId = e.aggregateId
+			                      AND p.eventId < e.eventId)
+			 ORDER BY e.eventId ASC
+			""")
+	List<OutboxEvent> findDue(@Param("now") LocalDateTime now, Limit limit);
+
+	/**
+	 * Claims a due event for delivery by moving its next attempt time to the end
+	 * of a lease. Only one dispatcher can claim an event; the others update no
+	 * row and skip it.
+	 *
+	 * @param eventId    the ID of the event
+	 * @param now        the current time
+	 * @param leaseUntil the end of the lease
+	 * @return 1 if the event was claimed, otherwise 0
+	 */
+	@Modifying
+	@Query("""
+			UPDATE OutboxEvent e
+			   SET e.nextAttemptAt = :leaseUntil
+			 WHERE e.eventId = :eventId
+			   AND e.status = 'PENDING'
+			   AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)
+			""")
+	int claim(@Param("eventId") Long eventId, @Param("now") LocalDateTime now,
+			@Param("leaseUntil") LocalDateTime leaseUntil);
+
+	/**
+	 * Marks a claimed event as delivered, provided the lease has not been taken
+	 * over by another dispatcher.
+	 *
+	 * @param eventId     the ID of the event
+	 * @param leaseUntil  the end of the lease it was claimed with
+	 * @param processedAt the delivery time
+	 * @return 1 if the event was marked, otherwise 0
+	 */
+	@Modifying
+	@Query("""
+			UPDATE OutboxEvent e
+			   SET e.status = 'DONE', e.processedAt = :processedAt, e.lastError = NULL
+			 WHERE e.eventId = :eventId
+			   AND e.status = 'PENDING'
+			   AND e.nextAttemptAt = :leaseUntil
+			""")
+	int complete(@Param("eventId") Long eventId, @Param("leaseUntil") LocalDateTime leaseUntil,
+			@Param("processedAt") LocalDateTime processedAt);
+
+	/**
+	 * Deletes delivered events processed before a cutoff.
+	 *
+	 * @param cutoff the processing time before which events are deleted
+	 * @return the number of deleted events
+	 */
+	@Modifying
+	@Query("DELETE FROM OutboxEvent e WHERE e.status = 'DONE' AND e.processedAt < :cutoff")
+	int deleteDoneBefore(@Param("cutoff") LocalDateTime cutoff);
+}
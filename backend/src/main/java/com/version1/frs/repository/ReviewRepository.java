@@ -1,9 +1,15 @@
 package com.version1.frs.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.version1.frs.dto.ReviewResponse;
 import com.version1.frs.model.Review;
 
 /**
@@ -28,6 +34,89 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
 	 */
 	List<Review> findByUser_UserId(Long userId);
 
+	/**
+	 * Retrieves a page of all reviews, most recent first. Only the columns of
+	 * {@link ReviewResponse} are selected; users and flights are not loaded.
+	 *
+	 * @param pageable the page to retrieve
+	 * @return the requested slice
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.ReviewResponse(r.reviewId, r.user.userId, r.flight.id, r.rating,
+			       r.reviewText)
+			  FROM Review r
+			 ORDER BY r.reviewId DESC
+			""")
+	Slice<ReviewResponse> findRecent(Pageable pageable);
+
+	/**
+	 * Retrieves a page of a flight's reviews, most recent first, using the
+	 * (FLIGHT_ID, REVIEW_ID) index.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param pageable the page to retrieve
+	 * @return the requested slice
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.ReviewResponse(r.reviewId, r.user.userId, r.flight.id, r.rating,
+			       r.reviewText)
+			  FROM Review r
+			 WHERE r.flight.id = :flightId
+			 ORDER BY r.reviewId DESC
+			""")
+	Slice<ReviewResponse> findRecentByFlightId(@Param("flightId") Long flightId, Pageable pageable);
+
+	/**
+	 * Retrieves a page of a user's reviews, most recent first, using the
+	 * (USER_ID, REVIEW_ID) index.
+	 *
+	 * @param userId   the ID of the user
+	 * @param pageable the page to retrieve
+	 * @return the requested slice
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.ReviewResponse(r.reviewId, r.user.userId, r.flight.id, r.rating,
+			       r.reviewText)
+			  FROM Review r
+			 WHERE r.user.userId = :userId
+			 ORDER BY r.reviewId DESC
+			""")
+	Slice<ReviewResponse> findRecentByUserId(@Param("userId") Long userId, Pageable pageable);
+
+	/**
+	 * Retrieves the given reviews as {@link ReviewResponse} projections, in no
+	 * particular order.
+	 *
+	 * @param ids the review IDs
+	 * @return the reviews that exist
+	 */
+	@Query("""
+			SELECT new com.version1.frs.dto.ReviewResponse(r.reviewId, r.user.userId, r.flight.id, r.rating,
+			       r.reviewText)
+			  FROM Review r
+			 WHERE r.reviewId IN :ids
+			""")
+	List<ReviewResponse> findResponsesByIds(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Retrieves the IDs of all reviews, used to find reviews missing from the
+	 * search index.
+	 *
+	 * @return the review IDs
+	 */
+	@Query("SELECT r.reviewId FROM Review r")
+	List<Long> findAllReviewIds();
+
+	/**
+	 * Retrieves only the ratings of all reviews for a flight, used to seed its
+	 * rating rollup.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the ratings of the flight's reviews
+	 */
+	@Query("SELECT r.rating FROM Review r WHERE r.flight.id = :flightId")
+	List<Float> findRatingsByFlightId(@Param("flightId") Long flightId);
+
 	/**
 	 * Optional utility method to check if a user has already reviewed a flight.
 	 * This can be used to prevent duplicate reviews in your service or controller
@@ -0,0 +1,34 @@
+package com.version1.frs.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.model.TableVersion;
+
+/**
+ * Repository interface for managing {@link TableVersion} change counters.
+ */
+public interface TableVersionRepository extends JpaRepository<TableVersion, String> {
+
+	/**
+	 * Atomically increments the change counter of a table.
+	 *
+	 * @param tableName the name of the table
+	 * @return the number of rows updated; 0 if the table has no counter yet
+	 */
+	@Modifying
+	@Query("UPDATE TableVersion v SET v.version = v.version + 1 WHERE v.tableName = :tableName")
+	int increment(@Param("tableName") String tableName);
+
+	/**
+	 * Reads the change counter of a table from the database, bypassing the
+	 * persistence context.
+	 *
+	 * @param tableName the name of the table
+	 * @return the version, or null if the table has no counter yet
+	 */
+	@Query("SELECT v.version FROM TableVersion v WHERE v.tableName = :tableName")
+	Long findVersion(@Param("tableName") String tableName);
+}
@@ -0,0 +1,51 @@
+package com.version1.frs.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.model.TicketDocument;
+
+/**
+ * Repository interface for managing {@link TicketDocument} entities, which map
+ * bookings to their rendered ticket files.
+ */
+public interface TicketDocumentRepository extends JpaRepository<TicketDocument, Long> {
+
+	/**
+	 * Checks whether any booking still refers to a ticket file.
+	 *
+	 * @param contentHash the content hash of the file
+	 * @return true if the file is still in use
+	 */
+	boolean existsByContentHash(String contentHash);
+
+	/**
+	 * Retrieves the rendered tickets of all bookings on a flight.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the ticket rows
+	 */
+	@Query("""
+			SELECT d FROM TicketDocument d
+			 WHERE d.bookingId IN (SELECT b.bookingId FROM Booking b WHERE b.flight.id = :flightId)
+			""")
+	List<TicketDocument> findByFlightId(@Param("flightId") Long flightId);
+
+	/**
+	 * Retrieves the rendered tickets of all bookings on flights from or to an
+	 * airport.
+	 *
+	 * @param airportId the ID of the airport
+	 * @return the ticket rows
+	 */
+	@Query("""
+			SELECT d FROM TicketDocument d
+			 WHERE d.bookingId IN (SELECT b.bookingId FROM Booking b
+			                        WHERE b.flight.fromAirport.id = :airportId
+			                           OR b.flight.toAirport.id = :airportId)
+			""")
+	List<TicketDocument> findByAirportId(@Param("airportId") Long airportId);
+}
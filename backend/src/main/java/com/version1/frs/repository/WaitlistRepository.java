@@ -0,0 +1,75 @@
+package com.version1.frs.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.version1.frs.model.WaitlistEntry;
+
+/**
+ * Repository interface for managing {@link WaitlistEntry} entities. Provides
+ * queue-ordered lookups used when promoting customers into bookings.
+ */
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+	/**
+	 * Retrieves the head of a flight's waitlist.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param status   the entry status, normally {@link WaitlistEntry#WAITING}
+	 * @param limit    the maximum number of entries to return
+	 * @return the entries in queue order
+	 */
+	List<WaitlistEntry> findByFlight_IdAndStatusOrderByWaitlistIdAsc(Long flightId, String status, Limit limit);
+
+	/**
+	 * Retrieves all waitlist entries of a flight in queue order.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the entries of the flight
+	 */
+	List<WaitlistEntry> findByFlight_IdOrderByWaitlistIdAsc(Long flightId);
+
+	/**
+	 * Retrieves the waitlist entries of a customer, most recent first.
+	 *
+	 * @param userId the ID of the customer
+	 * @return the customer's entries
+	 */
+	List<WaitlistEntry> findByUser_UserIdOrderByWaitlistIdDesc(Long userId);
+
+	/**
+	 * Checks whether a customer is already waiting for a flight.
+	 *
+	 * @param userId   the ID of the customer
+	 * @param flightId the ID of the flight
+	 * @param status   the entry status
+	 * @return true if a matching entry exists
+	 */
+	boolean existsByUser_UserIdAndFlight_IdAndStatus(Long userId, Long flightId, String status);
+
+	/**
+	 * Counts the entries ahead of a given entry in its flight's queue.
+	 *
+	 * @param flightId   the ID of the flight
+	 * @param waitlistId the ID of the entry
+	 * @return the number of waiting entries that joined earlier
+	 */
+	@Query("""
+			SELECT COUNT(w) FROM WaitlistEntry w
+			WHERE w.flight.id = :flightId AND w.status = 'WAITING' AND w.waitlistId < :waitlistId
+			""")
+	long countAhead(@Param("flightId") Long flightId, @Param("waitlistId") Long waitlistId);
+
+	/**
+	 * Finds the flights that still have customers waiting, used to resume
+	 * promotion after a restart.
+	 *
+	 * @return the IDs of flights with waiting entries
+	 */
+	@Query("SELECT DISTINCT w.flight.id FROM WaitlistEntry w WHERE w.status = 'WAITING'")
+	List<Long> findFlightIdsWithWaitingEntries();
+}
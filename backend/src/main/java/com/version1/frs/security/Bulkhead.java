@@ -0,0 +1,103 @@
+package com.version1.frs.security;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.version1.frs.dto.BulkheadStatsResponse;
+
+/**
+ * Bounded concurrency limit with a bounded wait queue for one class of
+ * endpoints. Up to {@code maxConcurrent} requests run at a time, up to
+ * {@code maxQueued} more wait (in arrival order) for at most
+ * {@code maxWaitMillis}, and everything beyond that is rejected immediately.
+ */
+public class Bulkhead {
+
+	private final String name;
+	private final int maxConcurrent;
+	private final int maxQueued;
+	private final long maxWaitMillis;
+	private final Semaphore permits;
+	private final AtomicInteger queued = new AtomicInteger();
+	private final AtomicInteger peakQueued = new AtomicInteger();
+	private final LongAdder admitted = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder timedOut = new LongAdder();
+
+	public Bulkhead(String name, int maxConcurrent, int maxQueued, long maxWaitMillis) {
+		this.name = name;
+		this.maxConcurrent = maxConcurrent;
+		this.maxQueued = maxQueued;
+		this.maxWaitMillis = maxWaitMillis;
+		this.permits = new Semaphore(maxConcurrent, true);
+	}
+
+	/**
+	 * Tries to admit a request, waiting in the queue if all permits are taken
+	 * and the queue is not full. A successful call must be paired with
+	 * {@link #release()}.
+	 *
+	 * @return true if the request was admitted
+	 * @throws InterruptedException if the thread is interrupted while queued
+	 */
+	public boolean tryEnter() throws InterruptedException {
+		if (permits.tryAcquire()) {
+			admitted.increment();
+			return true;
+		}
+		int depth = queued.incrementAndGet();
+		try {
+			if (depth > maxQueued) {
+				rejected.increment();
+				return false;
+			}
+			peakQueued.accumulateAndGet(depth, Math::max);
+			if (permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS)) {
+				admitted.increment();
+				return true;
+			}
+			timedOut.increment();
+			rejected.increment();
+			return false;
+		} finally {
+			queued.decrementAndGet();
+		}
+	}
+
+	/**
+	 * Returns the permit of an admitted request.
+	 */
+	public void release() {
+		permits.release();
+	}
+
+	/**
+	 * Gets the name of the endpoint class guarded by this bulkhead.
+	 *
+	 * @return the bulkhead name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Suggests how long a rejected client should wait before retrying.
+	 *
+	 * @return the delay in whole seconds, at least one
+	 */
+	public long retryAfterSeconds() {
+		return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(maxWaitMillis));
+	}
+
+	/**
+	 * Captures the current counters.
+	 *
+	 * @return a {@link BulkheadStatsResponse} DTO
+	 */
+	public BulkheadStatsResponse stats() {
+		return new BulkheadStatsResponse(name, maxConcurrent, maxQueued, maxConcurrent - permits.availablePermits(),
+				Math.min(queued.get(), maxQueued), peakQueued.get(), admitted.sum(), rejected.sum(), timedOut.sum());
+	}
+}
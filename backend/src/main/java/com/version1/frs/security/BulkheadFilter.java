@@ -0,0 +1,117 @@
+package com.version1.frs.security;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.version1.frs.dto.BulkheadStatsResponse;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Admission control filter that isolates booking, wallet and search traffic
+ * from each other. Each endpoint class has its own {@link Bulkhead}, so a
+ * flood of booking requests during a fare sale fills only the booking queue
+ * and is rejected with 429 Too Many Requests, while searches keep their own
+ * share of request threads and database connections. The filter runs ahead of
+ * the security chain so that rejected requests cost no token validation or
+ * user lookup.
+ */
+@Component
+public class BulkheadFilter extends OncePerRequestFilter {
+
+	private final Bulkhead booking;
+	private final Bulkhead wallet;
+	private final Bulkhead search;
+
+	public BulkheadFilter(@Value("${bulkhead.booking.max-concurrent:10}") int bookingConcurrent,
+			@Value("${bulkhead.booking.max-queued:50}") int bookingQueued,
+			@Value("${bulkhead.wallet.max-concurrent:5}") int walletConcurrent,
+			@Value("${bulkhead.wallet.max-queued:20}") int walletQueued,
+			@Value("${bulkhead.search.max-concurrent:20}") int searchConcurrent,
+			@Value("${bulkhead.search.max-queued:100}") int searchQueued,
+			@Value("${bulkhead.max-wait-ms:2000}") long maxWaitMillis) {
+		this.booking = new Bulkhead("booking", bookingConcurrent, bookingQueued, maxWaitMillis);
+		this.wallet = new Bulkhead("wallet", walletConcurrent, walletQueued, maxWaitMillis);
+		this.search = new Bulkhead("search", searchConcurrent, searchQueued, maxWaitMillis);
+	}
+
+	@Override
+	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull FilterChain filterChain) throws ServletException, IOException {
+
+		Bulkhead bulkhead = classify(request);
+		if (bulkhead == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		boolean admitted;
+		try {
+			admitted = bulkhead.tryEnter();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			admitted = false;
+		}
+		if (!admitted) {
+			reject(response, bulkhead);
+			return;
+		}
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	/**
+	 * Captures the counters of all bulkheads.
+	 *
+	 * @return a list of {@link BulkheadStatsResponse} DTOs
+	 */
+	public List<BulkheadStatsResponse> getStats() {
+		return List.of(booking, wallet, search).stream().map(Bulkhead::stats).collect(Collectors.toList());
+	}
+
+	/**
+	 * Maps a request to its endpoint class.
+	 *
+	 * @param request the incoming HTTP request
+	 * @return the bulkhead guarding the request, or null if it is not limited
+	 */
+	private Bulkhead classify(HttpServletRequest request) {
+		String path = request.getServletPath();
+		String method = request.getMethod();
+		if ("OPTIONS".equals(method)) {
+			return null;
+		}
+		if (path.startsWith("/api/bookings") || path.startsWith("/api/waitlist")) {
+			return "GET".equals(method) ? null : booking;
+		}
+		if (path.startsWith("/api/wallet")) {
+			return wallet;
+		}
+		if ("GET".equals(method) && (path.startsWith("/api/flights") || path.startsWith("/api/airports"))) {
+			return search;
+		}
+		return null;
+	}
+
+	private static void reject(HttpServletResponse response, Bulkhead bulkhead) throws IOException {
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader("Retry-After", String.valueOf(bulkhead.retryAfterSeconds()));
+		response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+		response.getWriter().write("{\"message\":\"Too many " + bulkhead.getName()
+				+ " requests in progress. Please retry shortly.\"}");
+	}
+}
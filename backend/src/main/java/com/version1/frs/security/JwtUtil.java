@@ -105,12 +105,13 @@ private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
 	}
 
 	/**
-	 * Extracts all claims from the JWT token.
+	 * Extracts all claims from the JWT token, verifying its signature and expiry.
 	 *
 	 * @param token the JWT token from which to extract claims
 	 * @return the claims contained in the token
+	 * @throws io.jsonwebtoken.JwtException if the token is invalid or expired
 	 */
-	private Claims extractAllClaims(String token) {
+	public Claims extractAllClaims(String token) {
 		return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
 	}
 }
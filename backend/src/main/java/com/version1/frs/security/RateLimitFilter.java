@@ -0,0 +1,144 @@
+package com.version1.frs.security;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Per-user rate limiting filter. Runs in the security filter chain before
+ * {@link JwtAuthFilter} and identifies the caller from the {@code userId} and
+ * {@code role} claims of the bearer token, which only needs a signature check,
+ * so requests over the limit are rejected with 429 Too Many Requests before
+ * any user lookup or other database work. Requests without a valid token are
+ * limited per client address.
+ *
+ * <p>
+ * Limits are configured per role and route class as
+ * {@code rate-limit.<role>.<class>.per-minute} and
+ * {@code rate-limit.<role>.<class>.burst}, where the role is {@code admin},
+ * {@code customer} or {@code anonymous} and the class is {@code search},
+ * {@code booking} or {@code default}.
+ * </p>
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	private static final String[] ROLES = { "admin", "customer", "anonymous" };
+	private static final String[] CLASSES = { "search", "booking", "default" };
+
+	private final JwtUtil jwtUtil;
+	private final RateLimiter rateLimiter;
+	private final RateLimiter.Limit[][] limits = new RateLimiter.Limit[ROLES.length][CLASSES.length];
+
+	public RateLimitFilter(JwtUtil jwtUtil, Environment environment) {
+		this.jwtUtil = jwtUtil;
+		this.rateLimiter = new RateLimiter(environment.getProperty("rate-limit.max-keys", Integer.class, 100_000));
+		for (int r = 0; r < ROLES.length; r++) {
+			for (int c = 0; c < CLASSES.length; c++) {
+				String prefix = "rate-limit." + ROLES[r] + "." + CLASSES[c];
+				RateLimiter.Limit defaults = defaultLimit(ROLES[r], CLASSES[c]);
+				limits[r][c] = new RateLimiter.Limit(
+						environment.getProperty(prefix + ".per-minute", Integer.class, defaults.perMinute()),
+						environment.getProperty(prefix + ".burst", Integer.class, defaults.burst()));
+			}
+		}
+	}
+
+	@Override
+	protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+			@NonNull FilterChain filterChain) throws ServletException, IOException {
+
+		int routeClass = classify(request);
+		int role = 2;
+		String caller = "ip:" + request.getRemoteAddr();
+
+		String authHeader = request.getHeader("Authorization");
+		if (authHeader != null && authHeader.startsWith("Bearer ")) {
+			try {
+				Claims claims = jwtUtil.extractAllClaims(authHeader.substring(7));
+				Long userId = claims.get("userId", Long.class);
+				if (userId != null) {
+					caller = "user:" + userId;
+					role = "ADMIN".equalsIgnoreCase(claims.get("role", String.class)) ? 0 : 1;
+				}
+			} catch (JwtException | IllegalArgumentException e) {
+				// Invalid or expired token: limited by address, then rejected by JwtAuthFilter
+			}
+		}
+
+		long waitNanos = rateLimiter.tryAcquire(caller + '|' + CLASSES[routeClass], limits[role][routeClass],
+				System.nanoTime());
+		if (waitNanos > 0) {
+			response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+			response.setHeader("Retry-After", String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1)));
+			response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+			response.getWriter().write("{\"message\":\"Rate limit exceeded. Please slow down.\"}");
+			return;
+		}
+
+		filterChain.doFilter(request, response);
+	}
+
+	/**
+	 * Limits only API requests; static resources and the API docs are exempt.
+	 */
+	@Override
+	protected boolean shouldNotFilter(@NonNull HttpServletRequest request) throws ServletException {
+		return !request.getServletPath().startsWith("/api/") || "OPTIONS".equals(request.getMethod());
+	}
+
+	/**
+	 * Drops buckets of users that have been idle long enough to be full again.
+	 */
+	@Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+	public void evictIdleBuckets() {
+		rateLimiter.evictIdle(System.nanoTime());
+	}
+
+	/**
+	 * Gets the underlying limiter, for monitoring.
+	 *
+	 * @return the rate limiter
+	 */
+	public RateLimiter getRateLimiter() {
+		return rateLimiter;
+	}
+
+	/**
+	 * Maps a request to a route class index in {@link #CLASSES}.
+	 */
+	private static int classify(HttpServletRequest request) {
+		String path = request.getServletPath();
+		if ("GET".equals(request.getMethod())
+				&& (path.startsWith("/api/flights") || path.startsWith("/api/airports"))) {
+			return 0;
+		}
+		if (path.startsWith("/api/bookings") || path.startsWith("/api/waitlist")) {
+			return 1;
+		}
+		return 2;
+	}
+
+	private static RateLimiter.Limit defaultLimit(String role, String routeClass) {
+		int factor = "admin".equals(role) ? 10 : 1;
+		return switch (routeClass) {
+		case "search" -> new RateLimiter.Limit(60 * factor, 20 * factor);
+		case "booking" -> new RateLimiter.Limit(20 * factor, 5 * factor);
+		default -> new RateLimiter.Limit(300 * factor, 60 * factor);
+		};
+	}
+}
@@ -0,0 +1,136 @@
+package com.version1.frs.security;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free token bucket rate limiter keyed by an arbitrary string.
+ *
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the time at which it will
+ * be full again (the generic cell rate algorithm). A request costs one refill
+ * interval; it is allowed while the bucket is no more than {@code burst}
+ * intervals from full, and the time is advanced with a compare-and-set, so
+ * concurrent requests of one user never block each other.
+ * </p>
+ *
+ * <p>
+ * A bucket whose full-time lies in the past is indistinguishable from a new
+ * one, so idle buckets can be dropped at any time without changing behaviour.
+ * This keeps memory proportional to the number of recently active keys; when
+ * even that exceeds {@code maxKeys}, new keys share one overflow bucket per
+ * limit until space frees up. A full map is swept on the request path at most
+ * once per second, so a flood of new keys cannot make every request scan it.
+ * </p>
+ */
+public class RateLimiter {
+
+	/**
+	 * Rate limit of one role and route class.
+	 *
+	 * @param perMinute sustained requests per minute
+	 * @param burst     requests allowed in a burst on top of the sustained rate
+	 */
+	public record Limit(int perMinute, int burst) {
+
+		long intervalNanos() {
+			return 60_000_000_000L / Math.max(1, perMinute);
+		}
+	}
+
+	/** Minimum time between two sweeps of a full bucket map on the request path. */
+	private static final long INLINE_EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+
+	private final int maxKeys;
+	private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+	private final Map<Limit, AtomicLong> overflow = new ConcurrentHashMap<>();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder overflowed = new LongAdder();
+	private final AtomicLong lastInlineEviction;
+
+	public RateLimiter(int maxKeys) {
+		this.maxKeys = maxKeys;
+		this.lastInlineEviction = new AtomicLong(System.nanoTime() - INLINE_EVICTION_INTERVAL_NANOS);
+	}
+
+	/**
+	 * Takes one token from the bucket of a key.
+	 *
+	 * @param key   the bucket key, e.g. user and route class
+	 * @param limit the limit applying to the key
+	 * @param now   the current time from {@link System#nanoTime()}
+	 * @return 0 if the request is allowed, otherwise the nanoseconds until the
+	 *         next token is available
+	 */
+	public long tryAcquire(String key, Limit limit, long now) {
+		AtomicLong bucket = buckets.get(key);
+		if (bucket == null) {
+			if (buckets.size() >= maxKeys) {
+				long last = lastInlineEviction.get();
+				if (now - last >= INLINE_EVICTION_INTERVAL_NANOS && lastInlineEviction.compareAndSet(last, now)) {
+					evictIdle(now);
+				}
+			}
+			if (buckets.size() >= maxKeys) {
+				overflowed.increment();
+				bucket = overflow.computeIfAbsent(limit, l -> new AtomicLong(now));
+			} else {
+				bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+			}
+		}
+
+		long interval = limit.intervalNanos();
+		long tolerance = interval * limit.burst();
+		while (true) {
+			long fullAt = bucket.get();
+			long start = Math.max(fullAt, now);
+			long wait = start - now - tolerance;
+			if (wait > 0) {
+				rejected.increment();
+				return wait;
+			}
+			if (bucket.compareAndSet(fullAt, start + interval)) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * Drops buckets that have refilled completely.
+	 *
+	 * @param now the current time from {@link System#nanoTime()}
+	 */
+	public void evictIdle(long now) {
+		buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+	}
+
+	/**
+	 * Gets the number of buckets currently tracked.
+	 *
+	 * @return the number of tracked keys
+	 */
+	public int size() {
+		return buckets.size();
+	}
+
+	/**
+	 * Gets the number of requests rejected since startup.
+	 *
+	 * @return the rejected request count
+	 */
+	public long getRejected() {
+		return rejected.sum();
+	}
+
+	/**
+	 * Gets the number of requests that were limited through a shared overflow
+	 * bucket because the key limit was reached.
+	 *
+	 * @return the overflowed request count
+	 */
+	public long getOverflowed() {
+		return overflowed.sum();
+	}
+}
@@ -30,6 +30,14 @@ public interface AirplaneService {
 	 */
 	List<AirplaneResponse> getAllAirplanes();
 
+	/**
+	 * Retrieves the ETag of the airplane list, which changes with every write to
+	 * the airplanes table. Does not query the airplanes.
+	 * 
+	 * @return a strong, quoted ETag
+	 */
+	String getAirplanesETag();
+
 	/**
 	 * Retrieves an airplane by its ID.
 	 * 
@@ -1,6 +1,7 @@
 package com.version1.frs.service;
 
 import java.util.List;
+import java.util.Set;
 
 import com.version1.frs.dto.AirportRequest;
 import com.version1.frs.dto.AirportResponse;
@@ -54,6 +55,14 @@ public interface AirportService {
 	 */
 	List<AirportResponse> getAllAirports();
 
+	/**
+	 * Retrieves the ETag of the airport list, which changes with every write to
+	 * the airports table. Does not query the airports.
+	 * 
+	 * @return a strong, quoted ETag
+	 */
+	String getAirportsETag();
+
 	/**
 	 * Retrieves an airport by its code.
 	 * 
@@ -157,4 +166,14 @@ public interface AirportService {
 	 * @return a list of {@link Airport} entities matching the search criteria
 	 */
 	List<Airport> searchAirports(String query);
+
+	/**
+	 * Resolves an airport code or a city name to airport IDs from memory. A code
+	 * takes precedence over a city of the same name; a city resolves to all of
+	 * its airports.
+	 * 
+	 * @param codeOrCity an airport code or city name, ignoring case
+	 * @return the matching airport IDs, empty if nothing matches
+	 */
+	Set<Long> resolveAirportIds(String codeOrCity);
 }
@@ -0,0 +1,97 @@
+package com.version1.frs.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import com.version1.frs.dto.AircraftUtilizationResponse;
+import com.version1.frs.dto.AirlineStatsResponse;
+import com.version1.frs.dto.FlightLoadResponse;
+import com.version1.frs.dto.RouteStatsResponse;
+import com.version1.frs.model.Flight;
+
+/**
+ * Service interface for fleet and revenue analytics. Maintains the per-flight
+ * rollups fed by the booking paths and serves the admin dashboard queries from
+ * them.
+ */
+public interface AnalyticsService {
+
+	// -------------------- Rollup maintenance --------------------
+
+	/**
+	 * Creates the rollup row for a newly scheduled flight.
+	 *
+	 * @param flight the flight that was added
+	 */
+	void registerFlight(Flight flight);
+
+	/**
+	 * Removes the rollup row of a deleted flight.
+	 *
+	 * @param flightId the ID of the flight that was deleted
+	 */
+	void unregisterFlight(Long flightId);
+
+	/**
+	 * Applies a booking or cancellation to the flight's rollup. Must be called in
+	 * the same transaction as the booking change.
+	 *
+	 * @param flight  the flight that was booked or cancelled
+	 * @param tickets the change in tickets sold (negative for cancellations)
+	 * @param amount  the change in revenue (negative for cancellations)
+	 */
+	void recordBookingChange(Flight flight, int tickets, BigDecimal amount);
+
+	/**
+	 * Updates the capacity recorded in the rollups of all flights operated by an
+	 * airplane. Must be called in the same transaction as the capacity change.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 * @param capacity   the new seat capacity
+	 */
+	void updateCapacity(Long airplaneId, int capacity);
+
+	/**
+	 * Creates rollup rows for all flights that do not have one yet, computing
+	 * their totals from the booking tables.
+	 *
+	 * @return the number of rollups created
+	 */
+	int rebuildMissingStats();
+
+	// -------------------- Read --------------------
+
+	/**
+	 * Retrieves load factor and revenue for every flight departing in the given
+	 * range.
+	 *
+	 * @param from the first departure day (inclusive)
+	 * @param to   the last departure day (inclusive)
+	 * @return a list of {@link FlightLoadResponse} DTOs
+	 */
+	List<FlightLoadResponse> getFlightLoad(LocalDate from, LocalDate to);
+
+	/**
+	 * Retrieves load factor and revenue aggregated per route.
+	 *
+	 * @return a list of {@link RouteStatsResponse} DTOs
+	 */
+	List<RouteStatsResponse> getRouteStats();
+
+	/**
+	 * Retrieves load factor and revenue aggregated per airline.
+	 *
+	 * @return a list of {@link AirlineStatsResponse} DTOs
+	 */
+	List<AirlineStatsResponse> getAirlineStats();
+
+	/**
+	 * Retrieves scheduled block hours per airplane and day in the given range.
+	 *
+	 * @param from the first day (inclusive)
+	 * @param to   the last day (inclusive)
+	 * @return a list of {@link AircraftUtilizationResponse} DTOs
+	 */
+	List<AircraftUtilizationResponse> getAircraftUtilization(LocalDate from, LocalDate to);
+}
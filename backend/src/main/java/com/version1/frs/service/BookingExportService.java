@@ -0,0 +1,36 @@
+package com.version1.frs.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+/**
+ * Service interface for bulk exports of booking data.
+ */
+public interface BookingExportService {
+
+	/**
+	 * Writes bookings to a stream as CSV (with a header row) or NDJSON (one JSON
+	 * object per line), reading and writing one booking at a time.
+	 *
+	 * @param format   "csv" or "ndjson"
+	 * @param from     the first booking day (inclusive), or null
+	 * @param to       the last booking day (inclusive), or null
+	 * @param flightId the ID of the flight, or null for all flights
+	 * @param out      the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	void exportBookings(String format, LocalDate from, LocalDate to, Long flightId, OutputStream out)
+			throws IOException;
+
+	/**
+	 * Writes the passenger manifest of a flight to a stream as CSV (with a header
+	 * row) or NDJSON, one passenger per line.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param format   "csv" or "ndjson"
+	 * @param out      the stream to write to
+	 * @throws IOException if writing fails
+	 */
+	void exportManifest(Long flightId, String format, OutputStream out) throws IOException;
+}
@@ -5,6 +5,8 @@
 
 import com.version1.frs.dto.BookingRequest;
 import com.version1.frs.dto.BookingResponse;
+import com.version1.frs.dto.BookingSummaryResponse;
+import com.version1.frs.dto.PageResponse;
 
 /**
  * Service interface for managing flight bookings in the system. It includes
@@ -34,6 +36,17 @@ public interface BookingService {
 	 */
 	List<BookingResponse> getBookingsByUser(Long userId);
 
+	/**
+	 * Retrieves a page of a user's booking history, including flight schedule,
+	 * airports and passengers, most recent first.
+	 *
+	 * @param userId the ID of the user
+	 * @param page   the zero-based page number
+	 * @param size   the page size
+	 * @return a {@link PageResponse} of {@link BookingSummaryResponse} DTOs
+	 */
+	PageResponse<BookingSummaryResponse> getBookingHistory(Long userId, int page, int size);
+
 	/**
 	 * Retrieves all bookings. Optionally filters by customer ID.
 	 * 
@@ -0,0 +1,63 @@
+package com.version1.frs.service;
+
+import com.version1.frs.dto.BookingSummaryResponse;
+import com.version1.frs.dto.PageResponse;
+import com.version1.frs.model.Airport;
+import com.version1.frs.model.Booking;
+import com.version1.frs.model.Flight;
+
+/**
+ * Service interface for the denormalized booking history read model. The
+ * booking write paths keep it in step; reads never touch the booking tables.
+ */
+public interface BookingSummaryService {
+
+	/**
+	 * Writes the summary of a new booking. Must be called in the transaction
+	 * that creates the booking.
+	 *
+	 * @param booking the saved booking, with its flight and tickets
+	 */
+	void recordBooking(Booking booking);
+
+	/**
+	 * Removes the summary of a cancelled booking.
+	 *
+	 * @param bookingId the ID of the booking
+	 */
+	void removeBooking(Long bookingId);
+
+	/**
+	 * Copies the current airline and schedule of a flight into the summaries of
+	 * its bookings. Must be called in the transaction that changes the flight.
+	 *
+	 * @param flight the changed flight
+	 */
+	void refreshFlight(Flight flight);
+
+	/**
+	 * Copies the current code and name of an airport into the summaries of
+	 * bookings from or to it. Must be called in the transaction that changes the
+	 * airport.
+	 *
+	 * @param airport the changed airport
+	 */
+	void refreshAirport(Airport airport);
+
+	/**
+	 * Retrieves a page of a customer's booking history, most recent first.
+	 *
+	 * @param userId the ID of the customer
+	 * @param page   the zero-based page number
+	 * @param size   the page size
+	 * @return a {@link PageResponse} of {@link BookingSummaryResponse} DTOs
+	 */
+	PageResponse<BookingSummaryResponse> getBookingHistory(Long userId, int page, int size);
+
+	/**
+	 * Creates summaries for bookings that do not have one yet.
+	 *
+	 * @return the number of summaries created
+	 */
+	int rebuildMissingSummaries();
+}
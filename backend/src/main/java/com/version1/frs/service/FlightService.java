@@ -1,10 +1,16 @@
 package com.version1.frs.service;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Set;
 
+import com.version1.frs.dto.FareCalendarResponse;
 import com.version1.frs.dto.FlightRequest;
 import com.version1.frs.dto.FlightResponse;
+import com.version1.frs.dto.PageResponse;
+import com.version1.frs.dto.SeatMapResponse;
 
 /**
  * Service interface for managing flights in the system. It includes methods for
@@ -12,6 +18,16 @@
  */
 public interface FlightService {
 
+	/**
+	 * Search results encoded as a JSON array of {@link FlightResponse}, plain and
+	 * gzip-compressed, ready to be written to the response as they are.
+	 *
+	 * @param json the UTF-8 JSON bytes
+	 * @param gzip the same bytes, gzip-compressed
+	 */
+	record EncodedFlights(byte[] json, byte[] gzip) {
+	}
+
 	// -------------------- Create --------------------
 
 	/**
@@ -41,6 +57,49 @@ public interface FlightService {
 	 */
 	FlightResponse getFlightById(Long id);
 
+	/**
+	 * Retrieves the ETag of a flight, which changes when the flights, airports or
+	 * airplanes tables change or when seats on the flight are booked or released.
+	 * Served from memory only.
+	 * 
+	 * @param id the ID of the flight
+	 * @return a strong, quoted ETag, or null if the flight's seat map is not
+	 *         cached yet or the flight has departed
+	 */
+	String getFlightETag(Long id);
+
+	/**
+	 * Retrieves the seat map of an upcoming flight.
+	 *
+	 * @param id the ID of the flight
+	 * @return the {@link SeatMapResponse} DTO listing every seat and whether it is
+	 *         occupied
+	 * @throws RuntimeException if no flight with the specified ID is found or it
+	 *                          has already departed
+	 */
+	SeatMapResponse getSeatMap(Long id);
+
+	/**
+	 * Checks whether a flight exists, regardless of whether it has departed.
+	 *
+	 * @param id the ID of the flight
+	 * @return true if the flight exists
+	 */
+	boolean flightExists(Long id);
+
+	// -------------------- Update --------------------
+
+	/**
+	 * Changes the ticket price of a flight.
+	 *
+	 * @param id    the ID of the flight
+	 * @param price the new price
+	 * @return the {@link FlightResponse} DTO of the repriced flight
+	 * @throws RuntimeException if no flight with the specified ID is found or the
+	 *                          price is not positive
+	 */
+	FlightResponse updateFlightPrice(Long id, BigDecimal price);
+
 	// -------------------- Delete --------------------
 
 	/**
@@ -64,4 +123,66 @@ public interface FlightService {
 	 *         the search criteria
 	 */
 	List<FlightResponse> searchFlights(Long sourceId, Long destinationId, LocalDate date);
+
+	/**
+	 * Searches for the flights on a route on a given day, like
+	 * {@link #searchFlights(Long, Long, LocalDate)}, and returns the result
+	 * encoded. Results are cached for a short time and dropped as soon as a
+	 * flight on the route and day is added or deleted or its seat availability
+	 * changes.
+	 * 
+	 * @param sourceId      the ID of the source airport
+	 * @param destinationId the ID of the destination airport
+	 * @param date          the departure date
+	 * @return the encoded search results
+	 */
+	EncodedFlights searchFlightsEncoded(Long sourceId, Long destinationId, LocalDate date);
+
+	/**
+	 * Searches for upcoming flights from any of the source airports to any of the
+	 * destination airports, e.g. all airports of two cities, ordered by
+	 * departure time.
+	 * 
+	 * @param sourceIds      the IDs of the source airports (optional)
+	 * @param destinationIds the IDs of the destination airports (optional)
+	 * @param date           the departure date (optional)
+	 * @return a list of matching {@link FlightResponse} DTOs
+	 */
+	List<FlightResponse> searchFlightsBetween(Set<Long> sourceIds, Set<Long> destinationIds, LocalDate date);
+
+	/**
+	 * Searches for upcoming flights with filters, sorting and pagination applied
+	 * by the database. All filters are optional.
+	 * 
+	 * @param sourceIds      the IDs of the source airports
+	 * @param destinationIds the IDs of the destination airports
+	 * @param date           the departure date
+	 * @param airlines       the airlines to include, matched ignoring case
+	 * @param maxPrice       the highest price to include
+	 * @param departFrom     the start of the departure time-of-day band
+	 * @param departTo       the end of the departure time-of-day band; may be
+	 *                       before {@code departFrom} for a band past midnight
+	 * @param sort           "price", "departure" or "duration"
+	 * @param descending     whether to sort in descending order
+	 * @param page           the zero-based page number
+	 * @param size           the page size, capped at 100
+	 * @return a page of {@link FlightResponse} DTOs
+	 * @throws IllegalArgumentException if the sort key is unknown
+	 */
+	PageResponse<FlightResponse> searchFlightsPage(Set<Long> sourceIds, Set<Long> destinationIds, LocalDate date,
+			Set<String> airlines, BigDecimal maxPrice, LocalTime departFrom, LocalTime departTo, String sort,
+			boolean descending, int page, int size);
+
+	/**
+	 * Retrieves the lowest fare per day on a route over a date range, served from
+	 * memory. Only days with upcoming flights are included.
+	 *
+	 * @param sourceId      the ID of the source airport
+	 * @param destinationId the ID of the destination airport
+	 * @param from          the first day of the range; days before today are
+	 *                      skipped
+	 * @param days          the number of days in the range
+	 * @return the {@link FareCalendarResponse} DTO for the route
+	 */
+	FareCalendarResponse getFareCalendar(Long sourceId, Long destinationId, LocalDate from, int days);
 }
@@ -0,0 +1,36 @@
+package com.version1.frs.service;
+
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.version1.frs.model.OutboxEvent;
+
+/**
+ * Receives outbox events in the background. Implementations are Spring beans
+ * and are discovered automatically.
+ *
+ * <p>
+ * Delivery is at-least-once: a handler runs in the same transaction that marks
+ * the event as delivered, so database work done by the handler happens exactly
+ * once, but anything outside the database (files, e-mail) may be repeated after
+ * a crash and must be idempotent. Throwing an exception makes the event be
+ * retried later; later events of the same aggregate wait until it succeeds.
+ * </p>
+ */
+public interface OutboxEventHandler {
+
+	/**
+	 * Gets the event types this handler is interested in.
+	 *
+	 * @return the event types
+	 */
+	Set<String> eventTypes();
+
+	/**
+	 * Handles one event.
+	 *
+	 * @param event   the event
+	 * @param payload the parsed event data
+	 */
+	void handle(OutboxEvent event, JsonNode payload);
+}
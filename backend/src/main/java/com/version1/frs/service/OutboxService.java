@@ -0,0 +1,22 @@
+package com.version1.frs.service;
+
+/**
+ * Service interface for writing domain events to the transactional outbox.
+ * Events are delivered to {@link OutboxEventHandler}s in the background after
+ * the writing transaction commits.
+ */
+public interface OutboxService {
+
+	/**
+	 * Records an event. Must be called inside the transaction that makes the
+	 * change the event describes.
+	 *
+	 * @param aggregateType the type of entity the event is about, e.g.
+	 *                      {@code OutboxEvent.BOOKING}
+	 * @param aggregateId   the ID of that entity; events of one entity are
+	 *                      delivered in order
+	 * @param eventType     the event type, e.g. {@code OutboxEvent.BOOKING_CREATED}
+	 * @param payload       the event data, serialized as JSON
+	 */
+	void publish(String aggregateType, Long aggregateId, String eventType, Object payload);
+}
@@ -2,8 +2,12 @@
 
 import java.util.List;
 
+import com.version1.frs.dto.AirlineRatingResponse;
+import com.version1.frs.dto.FlightRatingResponse;
+import com.version1.frs.dto.PageResponse;
 import com.version1.frs.dto.ReviewRequest;
 import com.version1.frs.dto.ReviewResponse;
+import com.version1.frs.dto.ReviewSearchResponse;
 
 /**
  * Service interface for managing reviews in the system. It includes methods for
@@ -47,9 +51,84 @@ public interface ReviewService {
 	List<ReviewResponse> getReviewsByUserId(Long userId);
 
 	/**
-	 * Retrieves all reviews in the system.
+	 * Retrieves the most recent reviews in the system, capped at one page of
+	 * the maximum page size.
 	 * 
-	 * @return a list of {@link ReviewResponse} DTOs representing all reviews
+	 * @return a list of {@link ReviewResponse} DTOs, most recent first
+	 * @deprecated use {@link #getRecentReviews(int, int)}, which can page
+	 *             further
 	 */
+	@Deprecated
 	List<ReviewResponse> getAllReviews();
+
+	/**
+	 * Retrieves a page of all reviews, most recent first.
+	 *
+	 * @param page the zero-based page number
+	 * @param size the page size, capped at 100
+	 * @return a page of {@link ReviewResponse} DTOs
+	 */
+	PageResponse<ReviewResponse> getRecentReviews(int page, int size);
+
+	/**
+	 * Retrieves a page of a flight's reviews, most recent first.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param page     the zero-based page number
+	 * @param size     the page size, capped at 100
+	 * @return a page of {@link ReviewResponse} DTOs
+	 */
+	PageResponse<ReviewResponse> getRecentReviewsByFlightId(Long flightId, int page, int size);
+
+	/**
+	 * Retrieves a page of a user's reviews, most recent first.
+	 *
+	 * @param userId the ID of the user
+	 * @param page   the zero-based page number
+	 * @param size   the page size, capped at 100
+	 * @return a page of {@link ReviewResponse} DTOs
+	 */
+	PageResponse<ReviewResponse> getRecentReviewsByUserId(Long userId, int page, int size);
+
+	// -------------------- Search --------------------
+
+	/**
+	 * Searches review text, ranking matches by BM25 relevance. Query words are
+	 * matched by stem, so "delayed" also finds "delays".
+	 *
+	 * @param query    the search words
+	 * @param flightId restricts results to one flight, or null
+	 * @param airline  restricts results to one airline, or null
+	 * @param page     the zero-based page number
+	 * @param size     the page size, capped at 100
+	 * @return a page of {@link ReviewSearchResponse} DTOs, most relevant first
+	 */
+	PageResponse<ReviewSearchResponse> searchReviews(String query, Long flightId, String airline, int page,
+			int size);
+
+	// -------------------- Ratings --------------------
+
+	/**
+	 * Retrieves the review count, average rating and star histogram of a flight
+	 * from its rating rollup.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the {@link FlightRatingResponse} DTO; all zero if the flight has no
+	 *         reviews
+	 */
+	FlightRatingResponse getFlightRating(Long flightId);
+
+	/**
+	 * Retrieves rating totals per airline, aggregated from the flight rollups.
+	 *
+	 * @return a list of {@link AirlineRatingResponse} DTOs, best average first
+	 */
+	List<AirlineRatingResponse> getAirlineRatings();
+
+	/**
+	 * Seeds rating rollups for reviewed flights that do not have one yet.
+	 *
+	 * @return the number of rollups created
+	 */
+	int rebuildMissingRatings();
 }
@@ -0,0 +1,129 @@
+package com.version1.frs.service;
+
+import java.util.List;
+
+import com.version1.frs.dto.CabinLayoutRequest;
+import com.version1.frs.dto.CabinLayoutResponse;
+import com.version1.frs.dto.SeatMapResponse;
+import com.version1.frs.model.Airplane;
+import com.version1.frs.model.Flight;
+
+/**
+ * Service interface for airplane seat layouts and per-flight seat occupancy.
+ * It includes methods for reading seat maps, assigning and releasing seats
+ * during booking, and managing airplane layouts.
+ */
+public interface SeatMapService {
+
+	// -------------------- Read --------------------
+
+	/**
+	 * Retrieves the seat map of a flight.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the {@link SeatMapResponse} DTO for the flight
+	 * @throws RuntimeException if the flight is not found
+	 */
+	SeatMapResponse getSeatMap(Long flightId);
+
+	/**
+	 * Retrieves the number of free seats on a flight.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the number of available seats
+	 */
+	int getAvailableSeats(Long flightId);
+
+	/**
+	 * Retrieves the version of a flight's seat map, which changes whenever seats
+	 * are booked or released. Answered from memory only, without touching the
+	 * database.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the seat map version, or null if the seat map is not cached or the
+	 *         flight has departed
+	 */
+	Long getUpcomingSeatMapVersion(Long flightId);
+
+	/**
+	 * Retrieves the cabin layout of an airplane.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 * @return a list of {@link CabinLayoutResponse} DTOs, empty if the default
+	 *         layout is used
+	 */
+	List<CabinLayoutResponse> getLayout(Long airplaneId);
+
+	// -------------------- Seat assignment --------------------
+
+	/**
+	 * Assigns seats on a flight. Entries of {@code requestedSeats} that are null
+	 * or blank are auto-assigned, keeping those passengers next to each other
+	 * where possible. Must be called inside the booking transaction.
+	 *
+	 * @param flight         the flight being booked
+	 * @param requestedSeats one entry per passenger: a seat number or null
+	 * @return the assigned seat numbers, in passenger order
+	 * @throws RuntimeException if a requested seat is unknown or taken, or if the
+	 *                          flight does not have enough free seats
+	 */
+	List<String> reserveSeats(Flight flight, List<String> requestedSeats);
+
+	/**
+	 * Frees seats on a flight. Must be called inside the cancellation
+	 * transaction.
+	 *
+	 * @param flight      the flight of the cancelled booking
+	 * @param seatNumbers the seat numbers to free
+	 */
+	void releaseSeats(Flight flight, List<String> seatNumbers);
+
+	// -------------------- Lifecycle --------------------
+
+	/**
+	 * Creates an empty seat map for a newly scheduled flight.
+	 *
+	 * @param flight the flight that was added
+	 * @return the number of seats on the flight
+	 */
+	int createSeatMap(Flight flight);
+
+	/**
+	 * Deletes the seat map of a flight.
+	 *
+	 * @param flightId the ID of the flight that was deleted
+	 */
+	void deleteSeatMap(Long flightId);
+
+	/**
+	 * Replaces the cabin layout of an airplane. Only allowed while none of its
+	 * flights has occupied seats; the capacity of the airplane and of its flight
+	 * rollups is updated to the number of seats in the new layout.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 * @param cabins     the new cabins, ordered by row
+	 * @return the saved layout
+	 * @throws RuntimeException if the airplane is not found, the cabins overlap,
+	 *                          or seats are already booked
+	 */
+	List<CabinLayoutResponse> updateLayout(Long airplaneId, List<CabinLayoutRequest> cabins);
+
+	/**
+	 * Applies a requested capacity to an airplane. An airplane with a cabin
+	 * layout keeps the number of seats in that layout; otherwise the default
+	 * layout is resized, which is only allowed while none of its flights has
+	 * occupied seats. The flight rollups are updated to the resulting capacity.
+	 *
+	 * @param airplane the airplane being updated
+	 * @param capacity the requested capacity
+	 * @throws RuntimeException if the capacity changes while seats are booked
+	 */
+	void updateCapacity(Airplane airplane, int capacity);
+
+	/**
+	 * Drops the cached layout of an airplane, e.g. after its capacity changed.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 */
+	void evictLayout(Long airplaneId);
+}
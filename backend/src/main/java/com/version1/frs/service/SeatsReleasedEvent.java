@@ -0,0 +1,12 @@
+package com.version1.frs.service;
+
+/**
+ * Application event published when a flight's waitlist should be checked for
+ * promotion outside of a cancellation, e.g. because a customer joined it just
+ * as seats were released. Listeners react only after the publishing
+ * transaction has committed.
+ *
+ * @param flightId the ID of the flight
+ */
+public record SeatsReleasedEvent(Long flightId) {
+}
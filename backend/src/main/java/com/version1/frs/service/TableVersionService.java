@@ -0,0 +1,27 @@
+package com.version1.frs.service;
+
+/**
+ * Service interface for the per-table change counters behind the ETags of
+ * reference-data endpoints (airports, airplanes, flights). See
+ * {@link com.version1.frs.model.TableVersion}.
+ */
+public interface TableVersionService {
+
+	/**
+	 * Gets the current version of a table. Served from memory; other instances'
+	 * writes become visible after at most the configured refresh interval.
+	 *
+	 * @param tableName the table name, e.g. {@code TableVersion.AIRPORTS}
+	 * @return the version
+	 */
+	long currentVersion(String tableName);
+
+	/**
+	 * Increments the version of a table. Must be called inside the transaction
+	 * that changes the table, so that the new version is only visible once the
+	 * change is committed.
+	 *
+	 * @param tableName the table name, e.g. {@code TableVersion.AIRPORTS}
+	 */
+	void increment(String tableName);
+}
@@ -0,0 +1,46 @@
+package com.version1.frs.service;
+
+import java.nio.file.Path;
+
+/**
+ * Service interface for downloadable ticket PDFs. Tickets are rendered in the
+ * background after a booking commits and kept in a local file cache, so
+ * downloads only have to send a file.
+ */
+public interface TicketService {
+
+	/**
+	 * A rendered ticket ready to be sent.
+	 *
+	 * @param path          the PDF file
+	 * @param contentHash   the SHA-256 hash of the file, used as ETag
+	 * @param contentLength the size of the file in bytes
+	 */
+	record TicketFile(Path path, String contentHash, long contentLength) {
+	}
+
+	/**
+	 * Retrieves the rendered ticket of a booking. If it has not been rendered yet,
+	 * or its file is gone, rendering is scheduled and null is returned.
+	 *
+	 * @param bookingId the ID of the booking
+	 * @return the ticket file, or null if it is not ready yet
+	 */
+	TicketFile getTicket(Long bookingId);
+
+	/**
+	 * Schedules a booking's ticket for rendering on the ticket worker pool.
+	 *
+	 * @param bookingId the ID of the booking
+	 * @return false if the worker pool is saturated and the request was dropped
+	 */
+	boolean scheduleRender(Long bookingId);
+
+	/**
+	 * Forgets the rendered ticket of a booking, deleting its file once no other
+	 * booking refers to it.
+	 *
+	 * @param bookingId the ID of the booking
+	 */
+	void invalidate(Long bookingId);
+}
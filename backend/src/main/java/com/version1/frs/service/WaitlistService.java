@@ -0,0 +1,69 @@
+package com.version1.frs.service;
+
+import java.util.List;
+
+import com.version1.frs.dto.BookingRequest;
+import com.version1.frs.dto.WaitlistResponse;
+
+/**
+ * Service interface for the per-flight waitlist. Customers join the waitlist of
+ * a sold-out flight and are promoted into bookings, first come first served,
+ * when seats are released.
+ */
+public interface WaitlistService {
+
+	// -------------------- Customer --------------------
+
+	/**
+	 * Adds a customer to the waitlist of a sold-out flight.
+	 *
+	 * @param request the booking request to make once seats are free; requested
+	 *                seat numbers are ignored
+	 * @param userId  the ID of the customer
+	 * @return the created {@link WaitlistResponse} DTO
+	 * @throws RuntimeException if the user or flight is not found, the flight has
+	 *                          departed or still has enough seats, or the customer
+	 *                          is already waiting for it
+	 */
+	WaitlistResponse joinWaitlist(BookingRequest request, Long userId);
+
+	/**
+	 * Retrieves the waitlist entries of a customer, most recent first.
+	 *
+	 * @param userId the ID of the customer
+	 * @return a list of {@link WaitlistResponse} DTOs
+	 */
+	List<WaitlistResponse> getWaitlistByUser(Long userId);
+
+	/**
+	 * Withdraws a waiting entry.
+	 *
+	 * @param waitlistId the ID of the entry
+	 * @param userId     the ID of the customer who owns it
+	 * @throws RuntimeException if the entry is not found, belongs to another
+	 *                          customer or is no longer waiting
+	 */
+	void cancelEntry(Long waitlistId, Long userId);
+
+	// -------------------- Admin --------------------
+
+	/**
+	 * Retrieves the whole waitlist of a flight in queue order.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return a list of {@link WaitlistResponse} DTOs
+	 */
+	List<WaitlistResponse> getWaitlistByFlight(Long flightId);
+
+	// -------------------- Promotion --------------------
+
+	/**
+	 * Promotes waiting customers of a flight into bookings, in queue order, until
+	 * the head of the queue no longer fits into the free seats. Each promotion
+	 * runs in its own transaction and debits the customer's wallet.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the number of entries promoted
+	 */
+	int promote(Long flightId);
+}
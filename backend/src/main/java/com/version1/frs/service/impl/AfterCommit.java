@@ -0,0 +1,34 @@
+package com.version1.frs.service.impl;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Defers side effects such as cache updates until the surrounding transaction
+ * has committed, so that other requests never observe changes that are later
+ * rolled back.
+ */
+final class AfterCommit {
+
+	private AfterCommit() {
+	}
+
+	/**
+	 * Runs an action once the current transaction has committed, or right away
+	 * if no transaction is active. The action is dropped on rollback.
+	 *
+	 * @param action the action to run
+	 */
+	static void run(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
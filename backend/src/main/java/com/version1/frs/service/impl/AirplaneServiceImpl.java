@@ -20,12 +20,16 @@
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.version1.frs.dto.AirplaneRequest;
 import com.version1.frs.dto.AirplaneResponse;
 import com.version1.frs.model.Airplane;
+import com.version1.frs.model.TableVersion;
 import com.version1.frs.repository.AirplaneRepository;
 import com.version1.frs.service.AirplaneService;
+import com.version1.frs.service.SeatMapService;
+import com.version1.frs.service.TableVersionService;
 
 /**
  * Implementation of the {@link AirplaneService} interface. Provides methods for
@@ -35,15 +39,24 @@
 public class AirplaneServiceImpl implements AirplaneService {
 
 	private final AirplaneRepository airplaneRepository;
+	private final SeatMapService seatMapService;
+	private final TableVersionService tableVersionService;
 
 	/**
-	 * Constructor-based injection for {@link AirplaneRepository}.
+	 * Constructor-based injection for {@link AirplaneRepository},
+	 * {@link SeatMapService} and {@link TableVersionService}.
 	 *
-	 * @param airplaneRepository the repository used for airplane persistence
-	 *                           operations
+	 * @param airplaneRepository  the repository used for airplane persistence
+	 *                            operations
+	 * @param seatMapService      the service that guards capacity changes and
+	 *                            whose cached seat layouts depend on them
+	 * @param tableVersionService the change counters behind the airplane ETags
 	 */
-	public AirplaneServiceImpl(AirplaneRepository airplaneRepository) {
+	public AirplaneServiceImpl(AirplaneRepository airplaneRepository, SeatMapService seatMapService,
+			TableVersionService tableVersionService) {
 		this.airplaneRepository = airplaneRepository;
+		this.seatMapService = seatMapService;
+		this.tableVersionService = tableVersionService;
 	}
 
 	/**
@@ -54,12 +67,15 @@ public AirplaneServiceImpl(AirplaneRepository airplaneRepository) {
 	 * @throws RuntimeException if an airplane with the same number already exists
 	 */
 	@Override
+	@Transactional
 	public AirplaneResponse addAirplane(AirplaneRequest request) {
 		if (airplaneRepository.existsByAirplaneNumber(request.getAirplaneNumber())) {
 			throw new RuntimeException("Airplane with this number already exists");
 		}
 		Airplane airplane = mapToEntity(request);
-		return mapToResponse(airplaneRepository.save(airplane));
+		AirplaneResponse response = mapToResponse(airplaneRepository.save(airplane));
+		tableVersionService.increment(TableVersion.AIRPLANES);
+		return response;
 	}
 
 	/**
@@ -72,6 +88,11 @@ public List<AirplaneResponse> getAllAirplanes() {
 		return airplaneRepository.findAll().stream().map(this::mapToResponse).collect(Collectors.toList());
 	}
 
+	@Override
+	public String getAirplanesETag() {
+		return "\"airplanes-" + tableVersionService.currentVersion(TableVersion.AIRPLANES) + "\"";
+	}
+
 	/**
 	 * Retrieves an airplane by its ID.
 	 *
@@ -106,14 +127,20 @@ public AirplaneResponse getAirplaneByNumber(String airplaneNumber) {
 	 * @param id      the ID of the airplane to update
 	 * @param request the new airplane data
 	 * @return the updated airplane response
-	 * @throws RuntimeException if the airplane is not found
+	 * @throws RuntimeException if the airplane is not found, or its capacity
+	 *                          changes while seats are booked
 	 */
 	@Override
+	@Transactional
 	public AirplaneResponse updateAirplane(Long id, AirplaneRequest request) {
 		Airplane airplane = airplaneRepository.findById(id)
 				.orElseThrow(() -> new RuntimeException("Airplane not found with ID: " + id));
 		updateEntity(airplane, request);
-		return mapToResponse(airplaneRepository.save(airplane));
+		seatMapService.updateCapacity(airplane, request.getCapacity());
+		AirplaneResponse response = mapToResponse(airplaneRepository.save(airplane));
+		seatMapService.evictLayout(airplane.getAirplaneId());
+		tableVersionService.increment(TableVersion.AIRPLANES);
+		return response;
 	}
 
 	/**
@@ -122,14 +149,20 @@ public AirplaneResponse updateAirplane(Long id, AirplaneRequest request) {
 	 * @param airplaneNumber the airplane number
 	 * @param request        the new airplane data
 	 * @return the updated airplane response
-	 * @throws RuntimeException if the airplane is not found
+	 * @throws RuntimeException if the airplane is not found, or its capacity
+	 *                          changes while seats are booked
 	 */
 	@Override
+	@Transactional
 	public AirplaneResponse updateAirplane(String airplaneNumber, AirplaneRequest request) {
 		Airplane airplane = airplaneRepository.findByAirplaneNumber(airplaneNumber)
 				.orElseThrow(() -> new RuntimeException("Airplane not found with number: " + airplaneNumber));
 		updateEntity(airplane, request);
-		return mapToResponse(airplaneRepository.save(airplane));
+		seatMapService.updateCapacity(airplane, request.getCapacity());
+		AirplaneResponse response = mapToResponse(airplaneRepository.save(airplane));
+		seatMapService.evictLayout(airplane.getAirplaneId());
+		tableVersionService.increment(TableVersion.AIRPLANES);
+		return response;
 	}
 
 	/**
@@ -140,11 +173,13 @@ public AirplaneResponse updateAirplane(String airplaneNumber, AirplaneRequest re
 	 * @throws RuntimeException if the airplane is not found
 	 */
 	@Override
+	@Transactional
 	public String deleteAirplane(Long id) {
 		if (!airplaneRepository.existsById(id)) {
 			throw new RuntimeException("Airplane not found with ID: " + id);
 		}
 		airplaneRepository.deleteById(id);
+		tableVersionService.increment(TableVersion.AIRPLANES);
 		return "Airplane deleted successfully.";
 	}
 
@@ -156,10 +191,12 @@ public String deleteAirplane(Long id) {
 	 * @throws RuntimeException if the airplane is not found
 	 */
 	@Override
+	@Transactional
 	public String deleteAirplane(String airplaneNumber) {
 		Airplane airplane = airplaneRepository.findByAirplaneNumber(airplaneNumber)
 				.orElseThrow(() -> new RuntimeException("Airplane not found with number: " + airplaneNumber));
 		airplaneRepository.delete(airplane);
+		tableVersionService.increment(TableVersion.AIRPLANES);
 		return "Airplane deleted successfully.";
 	}
 
@@ -244,12 +281,13 @@ public List<AirplaneResponse> findByCapacityBetween(int min, int max) {
 	private Airplane mapToEntity(AirplaneRequest request) {
 		Airplane airplane = new Airplane();
 		updateEntity(airplane, request);
+		airplane.setCapacity(request.getCapacity());
 		return airplane;
 	}
 
 	/**
-	 * Updates the fields of an existing airplane entity using data from the
-	 * request.
+	 * Updates the fields of an airplane entity using data from the request,
+	 * except the capacity, which depends on its seat layout and bookings.
 	 *
 	 * @param airplane the airplane entity to update
 	 * @param request  the request DTO containing updated data
@@ -259,7 +297,6 @@ private void updateEntity(Airplane airplane, AirplaneRequest request) {
 		airplane.setAirplaneNumber(request.getAirplaneNumber());
 		airplane.setAirplaneModel(request.getAirplaneModel());
 		airplane.setManufacturer(request.getManufacturer());
-		airplane.setCapacity(request.getCapacity());
 	}
 
 	/**
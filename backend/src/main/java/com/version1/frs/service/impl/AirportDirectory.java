@@ -0,0 +1,117 @@
+package com.version1.frs.service.impl;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.version1.frs.model.Airport;
+import com.version1.frs.model.TableVersion;
+import com.version1.frs.repository.AirportRepository;
+import com.version1.frs.service.TableVersionService;
+
+/**
+ * In-memory index from airport codes and city names to airport IDs, so that
+ * flight searches can name airports directly. The index is tagged with the
+ * version of the airports table it was loaded at and reloaded on the first
+ * lookup after the version changes, which covers writes on other instances as
+ * well.
+ */
+@Component
+public class AirportDirectory {
+
+	/**
+	 * One loaded index.
+	 *
+	 * @param version the airports table version it was loaded at
+	 * @param byCode  airport ID by upper-case code
+	 * @param byCity  airport IDs by lower-case city name
+	 */
+	private record Snapshot(long version, Map<String, Long> byCode, Map<String, Set<Long>> byCity) {
+	}
+
+	private final AirportRepository airportRepository;
+	private final TableVersionService tableVersionService;
+	private final TransactionTemplate primaryTransaction;
+	private final ReentrantLock reloadLock = new ReentrantLock();
+	private volatile Snapshot snapshot;
+
+	// Constructor injection for dependencies
+	public AirportDirectory(AirportRepository airportRepository, TableVersionService tableVersionService,
+			PlatformTransactionManager transactionManager) {
+		this.airportRepository = airportRepository;
+		this.tableVersionService = tableVersionService;
+		// Not read-only, so that the load is not routed to a lagging read replica
+		this.primaryTransaction = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Resolves an airport code or a city name. A code takes precedence over a
+	 * city of the same name; a city resolves to all of its airports.
+	 *
+	 * @param codeOrCity an airport code or city name, ignoring case
+	 * @return the matching airport IDs, empty if nothing matches
+	 */
+	public Set<Long> resolve(String codeOrCity) {
+		if (codeOrCity == null || codeOrCity.isBlank()) {
+			return Set.of();
+		}
+		String name = codeOrCity.trim();
+		Snapshot current = current();
+		Long id = current.byCode().get(name.toUpperCase(Locale.ROOT));
+		if (id != null) {
+			return Set.of(id);
+		}
+		return current.byCity().getOrDefault(name.toLowerCase(Locale.ROOT), Set.of());
+	}
+
+	private Snapshot current() {
+		long version = tableVersionService.currentVersion(TableVersion.AIRPORTS);
+		Snapshot current = snapshot;
+		if (current != null && current.version() >= version) {
+			return current;
+		}
+		reloadLock.lock();
+		try {
+			current = snapshot;
+			if (current == null || current.version() < version) {
+				current = load(version);
+				snapshot = current;
+			}
+			return current;
+		} finally {
+			reloadLock.unlock();
+		}
+	}
+
+	/**
+	 * Loads the index from the primary database. The version is read before the
+	 * airports, so a write committed during the load raises the version again and
+	 * triggers another reload. A read replica could still miss writes already
+	 * counted in that version, so it is not used here.
+	 */
+	private Snapshot load(long version) {
+		List<Airport> airports = primaryTransaction.execute(status -> airportRepository.findAll());
+		Map<String, Long> byCode = new HashMap<>();
+		Map<String, Set<Long>> byCity = new HashMap<>();
+		for (Airport airport : airports) {
+			if (airport.getAirportCode() != null) {
+				byCode.put(airport.getAirportCode().trim().toUpperCase(Locale.ROOT), airport.getId());
+			}
+			if (airport.getAirportCity() != null) {
+				byCity.computeIfAbsent(airport.getAirportCity().trim().toLowerCase(Locale.ROOT), city -> new TreeSet<>())
+						.add(airport.getId());
+			}
+		}
+		byCity.replaceAll((city, ids) -> Collections.unmodifiableSet(ids));
+		return new Snapshot(version, byCode, byCity);
+	}
+}
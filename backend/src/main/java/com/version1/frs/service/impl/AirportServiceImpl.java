@@ -17,16 +17,24 @@
 package com.version1.frs.service.impl;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.version1.frs.dto.AirportRequest;
 import com.version1.frs.dto.AirportResponse;
 import com.version1.frs.model.Airport;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.model.TableVersion;
 import com.version1.frs.repository.AirportRepository;
 import com.version1.frs.service.AirportService;
+import com.version1.frs.service.BookingSummaryService;
+import com.version1.frs.service.OutboxService;
+import com.version1.frs.service.TableVersionService;
 
 /**
  * Implementation of the {@link AirportService} interface. Provides business
@@ -37,14 +45,37 @@
 public class AirportServiceImpl implements AirportService {
 
 	private final AirportRepository airportRepository;
+	private final TableVersionService tableVersionService;
+	private final FlightSearchCache searchCache;
+	private final AirportDirectory airportDirectory;
+	private final BookingSummaryService bookingSummaryService;
+	private final OutboxService outboxService;
 
 	/**
-	 * Constructor-based injection for {@link AirportRepository}.
+	 * Constructor-based injection for {@link AirportRepository},
+	 * {@link TableVersionService}, {@link FlightSearchCache},
+	 * {@link AirportDirectory}, {@link BookingSummaryService} and
+	 * {@link OutboxService}.
 	 *
-	 * @param airportRepository the repository used to manage airport data
+	 * @param airportRepository   the repository used to manage airport data
+	 * @param tableVersionService the change counters behind the airport ETags
+	 * @param searchCache         the cached flight searches, which include
+	 *                            airport names
+	 * @param airportDirectory      the in-memory index of airport codes and cities
+	 * @param bookingSummaryService the booking history, which includes airport
+	 *                              codes and names
+	 * @param outboxService         the outbox announcing airport changes, e.g.
+	 *                              to re-render tickets
 	 */
-	public AirportServiceImpl(AirportRepository airportRepository) {
+	public AirportServiceImpl(AirportRepository airportRepository, TableVersionService tableVersionService,
+			FlightSearchCache searchCache, AirportDirectory airportDirectory,
+			BookingSummaryService bookingSummaryService, OutboxService outboxService) {
 		this.airportRepository = airportRepository;
+		this.tableVersionService = tableVersionService;
+		this.searchCache = searchCache;
+		this.airportDirectory = airportDirectory;
+		this.bookingSummaryService = bookingSummaryService;
+		this.outboxService = outboxService;
 	}
 
 	/**
@@ -55,11 +86,13 @@ public AirportServiceImpl(AirportRepository airportRepository) {
 	 * @throws RuntimeException if airport with the same code already exists
 	 */
 	@Override
+	@Transactional
 	public String addAirport(AirportRequest request) {
 		if (airportRepository.findByAirportCode(request.getAirportCode()).isPresent()) {
 			throw new RuntimeException("Airport already exists with code: " + request.getAirportCode());
 		}
 		airportRepository.save(mapToEntity(request));
+		tableVersionService.increment(TableVersion.AIRPORTS);
 		return "Airport added successfully.";
 	}
 
@@ -72,6 +105,7 @@ public String addAirport(AirportRequest request) {
 	 * @throws RuntimeException if airport not found
 	 */
 	@Override
+	@Transactional
 	public String updateAirport(String airportCode, AirportRequest request) {
 		Optional<Airport> existing = airportRepository.findByAirportCode(airportCode);
 		if (existing.isEmpty()) {
@@ -80,6 +114,11 @@ public String updateAirport(String airportCode, AirportRequest request) {
 		Airport airport = mapToEntity(request);
 		airport.setId(existing.get().getId());
 		airportRepository.save(airport);
+		bookingSummaryService.refreshAirport(airport);
+		outboxService.publish(OutboxEvent.AIRPORT, airport.getId(), OutboxEvent.AIRPORT_UPDATED,
+				Map.of("airportId", airport.getId(), "airportCode", airport.getAirportCode()));
+		tableVersionService.increment(TableVersion.AIRPORTS);
+		AfterCommit.run(searchCache::invalidateAll);
 		return "Airport updated successfully.";
 	}
 
@@ -91,21 +130,30 @@ public String updateAirport(String airportCode, AirportRequest request) {
 	 * @throws RuntimeException if airport not found
 	 */
 	@Override
+	@Transactional
 	public String deleteAirport(String airportCode) {
 		Optional<Airport> airport = airportRepository.findByAirportCode(airportCode);
 		if (airport.isEmpty()) {
 			throw new RuntimeException("Airport not found with code: " + airportCode);
 		}
 		airportRepository.deleteById(airport.get().getId());
+		tableVersionService.increment(TableVersion.AIRPORTS);
+		AfterCommit.run(searchCache::invalidateAll);
 		return "Airport deleted successfully.";
 	}
 
+	@Override
+	public String getAirportsETag() {
+		return "\"airports-" + tableVersionService.currentVersion(TableVersion.AIRPORTS) + "\"";
+	}
+
 	/**
 	 * Fetches all airports.
 	 *
 	 * @return list of airport response DTOs
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public List<AirportResponse> getAllAirports() {
 		return airportRepository.findAll().stream().map(this::mapToResponse).collect(Collectors.toList());
 	}
@@ -118,6 +166,7 @@ public List<AirportResponse> getAllAirports() {
 	 * @throws RuntimeException if airport not found
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public AirportResponse getAirportByCode(String airportCode) {
 		Airport airport = airportRepository.findByAirportCode(airportCode)
 				.orElseThrow(() -> new RuntimeException("Airport not found with code: " + airportCode));
@@ -134,6 +183,18 @@ public List<Airport> searchAirports(String query) {
 		return airportRepository.searchAirports(query);
 	}
 
+	/**
+	 * Resolves an airport code or city name through the {@link AirportDirectory},
+	 * without querying the airports table unless it has changed.
+	 *
+	 * @param codeOrCity the airport code or city name
+	 * @return the matching airport IDs
+	 */
+	@Override
+	public Set<Long> resolveAirportIds(String codeOrCity) {
+		return airportDirectory.resolve(codeOrCity);
+	}
+
 	/**
 	 * Filters airports by city.
 	 *
@@ -0,0 +1,210 @@
+package com.version1.frs.service.impl;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.version1.frs.dto.AircraftUtilizationResponse;
+import com.version1.frs.dto.AirlineStatsResponse;
+import com.version1.frs.dto.FlightLoadResponse;
+import com.version1.frs.dto.RouteStatsResponse;
+import com.version1.frs.model.Flight;
+import com.version1.frs.model.FlightStats;
+import com.version1.frs.repository.BookingRepository;
+import com.version1.frs.repository.FlightRepository;
+import com.version1.frs.repository.FlightStatsRepository;
+import com.version1.frs.service.AnalyticsService;
+
+/**
+ * Implementation of the {@link AnalyticsService} interface. Keeps one
+ * {@link FlightStats} row per flight up to date with atomic delta updates, so
+ * the dashboard queries only ever group the small rollup table instead of
+ * scanning bookings and tickets.
+ */
+@Service
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+	private static final Logger log = LoggerFactory.getLogger(AnalyticsServiceImpl.class);
+
+	private final FlightStatsRepository flightStatsRepository;
+	private final FlightRepository flightRepository;
+	private final BookingRepository bookingRepository;
+
+	// Constructor injection for dependencies
+	public AnalyticsServiceImpl(FlightStatsRepository flightStatsRepository, FlightRepository flightRepository,
+			BookingRepository bookingRepository) {
+		this.flightStatsRepository = flightStatsRepository;
+		this.flightRepository = flightRepository;
+		this.bookingRepository = bookingRepository;
+	}
+
+	/**
+	 * Creates an empty rollup row for a newly scheduled flight.
+	 *
+	 * @param flight the flight that was added
+	 */
+	@Override
+	@Transactional
+	public void registerFlight(Flight flight) {
+		FlightStats stats = newStats(flight);
+		stats.setTicketsSold(0);
+		stats.setRevenue(BigDecimal.ZERO);
+		flightStatsRepository.save(stats);
+	}
+
+	/**
+	 * Removes the rollup row of a deleted flight, if present.
+	 *
+	 * @param flightId the ID of the flight that was deleted
+	 */
+	@Override
+	@Transactional
+	public void unregisterFlight(Long flightId) {
+		if (flightStatsRepository.existsById(flightId)) {
+			flightStatsRepository.deleteById(flightId);
+		}
+	}
+
+	/**
+	 * Applies the deltas with a single UPDATE statement. Rollups are only created
+	 * when a flight is added and on startup, never here: two first bookings of the
+	 * same flight would otherwise both insert the row and one of them would fail.
+	 * A flight without a rollup is picked up by the next rebuild, which computes
+	 * its totals from the booking tables and therefore includes this change.
+	 *
+	 * @param flight  the flight that was booked or cancelled
+	 * @param tickets the change in tickets sold
+	 * @param amount  the change in revenue
+	 */
+	@Override
+	@Transactional
+	public void recordBookingChange(Flight flight, int tickets, BigDecimal amount) {
+		if (flightStatsRepository.applyDelta(flight.getId(), tickets, amount) == 0) {
+			log.debug("Flight {} has no analytics rollup yet, skipping the booking change", flight.getId());
+		}
+	}
+
+	/**
+	 * Copies the new capacity of an airplane into the rollups of its flights.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 * @param capacity   the new seat capacity
+	 */
+	@Override
+	@Transactional
+	public void updateCapacity(Long airplaneId, int capacity) {
+		flightStatsRepository.updateCapacity(airplaneId, capacity);
+	}
+
+	/**
+	 * Seeds rollups for flights that do not have one yet.
+	 *
+	 * @return the number of rollups created
+	 */
+	@Override
+	@Transactional
+	public int rebuildMissingStats() {
+		List<Flight> flights = flightRepository.findFlightsWithoutStats();
+		flights.forEach(flight -> flightStatsRepository.save(snapshot(flight)));
+		return flights.size();
+	}
+
+	/**
+	 * Seeds missing rollups once the application has started, so that flights
+	 * scheduled before this feature was deployed show up in the dashboards. Each
+	 * rollup is saved in its own transaction, so a row seeded concurrently by
+	 * another instance is skipped instead of failing the startup.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void seedOnStartup() {
+		int created = 0;
+		for (Flight flight : flightRepository.findFlightsWithoutStats()) {
+			try {
+				flightStatsRepository.save(snapshot(flight));
+				created++;
+			} catch (DataIntegrityViolationException e) {
+				log.debug("Analytics rollup of flight {} was created concurrently", flight.getId());
+			}
+		}
+		if (created > 0) {
+			log.info("Created analytics rollups for {} existing flights", created);
+		}
+	}
+
+	/**
+	 * Retrieves load factor and revenue for flights departing in the given range.
+	 *
+	 * @param from the first departure day (inclusive)
+	 * @param to   the last departure day (inclusive)
+	 * @return a list of {@link FlightLoadResponse} DTOs
+	 */
+	@Override
+	public List<FlightLoadResponse> getFlightLoad(LocalDate from, LocalDate to) {
+		return flightStatsRepository.findByDepartureDateBetweenOrderByDepartureDateAscFlightIdAsc(from, to).stream()
+				.map(this::mapToFlightLoad).collect(Collectors.toList());
+	}
+
+	@Override
+	public List<RouteStatsResponse> getRouteStats() {
+		return flightStatsRepository.summarizeByRoute();
+	}
+
+	@Override
+	public List<AirlineStatsResponse> getAirlineStats() {
+		return flightStatsRepository.summarizeByAirline();
+	}
+
+	@Override
+	public List<AircraftUtilizationResponse> getAircraftUtilization(LocalDate from, LocalDate to) {
+		return flightStatsRepository.summarizeUtilization(from, to);
+	}
+
+	/**
+	 * Builds a rollup for a flight with totals computed from the booking tables.
+	 *
+	 * @param flight the flight to snapshot
+	 * @return the populated rollup entity
+	 */
+	private FlightStats snapshot(Flight flight) {
+		FlightStats stats = newStats(flight);
+		stats.setTicketsSold((int) bookingRepository.countTicketsByFlightId(flight.getId()));
+		stats.setRevenue(bookingRepository.sumAmountByFlightId(flight.getId()));
+		return stats;
+	}
+
+	/**
+	 * Copies the route, schedule and capacity attributes of a flight into a new
+	 * rollup entity.
+	 *
+	 * @param flight the flight to copy from
+	 * @return a rollup entity without booking totals
+	 */
+	private FlightStats newStats(Flight flight) {
+		FlightStats stats = new FlightStats();
+		stats.setFlightId(flight.getId());
+		stats.setAirplaneId(flight.getAirplane().getAirplaneId());
+		stats.setAirline(flight.getAirline());
+		stats.setFromAirportId(flight.getFromAirport().getId());
+		stats.setToAirportId(flight.getToAirport().getId());
+		stats.setDepartureDate(flight.getDepartureTime().toLocalDate());
+		stats.setBlockMinutes(Duration.between(flight.getDepartureTime(), flight.getArrivalTime()).toMinutes());
+		stats.setCapacity(flight.getAirplane().getCapacity());
+		return stats;
+	}
+
+	private FlightLoadResponse mapToFlightLoad(FlightStats stats) {
+		return new FlightLoadResponse(stats.getFlightId(), stats.getAirline(), stats.getFromAirportId(),
+				stats.getToAirportId(), stats.getDepartureDate(), stats.getCapacity(), stats.getTicketsSold(),
+				stats.getRevenue());
+	}
+}
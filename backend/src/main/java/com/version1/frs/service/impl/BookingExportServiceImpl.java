@@ -0,0 +1,158 @@
+package com.version1.frs.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.version1.frs.repository.BookingJdbcRepository;
+import com.version1.frs.repository.BookingJdbcRepository.ExportRow;
+import com.version1.frs.repository.BookingJdbcRepository.ManifestRow;
+import com.version1.frs.service.BookingExportService;
+
+/**
+ * Implementation of the {@link BookingExportService} interface. Each row is
+ * formatted and written as soon as it is read from the JDBC cursor, so memory
+ * use does not grow with the number of rows exported.
+ */
+@Service
+public class BookingExportServiceImpl implements BookingExportService {
+
+	static final String BOOKINGS_CSV_HEADER = "bookingId,userId,userEmail,flightId,airline,departureTime,bookingTime,totalAmount,passengers";
+
+	static final String MANIFEST_CSV_HEADER = "bookingId,ticketId,seatNumber,passengerName,passengerAge,passengerGender,userId,userName,userEmail";
+
+	/**
+	 * Writes one row as CSV, without the line break.
+	 */
+	@FunctionalInterface
+	private interface CsvRowWriter<T> {
+		void write(Writer writer, T row) throws IOException;
+	}
+
+	private final BookingJdbcRepository bookingJdbcRepository;
+	private final ObjectMapper objectMapper;
+
+	// Constructor injection for dependencies
+	public BookingExportServiceImpl(BookingJdbcRepository bookingJdbcRepository, ObjectMapper objectMapper) {
+		this.bookingJdbcRepository = bookingJdbcRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public void exportBookings(String format, LocalDate from, LocalDate to, Long flightId, OutputStream out)
+			throws IOException {
+		this.<ExportRow>write(format, out, BOOKINGS_CSV_HEADER,
+				consumer -> bookingJdbcRepository.streamBookings(from != null ? from.atStartOfDay() : null,
+						to != null ? to.plusDays(1).atStartOfDay() : null, flightId, consumer),
+				BookingExportServiceImpl::writeCsv);
+	}
+
+	@Override
+	public void exportManifest(Long flightId, String format, OutputStream out) throws IOException {
+		this.<ManifestRow>write(format, out, MANIFEST_CSV_HEADER, consumer -> bookingJdbcRepository.streamManifest(flightId, consumer),
+				BookingExportServiceImpl::writeCsv);
+	}
+
+	/**
+	 * Streams rows from a source to the output in the requested format.
+	 *
+	 * @param format    "csv" or "ndjson"
+	 * @param out       the stream to write to
+	 * @param csvHeader the CSV header row
+	 * @param source    feeds each row to the given consumer as it is read
+	 * @param csvWriter formats a row as CSV
+	 * @throws IOException if writing fails
+	 */
+	private <T> void write(String format, OutputStream out, String csvHeader, Consumer<Consumer<T>> source,
+			CsvRowWriter<T> csvWriter) throws IOException {
+		boolean csv = "csv".equalsIgnoreCase(format);
+		if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+			throw new IllegalArgumentException("Unsupported export format: " + format);
+		}
+
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+		if (csv) {
+			writer.write(csvHeader);
+			writer.write('\n');
+		}
+		try {
+			source.accept(row -> {
+				try {
+					if (csv) {
+						csvWriter.write(writer, row);
+					} else {
+						writer.write(objectMapper.writeValueAsString(row));
+					}
+					writer.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+		writer.flush();
+	}
+
+	private static void writeCsv(Writer writer, ExportRow row) throws IOException {
+		writer.write(Long.toString(row.bookingId()));
+		writer.write(',');
+		writer.write(Long.toString(row.userId()));
+		writer.write(',');
+		writer.write(csvField(row.userEmail()));
+		writer.write(',');
+		writer.write(Long.toString(row.flightId()));
+		writer.write(',');
+		writer.write(csvField(row.airline()));
+		writer.write(',');
+		writer.write(row.departureTime().toString());
+		writer.write(',');
+		writer.write(row.bookingTime().toString());
+		writer.write(',');
+		writer.write(row.totalAmount().toPlainString());
+		writer.write(',');
+		writer.write(Integer.toString(row.passengers()));
+	}
+
+	private static void writeCsv(Writer writer, ManifestRow row) throws IOException {
+		writer.write(Long.toString(row.bookingId()));
+		writer.write(',');
+		writer.write(Long.toString(row.ticketId()));
+		writer.write(',');
+		writer.write(csvField(row.seatNumber()));
+		writer.write(',');
+		writer.write(csvField(row.passengerName()));
+		writer.write(',');
+		writer.write(Integer.toString(row.passengerAge()));
+		writer.write(',');
+		writer.write(csvField(row.passengerGender()));
+		writer.write(',');
+		writer.write(Long.toString(row.userId()));
+		writer.write(',');
+		writer.write(csvField(row.userName()));
+		writer.write(',');
+		writer.write(csvField(row.userEmail()));
+	}
+
+	/**
+	 * Quotes a CSV field if it contains a delimiter, quote or line break.
+	 */
+	static String csvField(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
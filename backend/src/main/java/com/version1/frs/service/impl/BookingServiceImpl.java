@@ -18,24 +18,41 @@
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
+import com.version1.frs.config.ReadYourWrites;
 import com.version1.frs.dto.BookingRequest;
 import com.version1.frs.dto.BookingResponse;
+import com.version1.frs.dto.BookingSummaryResponse;
+import com.version1.frs.dto.PageResponse;
+import com.version1.frs.dto.PassengerRequest;
 import com.version1.frs.dto.PassengerResponse;
+import com.version1.frs.model.ArchivedBooking;
+import com.version1.frs.model.ArchivedTicket;
 import com.version1.frs.model.BookedTicket;
 import com.version1.frs.model.Booking;
 import com.version1.frs.model.Flight;
+import com.version1.frs.model.OutboxEvent;
 import com.version1.frs.model.User;
 import com.version1.frs.model.Wallet;
+import com.version1.frs.repository.ArchivedBookingRepository;
+import com.version1.frs.repository.ArchivedTicketRepository;
 import com.version1.frs.repository.BookingRepository;
 import com.version1.frs.repository.FlightRepository;
 import com.version1.frs.repository.UserRepository;
 import com.version1.frs.repository.WalletRepository;
+import com.version1.frs.service.AnalyticsService;
 import com.version1.frs.service.BookingService;
+import com.version1.frs.service.BookingSummaryService;
+import com.version1.frs.service.OutboxService;
+import com.version1.frs.service.SeatMapService;
 
 import jakarta.transaction.Transactional;
 
@@ -52,26 +69,44 @@ public class BookingServiceImpl implements BookingService {
 	private final UserRepository userRepository;
 	private final FlightRepository flightRepository;
 	private final WalletRepository walletRepository;
+	private final AnalyticsService analyticsService;
+	private final SeatMapService seatMapService;
+	private final BookingSummaryService bookingSummaryService;
+	private final OutboxService outboxService;
+	private final ArchivedBookingRepository archivedBookingRepository;
+	private final ArchivedTicketRepository archivedTicketRepository;
+	private final ReadYourWrites readYourWrites;
 
 	// Constructor injection for dependencies
 	public BookingServiceImpl(BookingRepository bookingRepository, UserRepository userRepository,
-			FlightRepository flightRepository, WalletRepository walletRepository) {
+			FlightRepository flightRepository, WalletRepository walletRepository, AnalyticsService analyticsService,
+			SeatMapService seatMapService, BookingSummaryService bookingSummaryService, OutboxService outboxService,
+			ArchivedBookingRepository archivedBookingRepository, ArchivedTicketRepository archivedTicketRepository,
+			ReadYourWrites readYourWrites) {
 		this.bookingRepository = bookingRepository;
 		this.userRepository = userRepository;
 		this.flightRepository = flightRepository;
 		this.walletRepository = walletRepository;
+		this.analyticsService = analyticsService;
+		this.seatMapService = seatMapService;
+		this.bookingSummaryService = bookingSummaryService;
+		this.outboxService = outboxService;
+		this.archivedBookingRepository = archivedBookingRepository;
+		this.archivedTicketRepository = archivedTicketRepository;
+		this.readYourWrites = readYourWrites;
 	}
 
 	/**
-	 * Books a flight for a user. Deducts the flight price from the user's wallet
-	 * and saves the booking details. This operation is transactional to ensure
-	 * consistency.
+	 * Books a flight for a user. Assigns a seat to every passenger, deducts the
+	 * flight price from the user's wallet and saves the booking details. This
+	 * operation is transactional to ensure consistency.
 	 *
 	 * @param request the booking request containing flight ID and user ID
 	 * @param userId  the ID of the user making the booking
 	 * @return the saved booking response
-	 * @throws RuntimeException if user, flight, or wallet is not found, or if
-	 *                          insufficient balance
+	 * @throws RuntimeException if user, flight, or wallet is not found, if
+	 *                          insufficient balance, or if the requested seats
+	 *                          are not available
 	 */
 	@Transactional
 	@Override
@@ -91,6 +126,9 @@ public BookingResponse bookFlight(BookingRequest request, Long userId) {
 			throw new RuntimeException("Insufficient wallet balance.");
 		}
 
+		List<String> seats = seatMapService.reserveSeats(flight,
+				request.getPassengers().stream().map(PassengerRequest::getSeatNumber).collect(Collectors.toList()));
+
 		wallet.setBalance(wallet.getBalance().subtract(totalAmount));
 		walletRepository.save(wallet);
 
@@ -100,18 +138,31 @@ public BookingResponse bookFlight(BookingRequest request, Long userId) {
 		booking.setBookingTime(LocalDateTime.now());
 		booking.setTotalAmount(totalAmount);
 
-		List<BookedTicket> tickets = request.getPassengers().stream().map(p -> {
+		List<BookedTicket> tickets = new ArrayList<>(numPassengers);
+		for (int i = 0; i < numPassengers; i++) {
+			PassengerRequest p = request.getPassengers().get(i);
 			BookedTicket ticket = new BookedTicket();
 			ticket.setBooking(booking);
 			ticket.setPassengerName(p.getPassengerName());
 			ticket.setPassengerAge(p.getPassengerAge());
 			ticket.setPassengerGender(p.getPassengerGender());
-			return ticket;
-		}).collect(Collectors.toList());
+			ticket.setSeatNumber(seats.get(i));
+			tickets.add(ticket);
+		}
 
 		booking.setBookedTickets(tickets);
 
 		bookingRepository.save(booking);
+		analyticsService.recordBookingChange(flight, tickets.size(), totalAmount);
+		bookingSummaryService.recordBooking(booking);
+
+		outboxService.publish(OutboxEvent.WALLET, wallet.getWalletId(), OutboxEvent.WALLET_DEBITED,
+				Map.of("walletId", wallet.getWalletId(), "userId", userId, "amount", totalAmount, "balance",
+						wallet.getBalance(), "bookingId", booking.getBookingId()));
+		outboxService.publish(OutboxEvent.BOOKING, booking.getBookingId(), OutboxEvent.BOOKING_CREATED,
+				Map.of("bookingId", booking.getBookingId(), "userId", userId, "flightId", flight.getId(), "tickets",
+						tickets.size(), "totalAmount", totalAmount));
+		AfterCommit.run(() -> readYourWrites.recordWrite(userId));
 
 		return mapToDto(booking);
 	}
@@ -124,7 +175,28 @@ public BookingResponse bookFlight(BookingRequest request, Long userId) {
 	 */
 	@Override
 	public List<BookingResponse> getBookingsByUser(Long userId) {
-		return bookingRepository.findByUserUserId(userId).stream().map(this::mapToDto).collect(Collectors.toList());
+		List<BookingResponse> bookings = bookingRepository.findByUserUserId(userId).stream().map(this::mapToDto)
+				.collect(Collectors.toList());
+		List<ArchivedBooking> archived = archivedBookingRepository.findByUserIdOrderByBookingIdDesc(userId);
+		if (!archived.isEmpty()) {
+			bookings.addAll(mapArchived(archived));
+			bookings.sort(Comparator.comparing(BookingResponse::getBookingId));
+		}
+		return bookings;
+	}
+
+	/**
+	 * Retrieves a page of a customer's booking history from the booking summary
+	 * read model.
+	 *
+	 * @param userId the ID of the customer
+	 * @param page   the zero-based page number
+	 * @param size   the page size
+	 * @return a page of booking summaries, most recent first
+	 */
+	@Override
+	public PageResponse<BookingSummaryResponse> getBookingHistory(Long userId, int page, int size) {
+		return bookingSummaryService.getBookingHistory(userId, page, size);
 	}
 
 	/**
@@ -155,13 +227,19 @@ public List<BookingResponse> getAllBookings(Long customerId) {
 	 */
 	@Override
 	public BookingResponse getBookingById(Long bookingId) {
-		Booking booking = bookingRepository.findById(bookingId)
+		Booking booking = bookingRepository.findById(bookingId).orElse(null);
+		if (booking != null) {
+			return mapToDto(booking);
+		}
+		// Bookings of archived flights are only looked up once the live table misses
+		ArchivedBooking archived = archivedBookingRepository.findById(bookingId)
 				.orElseThrow(() -> new RuntimeException("Booking not found"));
-		return mapToDto(booking);
+		return mapArchived(List.of(archived)).get(0);
 	}
 
 	/**
-	 * Deletes a booking by its ID.
+	 * Deletes a booking by its ID and refunds its amount. Follow-up work such as
+	 * promoting the flight's waitlist is triggered through the outbox.
 	 *
 	 * @param bookingId the ID of the booking to delete
 	 * @throws RuntimeException if the booking is not found
@@ -180,7 +258,20 @@ public BigDecimal deleteBooking(Long bookingId) {
 	    wallet.setBalance(wallet.getBalance().add(refundAmount));
 	    walletRepository.save(wallet);
 
+	    int cancelledTickets = booking.getBookedTickets().size();
+	    seatMapService.releaseSeats(booking.getFlight(), booking.getBookedTickets().stream()
+	            .map(BookedTicket::getSeatNumber).filter(Objects::nonNull).collect(Collectors.toList()));
 	    bookingRepository.delete(booking);
+	    bookingSummaryService.removeBooking(bookingId);
+	    analyticsService.recordBookingChange(booking.getFlight(), -cancelledTickets, refundAmount.negate());
+
+	    outboxService.publish(OutboxEvent.WALLET, wallet.getWalletId(), OutboxEvent.WALLET_CREDITED,
+	            Map.of("walletId", wallet.getWalletId(), "userId", user.getUserId(), "amount", refundAmount,
+	                    "balance", wallet.getBalance(), "bookingId", bookingId));
+	    outboxService.publish(OutboxEvent.BOOKING, bookingId, OutboxEvent.BOOKING_CANCELLED,
+	            Map.of("bookingId", bookingId, "userId", user.getUserId(), "flightId", booking.getFlight().getId(),
+	                    "tickets", cancelledTickets, "refundAmount", refundAmount));
+	    AfterCommit.run(() -> readYourWrites.recordWrite(user.getUserId()));
 
 	    return refundAmount;
 	}
@@ -192,14 +283,35 @@ public BigDecimal deleteBooking(Long bookingId) {
 	 * @param booking the booking entity to convert
 	 * @return the corresponding booking response DTO
 	 */
-
 	private BookingResponse mapToDto(Booking booking) {
 		List<PassengerResponse> passengers = booking.getBookedTickets().stream()
-				.map(t -> new PassengerResponse(t.getPassengerName(), t.getPassengerAge(), t.getPassengerGender()))
+				.map(t -> new PassengerResponse(t.getPassengerName(), t.getPassengerAge(), t.getPassengerGender(),
+						t.getSeatNumber()))
 				.collect(Collectors.toList());
 
 		return new BookingResponse(booking.getBookingId(), booking.getUser().getUserId(), booking.getFlight().getId(),
 				booking.getBookingTime(), booking.getTotalAmount(), passengers);
 	}
 
+	/**
+	 * Converts archived bookings to booking response DTOs, loading the tickets of
+	 * all of them with one query.
+	 *
+	 * @param bookings the archived bookings
+	 * @return the corresponding booking response DTOs, in the same order
+	 */
+	private List<BookingResponse> mapArchived(List<ArchivedBooking> bookings) {
+		Map<Long, List<PassengerResponse>> passengers = archivedTicketRepository
+				.findByBookingIdInOrderByTicketIdAsc(
+						bookings.stream().map(ArchivedBooking::getBookingId).collect(Collectors.toList()))
+				.stream()
+				.collect(Collectors.groupingBy(ArchivedTicket::getBookingId,
+						Collectors.mapping(t -> new PassengerResponse(t.getPassengerName(), t.getPassengerAge(),
+								t.getPassengerGender(), t.getSeatNumber()), Collectors.toList())));
+		return bookings.stream()
+				.map(b -> new BookingResponse(b.getBookingId(), b.getUserId(), b.getFlightId(), b.getBookingTime(),
+						b.getTotalAmount(), passengers.getOrDefault(b.getBookingId(), new ArrayList<>())))
+				.collect(Collectors.toList());
+	}
+
 }
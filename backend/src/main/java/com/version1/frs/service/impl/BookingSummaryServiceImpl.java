@@ -0,0 +1,210 @@
+package com.version1.frs.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.version1.frs.dto.BookingSummaryResponse;
+import com.version1.frs.dto.PageResponse;
+import com.version1.frs.dto.PassengerResponse;
+import com.version1.frs.model.Airport;
+import com.version1.frs.model.Booking;
+import com.version1.frs.model.BookingSummary;
+import com.version1.frs.model.Flight;
+import com.version1.frs.repository.BookingRepository;
+import com.version1.frs.repository.BookingSummaryRepository;
+import com.version1.frs.service.BookingSummaryService;
+
+/**
+ * Implementation of the {@link BookingSummaryService} interface. The passenger
+ * list is stored as JSON in the summary row, so a page of history is one
+ * indexed range scan on TBL_BOOKING_SUMMARIES regardless of how many tickets
+ * the bookings hold.
+ */
+@Service
+public class BookingSummaryServiceImpl implements BookingSummaryService {
+
+	private static final Logger log = LoggerFactory.getLogger(BookingSummaryServiceImpl.class);
+
+	/** Largest page a client may request. */
+	private static final int MAX_PAGE_SIZE = 100;
+
+	/** Bookings backfilled per transaction. */
+	private static final int BACKFILL_BATCH = 500;
+
+	private final BookingSummaryRepository bookingSummaryRepository;
+	private final BookingRepository bookingRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	// Constructor injection for dependencies
+	public BookingSummaryServiceImpl(BookingSummaryRepository bookingSummaryRepository,
+			BookingRepository bookingRepository, ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager) {
+		this.bookingSummaryRepository = bookingSummaryRepository;
+		this.bookingRepository = bookingRepository;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Override
+	@Transactional
+	public void recordBooking(Booking booking) {
+		bookingSummaryRepository.save(toSummary(booking));
+	}
+
+	@Override
+	@Transactional
+	public void removeBooking(Long bookingId) {
+		if (bookingSummaryRepository.existsById(bookingId)) {
+			bookingSummaryRepository.deleteById(bookingId);
+		}
+	}
+
+	/**
+	 * Updates all affected summaries with one statement, without loading them.
+	 */
+	@Override
+	@Transactional
+	public void refreshFlight(Flight flight) {
+		bookingSummaryRepository.updateFlight(flight.getId(), flight.getAirline(), flight.getDepartureTime(),
+				flight.getArrivalTime());
+	}
+
+	/**
+	 * Updates all affected summaries with one statement per direction, without
+	 * loading them.
+	 */
+	@Override
+	@Transactional
+	public void refreshAirport(Airport airport) {
+		bookingSummaryRepository.updateFromAirport(airport.getId(), airport.getAirportCode(),
+				airport.getAirportName());
+		bookingSummaryRepository.updateToAirport(airport.getId(), airport.getAirportCode(), airport.getAirportName());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PageResponse<BookingSummaryResponse> getBookingHistory(Long userId, int page, int size) {
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		Slice<BookingSummary> slice = bookingSummaryRepository
+				.findByUserIdOrderByBookingTimeDescBookingIdDesc(userId, PageRequest.of(Math.max(page, 0), pageSize));
+		List<BookingSummaryResponse> content = slice.getContent().stream().map(this::mapToDto)
+				.collect(Collectors.toList());
+		return new PageResponse<>(content, slice.getNumber(), slice.getSize(), slice.hasNext());
+	}
+
+	/**
+	 * Backfills in batches, each in its own transaction, so a large booking table
+	 * is never loaded at once.
+	 *
+	 * @return the number of summaries created
+	 */
+	@Override
+	public int rebuildMissingSummaries() {
+		int created = 0;
+		while (true) {
+			Integer batch = transactionTemplate.execute(status -> {
+				List<Long> ids = bookingSummaryRepository.findBookingIdsWithoutSummary(PageRequest.of(0, BACKFILL_BATCH));
+				bookingRepository.findAllById(ids).forEach(booking -> bookingSummaryRepository.save(toSummary(booking)));
+				return ids.size();
+			});
+			created += batch;
+			if (batch < BACKFILL_BATCH) {
+				return created;
+			}
+		}
+	}
+
+	/**
+	 * Backfills summaries for bookings made before the read model existed.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void seedOnStartup() {
+		int created = rebuildMissingSummaries();
+		if (created > 0) {
+			log.info("Created booking summaries for {} existing bookings", created);
+		}
+	}
+
+	private BookingSummary toSummary(Booking booking) {
+		Flight flight = booking.getFlight();
+		Airport from = flight.getFromAirport();
+		Airport to = flight.getToAirport();
+
+		BookingSummary summary = new BookingSummary();
+		summary.setBookingId(booking.getBookingId());
+		summary.setUserId(booking.getUser().getUserId());
+		summary.setBookingTime(booking.getBookingTime());
+		summary.setTotalAmount(booking.getTotalAmount());
+		summary.setFlightId(flight.getId());
+		summary.setAirline(flight.getAirline());
+		summary.setDepartureTime(flight.getDepartureTime());
+		summary.setArrivalTime(flight.getArrivalTime());
+		summary.setFromAirportId(from.getId());
+		summary.setFromAirportCode(from.getAirportCode());
+		summary.setFromAirportName(from.getAirportName());
+		summary.setToAirportId(to.getId());
+		summary.setToAirportCode(to.getAirportCode());
+		summary.setToAirportName(to.getAirportName());
+
+		List<PassengerResponse> passengers = booking.getBookedTickets().stream()
+				.map(t -> new PassengerResponse(t.getPassengerName(), t.getPassengerAge(), t.getPassengerGender(),
+						t.getSeatNumber()))
+				.collect(Collectors.toList());
+		summary.setPassengerCount(passengers.size());
+		try {
+			summary.setPassengers(objectMapper.writeValueAsString(passengers));
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Could not serialize passengers of booking " + booking.getBookingId(), e);
+		}
+		return summary;
+	}
+
+	private BookingSummaryResponse mapToDto(BookingSummary summary) {
+		BookingSummaryResponse response = new BookingSummaryResponse();
+		response.setBookingId(summary.getBookingId());
+		response.setBookingTime(summary.getBookingTime());
+		response.setTotalAmount(summary.getTotalAmount());
+		response.setFlightId(summary.getFlightId());
+		response.setAirline(summary.getAirline());
+		response.setDepartureTime(summary.getDepartureTime());
+		response.setArrivalTime(summary.getArrivalTime());
+		response.setFromAirportId(summary.getFromAirportId());
+		response.setFromAirportCode(summary.getFromAirportCode());
+		response.setFromAirportName(summary.getFromAirportName());
+		response.setToAirportId(summary.getToAirportId());
+		response.setToAirportCode(summary.getToAirportCode());
+		response.setToAirportName(summary.getToAirportName());
+		response.setPassengers(readPassengers(summary));
+		return response;
+	}
+
+	private List<PassengerResponse> readPassengers(BookingSummary summary) {
+		try {
+			List<PassengerResponse> passengers = new ArrayList<>(summary.getPassengerCount());
+			for (JsonNode node : objectMapper.readTree(summary.getPassengers())) {
+				passengers.add(new PassengerResponse(node.path("passengerName").asText(),
+						node.path("passengerAge").asInt(), node.path("passengerGender").asText(),
+						node.path("seatNumber").asText(null)));
+			}
+			return passengers;
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Could not read passengers of booking " + summary.getBookingId(), e);
+		}
+	}
+}
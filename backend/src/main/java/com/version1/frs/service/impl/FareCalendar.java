@@ -0,0 +1,255 @@
+package com.version1.frs.service.impl;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.version1.frs.model.Flight;
+import com.version1.frs.repository.FlightRepository;
+
+/**
+ * Lowest fare per route and departure day over all upcoming flights. Each
+ * route keeps its days in a sorted map, so the calendar of a route over any
+ * date range is a single range lookup without touching the database.
+ * <p>
+ * Flights are added, removed and repriced incrementally once the change has
+ * committed. The whole calendar is also rebuilt from the database on startup
+ * and every {@code fare-calendar.rebuild-interval-ms}, which drops departed
+ * flights and picks up changes committed by other instances. Changes that
+ * arrive while a rebuild is loading flights are recorded and replayed on the
+ * rebuilt calendar before it replaces the current one.
+ */
+@Component
+public class FareCalendar {
+
+	private static final Logger log = LoggerFactory.getLogger(FareCalendar.class);
+
+	/**
+	 * The cheapest flight of a route on one day.
+	 *
+	 * @param lowestPrice the lowest price on that day
+	 * @param flightId    the ID of the flight with the lowest price
+	 * @param flightCount the number of flights on that day
+	 */
+	public record DayFare(BigDecimal lowestPrice, Long flightId, int flightCount) {
+	}
+
+	private record Route(Long sourceId, Long destinationId) {
+	}
+
+	private record FlightFare(Route route, LocalDate date, BigDecimal price) {
+	}
+
+	/**
+	 * The days of one route. {@code days} is read without locking; {@code prices}
+	 * holds every flight's price per day to recompute a day's minimum and is
+	 * guarded by {@link FareCalendar#lock}.
+	 */
+	private static final class RouteFares {
+		final NavigableMap<LocalDate, DayFare> days = new ConcurrentSkipListMap<>();
+		final Map<LocalDate, Map<Long, BigDecimal>> prices = new HashMap<>();
+	}
+
+	/**
+	 * A complete calendar. {@code flights} is guarded by
+	 * {@link FareCalendar#lock}.
+	 */
+	private static final class State {
+		final Map<Route, RouteFares> routes = new ConcurrentHashMap<>();
+		final Map<Long, FlightFare> flights = new HashMap<>();
+	}
+
+	private final FlightRepository flightRepository;
+	private final TransactionTemplate readOnlyTransaction;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ReentrantLock rebuildLock = new ReentrantLock();
+	private volatile State state = new State();
+
+	/** Changes made while a rebuild is running, or null; guarded by lock. */
+	private List<Consumer<State>> journal;
+
+	// Constructor injection for dependencies
+	public FareCalendar(FlightRepository flightRepository, PlatformTransactionManager transactionManager) {
+		this.flightRepository = flightRepository;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	// -------------------- Reads --------------------
+
+	/**
+	 * Gets the days with flights on a route within a date range.
+	 *
+	 * @param sourceId      the ID of the departure airport
+	 * @param destinationId the ID of the arrival airport
+	 * @param from          the first day, inclusive
+	 * @param to            the last day, inclusive
+	 * @return an unmodifiable view of the days in date order
+	 */
+	public NavigableMap<LocalDate, DayFare> days(Long sourceId, Long destinationId, LocalDate from, LocalDate to) {
+		RouteFares fares = state.routes.get(new Route(sourceId, destinationId));
+		if (fares == null || from.isAfter(to)) {
+			return Collections.emptyNavigableMap();
+		}
+		return Collections.unmodifiableNavigableMap(fares.days.subMap(from, true, to, true));
+	}
+
+	// -------------------- Updates --------------------
+
+	/**
+	 * Adds a flight, or moves it to its current route, day and price.
+	 *
+	 * @param flightId      the ID of the flight
+	 * @param sourceId      the ID of the departure airport
+	 * @param destinationId the ID of the arrival airport
+	 * @param date          the departure date
+	 * @param price         the ticket price
+	 */
+	public void put(Long flightId, Long sourceId, Long destinationId, LocalDate date, BigDecimal price) {
+		FlightFare fare = new FlightFare(new Route(sourceId, destinationId), date, price);
+		apply(s -> put(s, flightId, fare));
+	}
+
+	/**
+	 * Removes a flight. Unknown flights are ignored.
+	 *
+	 * @param flightId the ID of the flight
+	 */
+	public void remove(Long flightId) {
+		apply(s -> remove(s, flightId));
+	}
+
+	/**
+	 * Rebuilds the calendar from the upcoming flights in the database.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${fare-calendar.rebuild-interval-ms:600000}",
+			initialDelayString = "${fare-calendar.rebuild-interval-ms:600000}")
+	public void rebuild() {
+		if (!rebuildLock.tryLock()) {
+			return;
+		}
+		try {
+			lock.lock();
+			try {
+				journal = new ArrayList<>();
+			} finally {
+				lock.unlock();
+			}
+
+			State rebuilt = new State();
+			try {
+				readOnlyTransaction.executeWithoutResult(status -> {
+					for (Flight flight : flightRepository.findByDepartureTimeAfter(LocalDateTime.now())) {
+						put(rebuilt, flight.getId(),
+								new FlightFare(new Route(flight.getFromAirport().getId(), flight.getToAirport().getId()),
+										flight.getDepartureTime().toLocalDate(), flight.getPrice()));
+					}
+				});
+			} catch (RuntimeException e) {
+				lock.lock();
+				try {
+					journal = null;
+				} finally {
+					lock.unlock();
+				}
+				log.warn("Failed to rebuild fare calendar", e);
+				return;
+			}
+
+			lock.lock();
+			try {
+				journal.forEach(change -> change.accept(rebuilt));
+				journal = null;
+				state = rebuilt;
+			} finally {
+				lock.unlock();
+			}
+			log.debug("Fare calendar rebuilt: {} flights on {} routes", rebuilt.flights.size(), rebuilt.routes.size());
+		} finally {
+			rebuildLock.unlock();
+		}
+	}
+
+	private void apply(Consumer<State> change) {
+		lock.lock();
+		try {
+			change.accept(state);
+			if (journal != null) {
+				journal.add(change);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static void put(State s, Long flightId, FlightFare fare) {
+		remove(s, flightId);
+		s.flights.put(flightId, fare);
+		RouteFares fares = s.routes.computeIfAbsent(fare.route(), route -> new RouteFares());
+		fares.prices.computeIfAbsent(fare.date(), date -> new HashMap<>()).put(flightId, fare.price());
+		refreshDay(fares, fare.date());
+	}
+
+	private static void remove(State s, Long flightId) {
+		FlightFare fare = s.flights.remove(flightId);
+		if (fare == null) {
+			return;
+		}
+		RouteFares fares = s.routes.get(fare.route());
+		Map<Long, BigDecimal> prices = fares.prices.get(fare.date());
+		prices.remove(flightId);
+		if (prices.isEmpty()) {
+			fares.prices.remove(fare.date());
+		}
+		refreshDay(fares, fare.date());
+		if (fares.prices.isEmpty()) {
+			s.routes.remove(fare.route());
+		}
+	}
+
+	/**
+	 * Recomputes the lowest fare of a day; ties go to the lowest flight ID.
+	 */
+	private static void refreshDay(RouteFares fares, LocalDate date) {
+		Map<Long, BigDecimal> prices = fares.prices.get(date);
+		if (prices == null) {
+			fares.days.remove(date);
+			return;
+		}
+		Long cheapest = null;
+		BigDecimal lowest = null;
+		for (Map.Entry<Long, BigDecimal> entry : prices.entrySet()) {
+			BigDecimal price = entry.getValue();
+			if (price == null) {
+				continue;
+			}
+			int cmp = lowest == null ? -1 : price.compareTo(lowest);
+			if (cmp < 0 || (cmp == 0 && entry.getKey() < cheapest)) {
+				lowest = price;
+				cheapest = entry.getKey();
+			}
+		}
+		fares.days.put(date, new DayFare(lowest, cheapest, prices.size()));
+	}
+}
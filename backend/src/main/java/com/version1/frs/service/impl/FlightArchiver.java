@@ -0,0 +1,142 @@
+package com.version1.frs.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.version1.frs.model.TableVersion;
+import com.version1.frs.repository.FlightArchiveRepository;
+import com.version1.frs.service.TableVersionService;
+
+/**
+ * Moves flights that departed more than {@code archive.after-days} days ago,
+ * with their bookings, tickets and reviews, into the archive tables. Each run
+ * works through chunks of {@code archive.batch-size} flights, one short
+ * transaction per chunk, and pauses {@code archive.pause-ms} between chunks so
+ * that live traffic is not held up by long transactions or a saturated
+ * connection pool. A run stops after {@code archive.max-batches} chunks; the
+ * rest is picked up by the next run.
+ * <p>
+ * If two instances archive the same chunk at once, the second copy fails on
+ * the archive primary keys and rolls back, and that run stops.
+ */
+@Component
+public class FlightArchiver {
+
+	private static final Logger log = LoggerFactory.getLogger(FlightArchiver.class);
+
+	private final FlightArchiveRepository archiveRepository;
+	private final TableVersionService tableVersionService;
+	private final SeatMapCache seatMapCache;
+	private final FareCalendar fareCalendar;
+	private final ReviewSearchIndex reviewSearchIndex;
+	private final TransactionTemplate transaction;
+	private final boolean enabled;
+	private final int afterDays;
+	private final int batchSize;
+	private final int maxBatches;
+	private final long pauseMillis;
+	private final ReentrantLock runLock = new ReentrantLock();
+
+	// Constructor injection for dependencies
+	public FlightArchiver(FlightArchiveRepository archiveRepository, TableVersionService tableVersionService,
+			SeatMapCache seatMapCache, FareCalendar fareCalendar, ReviewSearchIndex reviewSearchIndex,
+			PlatformTransactionManager transactionManager,
+			@Value("${archive.enabled:true}") boolean enabled, @Value("${archive.after-days:90}") int afterDays,
+			@Value("${archive.batch-size:100}") int batchSize, @Value("${archive.max-batches:50}") int maxBatches,
+			@Value("${archive.pause-ms:500}") long pauseMillis) {
+		this.archiveRepository = archiveRepository;
+		this.tableVersionService = tableVersionService;
+		this.seatMapCache = seatMapCache;
+		this.fareCalendar = fareCalendar;
+		this.reviewSearchIndex = reviewSearchIndex;
+		this.transaction = new TransactionTemplate(transactionManager);
+		this.transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.enabled = enabled;
+		this.afterDays = afterDays;
+		this.batchSize = batchSize;
+		this.maxBatches = maxBatches;
+		this.pauseMillis = pauseMillis;
+	}
+
+	/**
+	 * Archives departed flights chunk by chunk until none are left or the chunk
+	 * limit of the run is reached.
+	 */
+	@Scheduled(fixedDelayString = "${archive.interval-ms:3600000}",
+			initialDelayString = "${archive.initial-delay-ms:300000}")
+	public void archiveDeparted() {
+		if (!enabled || !runLock.tryLock()) {
+			return;
+		}
+		try {
+			LocalDateTime cutoff = LocalDateTime.now().minusDays(afterDays);
+			int flights = 0, bookings = 0, tickets = 0, reviews = 0;
+			for (int batch = 0; batch < maxBatches; batch++) {
+				FlightArchiveRepository.MovedRows moved;
+				try {
+					moved = transaction.execute(status -> archiveChunk(cutoff));
+				} catch (RuntimeException e) {
+					log.warn("Flight archival stopped after {} flights", flights, e);
+					break;
+				}
+				if (moved == null) {
+					break;
+				}
+				flights += moved.flights();
+				bookings += moved.bookings();
+				tickets += moved.tickets();
+				reviews += moved.reviews();
+				if (moved.flights() < batchSize || !pause()) {
+					break;
+				}
+			}
+			if (flights > 0) {
+				log.info("Archived {} flights departed before {} with {} bookings, {} tickets and {} reviews", flights,
+						cutoff, bookings, tickets, reviews);
+			}
+		} finally {
+			runLock.unlock();
+		}
+	}
+
+	/**
+	 * Moves one chunk of flights, or returns null if there is nothing to archive.
+	 */
+	private FlightArchiveRepository.MovedRows archiveChunk(LocalDateTime cutoff) {
+		List<Long> flightIds = archiveRepository.findDepartedFlightIds(cutoff, batchSize);
+		if (flightIds.isEmpty()) {
+			return null;
+		}
+		List<Long> reviewIds = archiveRepository.findReviewIds(flightIds);
+		FlightArchiveRepository.MovedRows moved = archiveRepository.moveToArchive(flightIds, LocalDateTime.now());
+		tableVersionService.increment(TableVersion.FLIGHTS);
+		AfterCommit.run(() -> {
+			flightIds.forEach(id -> {
+				seatMapCache.evict(id);
+				fareCalendar.remove(id);
+			});
+			reviewSearchIndex.remove(reviewIds);
+		});
+		return moved;
+	}
+
+	private boolean pause() {
+		try {
+			Thread.sleep(pauseMillis);
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.version1.frs.service.impl;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.version1.frs.service.FlightService;
+
+/**
+ * Short-lived cache of encoded flight search results per route and day. Entries
+ * expire after a fixed time and the cache is bounded in size; on top of that,
+ * entries are dropped as soon as a change to a route and day commits.
+ * <p>
+ * A search that was running while its route and day were invalidated must not
+ * store its possibly outdated result afterwards. Invalidation therefore leaves
+ * a marker with the invalidation time, and results are only stored if the
+ * search started after the latest invalidation of their key.
+ */
+@Component
+public class FlightSearchCache {
+
+	/**
+	 * Cache key: a route on a given day.
+	 *
+	 * @param sourceId      the ID of the departure airport
+	 * @param destinationId the ID of the arrival airport
+	 * @param date          the departure date
+	 */
+	public record Key(Long sourceId, Long destinationId, LocalDate date) {
+	}
+
+	/**
+	 * Cached value, or an invalidation marker if {@code flights} is null.
+	 */
+	private record Entry(FlightService.EncodedFlights flights, long createdAt) {
+	}
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final long ttlNanos;
+	private final int maxEntries;
+	private volatile long clearedAt = System.nanoTime();
+
+	// Constructor injection for dependencies
+	public FlightSearchCache(@Value("${flight-search.cache.ttl-ms:5000}") long ttlMillis,
+			@Value("${flight-search.cache.max-entries:10000}") int maxEntries) {
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+		this.maxEntries = maxEntries;
+	}
+
+	/**
+	 * Gets the cached result of a search.
+	 *
+	 * @param key the route and day
+	 * @return the encoded result, or null if it is not cached or has expired
+	 */
+	public FlightService.EncodedFlights get(Key key) {
+		Entry entry = entries.get(key);
+		if (entry == null || entry.flights() == null || expired(entry, System.nanoTime())) {
+			return null;
+		}
+		return entry.flights();
+	}
+
+	/**
+	 * Gets the start time to pass to {@link #put} for a search that is about to
+	 * run.
+	 *
+	 * @return the current time in nanoseconds
+	 */
+	public long startTime() {
+		return System.nanoTime();
+	}
+
+	/**
+	 * Stores the result of a search, unless its key was invalidated after the
+	 * search started.
+	 *
+	 * @param key       the route and day
+	 * @param flights   the encoded result
+	 * @param startedAt the time the search started, from {@link #startTime()}
+	 */
+	public void put(Key key, FlightService.EncodedFlights flights, long startedAt) {
+		if (startedAt - clearedAt <= 0) {
+			return;
+		}
+		entries.compute(key, (k, current) -> current != null && current.flights() == null
+				&& startedAt - current.createdAt() <= 0 ? current : new Entry(flights, System.nanoTime()));
+		if (entries.size() > maxEntries) {
+			evict();
+		}
+	}
+
+	/**
+	 * Drops the cached result of a route and day.
+	 *
+	 * @param sourceId      the ID of the departure airport
+	 * @param destinationId the ID of the arrival airport
+	 * @param date          the departure date
+	 */
+	public void invalidate(Long sourceId, Long destinationId, LocalDate date) {
+		entries.put(new Key(sourceId, destinationId, date), new Entry(null, System.nanoTime()));
+		if (entries.size() > maxEntries) {
+			evict();
+		}
+	}
+
+	/**
+	 * Drops all cached results, for changes that affect every route such as
+	 * airport names or airplane capacities.
+	 */
+	public void invalidateAll() {
+		clearedAt = System.nanoTime();
+		entries.clear();
+	}
+
+	/**
+	 * Removes expired entries and markers and, if the cache is still over its
+	 * limit, the oldest tenth of the remaining entries.
+	 */
+	private void evict() {
+		if (!evictionLock.tryLock()) {
+			return;
+		}
+		try {
+			long now = System.nanoTime();
+			entries.values().removeIf(entry -> expired(entry, now));
+			int excess = entries.size() - maxEntries;
+			if (excess > 0) {
+				List<Map.Entry<Key, Entry>> oldest = new ArrayList<>(entries.entrySet());
+				oldest.sort(Comparator.comparingLong(e -> e.getValue().createdAt()));
+				for (Map.Entry<Key, Entry> e : oldest.subList(0, Math.min(oldest.size(), excess + maxEntries / 10))) {
+					entries.remove(e.getKey(), e.getValue());
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	private boolean expired(Entry entry, long now) {
+		return now - entry.createdAt() >= ttlNanos;
+	}
+}
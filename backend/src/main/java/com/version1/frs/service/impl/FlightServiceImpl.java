@@ -1,21 +1,49 @@
 package com.version1.frs.service.impl;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.version1.frs.dto.FareCalendarResponse;
+import com.version1.frs.dto.FareDayResponse;
 import com.version1.frs.dto.FlightRequest;
 import com.version1.frs.dto.FlightResponse;
+import com.version1.frs.dto.PageResponse;
+import com.version1.frs.dto.SeatMapResponse;
 import com.version1.frs.model.Airplane;
 import com.version1.frs.model.Airport;
 import com.version1.frs.model.Flight;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.model.TableVersion;
 import com.version1.frs.repository.AirplaneRepository;
 import com.version1.frs.repository.AirportRepository;
 import com.version1.frs.repository.FlightRepository;
+import com.version1.frs.repository.FlightSearchRepository;
+import com.version1.frs.service.AnalyticsService;
+import com.version1.frs.service.BookingSummaryService;
 import com.version1.frs.service.FlightService;
+import com.version1.frs.service.OutboxService;
+import com.version1.frs.service.SeatMapService;
+import com.version1.frs.service.TableVersionService;
 
 /**
  * Implementation of the {@link FlightService} interface. Provides methods for
@@ -25,16 +53,41 @@
 @Service
 public class FlightServiceImpl implements FlightService {
 
+	/** Upper bound for the page size of paginated flight searches. */
+	private static final int MAX_PAGE_SIZE = 100;
+
 	private final FlightRepository flightRepository;
 	private final AirplaneRepository airplaneRepository;
 	private final AirportRepository airportRepository;
+	private final AnalyticsService analyticsService;
+	private final SeatMapService seatMapService;
+	private final BookingSummaryService bookingSummaryService;
+	private final OutboxService outboxService;
+	private final TableVersionService tableVersionService;
+	private final FlightSearchCache searchCache;
+	private final FareCalendar fareCalendar;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate readOnlyTransaction;
 
 	// Constructor injection for dependencies
 	public FlightServiceImpl(FlightRepository flightRepository, AirplaneRepository airplaneRepository,
-			AirportRepository airportRepository) {
+			AirportRepository airportRepository, AnalyticsService analyticsService, SeatMapService seatMapService,
+			BookingSummaryService bookingSummaryService, OutboxService outboxService,
+			TableVersionService tableVersionService, FlightSearchCache searchCache, FareCalendar fareCalendar,
+			ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
 		this.flightRepository = flightRepository;
 		this.airplaneRepository = airplaneRepository;
 		this.airportRepository = airportRepository;
+		this.analyticsService = analyticsService;
+		this.seatMapService = seatMapService;
+		this.bookingSummaryService = bookingSummaryService;
+		this.outboxService = outboxService;
+		this.tableVersionService = tableVersionService;
+		this.searchCache = searchCache;
+		this.fareCalendar = fareCalendar;
+		this.objectMapper = objectMapper;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
 	}
 
 	/**
@@ -47,6 +100,7 @@ public FlightServiceImpl(FlightRepository flightRepository, AirplaneRepository a
 	 *                                  found in the system
 	 */
 	@Override
+	@Transactional
 	public FlightResponse addFlight(FlightRequest flightRequest) {
 		// Fetch airplane entity
 		Airplane airplane = airplaneRepository.findById(flightRequest.getAirplaneId())
@@ -70,19 +124,27 @@ public FlightResponse addFlight(FlightRequest flightRequest) {
 		flight.setAirline(flightRequest.getAirline());
 
 		flightRepository.save(flight);
+		analyticsService.registerFlight(flight);
+		int seats = seatMapService.createSeatMap(flight);
+		tableVersionService.increment(TableVersion.FLIGHTS);
+		invalidateSearchAfterCommit(flight);
+		updateFareAfterCommit(flight);
 
-		return mapToDto(flight);
+		// The seat map is empty, so every seat is available
+		FlightResponse response = toResponse(flight);
+		response.setAvailableSeats(seats);
+		return response;
 	}
 
 	/**
-	 * Retrieves all upcoming flights from the system.
+	 * Retrieves all upcoming flights from the system, ordered by departure time.
 	 *
 	 * @return a list of upcoming {@link FlightResponse} DTOs
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public List<FlightResponse> getAllFlights() {
-		return flightRepository.findByDepartureTimeAfter(LocalDateTime.now()).stream().map(this::mapToDto)
-				.collect(Collectors.toList());
+		return searchFlightsBetween(null, null, null);
 	}
 
 	/**
@@ -94,16 +156,30 @@ public List<FlightResponse> getAllFlights() {
 	 *                                  expired
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public FlightResponse getFlightById(Long id) {
-		Flight flight = flightRepository.findById(id)
-				.orElseThrow(() -> new IllegalArgumentException("Flight not found"));
+		// Departed flights are excluded by the query; only a miss checks which case it was
+		Flight flight = flightRepository.findUpcomingById(id, LocalDateTime.now())
+				.orElseThrow(() -> notUpcoming(id));
+		return mapToDto(flight);
+	}
 
-		// Check if the flight's departure time is in the future (not expired)
-		if (flight.getDepartureTime().isBefore(LocalDateTime.now())) {
-			throw new IllegalArgumentException("This flight has already expired.");
+	/**
+	 * Builds the ETag of a flight from the versions of the tables its response is
+	 * made of and the version of its cached seat map. Only flights whose seat map
+	 * is cached and which have not departed get an ETag, so a 304 is never sent
+	 * for a flight that {@link #getFlightById(Long)} would reject, and computing
+	 * the ETag never touches the database.
+	 */
+	@Override
+	public String getFlightETag(Long id) {
+		Long seatMapVersion = seatMapService.getUpcomingSeatMapVersion(id);
+		if (seatMapVersion == null) {
+			return null;
 		}
-
-		return mapToDto(flight);
+		return "\"flight-" + id + "-" + tableVersionService.currentVersion(TableVersion.FLIGHTS) + "."
+				+ tableVersionService.currentVersion(TableVersion.AIRPORTS) + "."
+				+ tableVersionService.currentVersion(TableVersion.AIRPLANES) + "." + seatMapVersion + "\"";
 	}
 
 	/**
@@ -113,45 +189,223 @@ public FlightResponse getFlightById(Long id) {
 	 * @throws RuntimeException if the flight is not found
 	 */
 	@Override
+	@Transactional
 	public void deleteFlight(Long id) {
 		Flight flight = flightRepository.findById(id)
 				.orElseThrow(() -> new RuntimeException("Flight not found with id: " + id));
 		flightRepository.delete(flight);
+		analyticsService.unregisterFlight(id);
+		seatMapService.deleteSeatMap(id);
+		tableVersionService.increment(TableVersion.FLIGHTS);
+		invalidateSearchAfterCommit(flight);
+		AfterCommit.run(() -> fareCalendar.remove(id));
+	}
+
+	/**
+	 * Changes the ticket price of a flight. Cached searches for its route and day
+	 * and its fare calendar entry are updated once the change has committed.
+	 *
+	 * @param id    the ID of the flight
+	 * @param price the new price
+	 * @return the repriced flight as a {@link FlightResponse} DTO
+	 * @throws RuntimeException if the flight is not found or has departed, or the
+	 *                          price is not positive
+	 */
+	@Override
+	@Transactional
+	public FlightResponse updateFlightPrice(Long id, BigDecimal price) {
+		if (price == null || price.signum() <= 0) {
+			throw new RuntimeException("Price must be greater than zero");
+		}
+		Flight flight = flightRepository.findById(id)
+				.orElseThrow(() -> new RuntimeException("Flight not found with id: " + id));
+		if (flight.getDepartureTime().isBefore(LocalDateTime.now())) {
+			throw new RuntimeException("This flight has already expired.");
+		}
+		flight.setPrice(price);
+		flightRepository.save(flight);
+		bookingSummaryService.refreshFlight(flight);
+		outboxService.publish(OutboxEvent.FLIGHT, id, OutboxEvent.FLIGHT_UPDATED,
+				Map.of("flightId", id, "price", price));
+		tableVersionService.increment(TableVersion.FLIGHTS);
+		invalidateSearchAfterCommit(flight);
+		updateFareAfterCommit(flight);
+		return mapToDto(flight);
 	}
 
 	/**
-	 * Searches for flights between a source and destination airport on a specified
-	 * date.
+	 * Searches for upcoming flights between a source and destination airport on a
+	 * specified date, ordered by departure time. The departure-time lower bound is
+	 * part of the query, so departed flights are never loaded.
 	 *
-	 * @param sourceId      the ID of the source airport
-	 * @param destinationId the ID of the destination airport
+	 * @param sourceId      the ID of the source airport (optional)
+	 * @param destinationId the ID of the destination airport (optional)
 	 * @param date          the date for the flight search (optional)
 	 * @return a list of matching {@link FlightResponse} DTOs
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public List<FlightResponse> searchFlights(Long sourceId, Long destinationId, LocalDate date) {
-		LocalDateTime startOfDay = null, endOfDay = null;
-		if (date != null) {
-			startOfDay = date.atStartOfDay();
-			endOfDay = date.atTime(23, 59, 59);
+		return searchFlightsBetween(sourceId == null ? null : Set.of(sourceId),
+				destinationId == null ? null : Set.of(destinationId), date);
+	}
+
+	/**
+	 * Serves the search from the {@link FlightSearchCache}. On a miss the search
+	 * runs in a read-only transaction of its own, so cache hits never open one,
+	 * and the result is encoded and compressed once for all following requests.
+	 */
+	@Override
+	public EncodedFlights searchFlightsEncoded(Long sourceId, Long destinationId, LocalDate date) {
+		FlightSearchCache.Key key = new FlightSearchCache.Key(sourceId, destinationId, date);
+		EncodedFlights cached = searchCache.get(key);
+		if (cached != null) {
+			return cached;
 		}
+		long startedAt = searchCache.startTime();
+		List<FlightResponse> flights = readOnlyTransaction
+				.execute(status -> searchFlights(sourceId, destinationId, date));
+		EncodedFlights encoded = encode(flights);
+		searchCache.put(key, encoded, startedAt);
+		return encoded;
+	}
 
-		List<Flight> flights = flightRepository.searchFlights(sourceId, destinationId, startOfDay, endOfDay);
+	/**
+	 * Runs as a single query with departed flights excluded there and both
+	 * airports fetched along.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<FlightResponse> searchFlightsBetween(Set<Long> sourceIds, Set<Long> destinationIds,
+			LocalDate date) {
+		return flightRepository
+				.searchFlightsSorted(criteria(sourceIds, destinationIds, date, null, null, null, null),
+						FlightSearchRepository.SortKey.DEPARTURE, false, 0, 0)
+				.stream().map(this::mapToDto).collect(Collectors.toList());
+	}
 
-		// Filter out past flights in the service layer
-		flights = flights.stream().filter(flight -> flight.getDepartureTime().isAfter(LocalDateTime.now()))
+	/**
+	 * Pushes every filter, the sort order and the page into a single query, with
+	 * departed flights excluded there as well. One extra row is fetched to tell
+	 * whether a next page exists.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public PageResponse<FlightResponse> searchFlightsPage(Set<Long> sourceIds, Set<Long> destinationIds, LocalDate date,
+			Set<String> airlines, BigDecimal maxPrice, LocalTime departFrom, LocalTime departTo, String sort,
+			boolean descending, int page, int size) {
+		FlightSearchRepository.SortKey sortKey;
+		try {
+			sortKey = FlightSearchRepository.SortKey.valueOf(sort.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException | NullPointerException e) {
+			throw new IllegalArgumentException("Unknown sort key: " + sort);
+		}
+		int pageNumber = Math.max(page, 0);
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+		FlightSearchRepository.Criteria criteria = criteria(sourceIds, destinationIds, date, airlines, maxPrice,
+				departFrom, departTo);
+
+		List<Flight> flights = flightRepository.searchFlightsSorted(criteria, sortKey, descending,
+				pageNumber * pageSize, pageSize + 1);
+		boolean hasNext = flights.size() > pageSize;
+		List<FlightResponse> content = flights.stream().limit(pageSize).map(this::mapToDto)
 				.collect(Collectors.toList());
+		return new PageResponse<>(content, pageNumber, pageSize, hasNext);
+	}
 
-		return flights.stream().map(this::mapToDto).collect(Collectors.toList());
+	/**
+	 * Builds search criteria for upcoming flights, limited to the given day if
+	 * there is one.
+	 */
+	private static FlightSearchRepository.Criteria criteria(Set<Long> sourceIds, Set<Long> destinationIds,
+			LocalDate date, Set<String> airlines, BigDecimal maxPrice, LocalTime departFrom, LocalTime departTo) {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime departAfter = now;
+		LocalDateTime departBefore = null;
+		if (date != null) {
+			LocalDateTime startOfDay = date.atStartOfDay();
+			departAfter = startOfDay.isAfter(now) ? startOfDay.minusNanos(1) : now;
+			departBefore = date.atTime(LocalTime.MAX);
+		}
+		return new FlightSearchRepository.Criteria(sourceIds, destinationIds, departAfter, departBefore, airlines,
+				maxPrice, departFrom, departTo);
+	}
+
+	/**
+	 * Reads the route's days from the {@link FareCalendar}; days before today are
+	 * skipped so that the range never reaches back into departed flights.
+	 */
+	@Override
+	public FareCalendarResponse getFareCalendar(Long sourceId, Long destinationId, LocalDate from, int days) {
+		LocalDate today = LocalDate.now();
+		LocalDate start = from == null || from.isBefore(today) ? today : from;
+		LocalDate end = (from == null ? today : from).plusDays(days - 1L);
+		NavigableMap<LocalDate, FareCalendar.DayFare> fares = fareCalendar.days(sourceId, destinationId, start, end);
+		List<FareDayResponse> result = fares.entrySet().stream()
+				.map(e -> new FareDayResponse(e.getKey(), e.getValue().lowestPrice(), e.getValue().flightId(),
+						e.getValue().flightCount()))
+				.collect(Collectors.toList());
+		return new FareCalendarResponse(sourceId, destinationId, start, end, result);
 	}
 
 	/**
-	 * Converts a {@link Flight} entity to a {@link FlightResponse} DTO.
+	 * Retrieves the seat map of an upcoming flight.
+	 *
+	 * @param id the ID of the flight
+	 * @return the {@link SeatMapResponse} DTO for the flight
+	 * @throws IllegalArgumentException if the flight is not found or has already
+	 *                                  expired
+	 */
+	@Override
+	public SeatMapResponse getSeatMap(Long id) {
+		if (!flightRepository.existsUpcomingById(id, LocalDateTime.now())) {
+			throw notUpcoming(id);
+		}
+		return seatMapService.getSeatMap(id);
+	}
+
+	/**
+	 * Checks whether a flight exists, regardless of whether it has departed.
+	 *
+	 * @param id the ID of the flight
+	 * @return true if the flight exists
+	 */
+	@Override
+	public boolean flightExists(Long id) {
+		return flightRepository.existsById(id);
+	}
+
+	/**
+	 * Builds the error for a flight that an upcoming-only query did not find,
+	 * telling a missing flight apart from a departed one.
+	 */
+	private IllegalArgumentException notUpcoming(Long id) {
+		return new IllegalArgumentException(
+				flightRepository.existsById(id) ? "This flight has already expired." : "Flight not found");
+	}
+
+	/**
+	 * Converts a {@link Flight} entity to a {@link FlightResponse} DTO, including
+	 * the number of available seats.
 	 *
 	 * @param flight the flight entity to convert
 	 * @return the corresponding {@link FlightResponse} DTO
 	 */
 	private FlightResponse mapToDto(Flight flight) {
+		FlightResponse response = toResponse(flight);
+		response.setAvailableSeats(seatMapService.getAvailableSeats(flight.getId()));
+		return response;
+	}
+
+	/**
+	 * Copies the schedule, route and price of a {@link Flight} entity into a new
+	 * {@link FlightResponse} DTO.
+	 *
+	 * @param flight the flight entity to convert
+	 * @return the corresponding {@link FlightResponse} DTO without seat data
+	 */
+	private FlightResponse toResponse(Flight flight) {
 		FlightResponse response = new FlightResponse();
 		response.setId(flight.getId());
 		response.setAirline(flight.getAirline());
@@ -170,4 +424,42 @@ private FlightResponse mapToDto(Flight flight) {
 		return response;
 	}
 
+	private EncodedFlights encode(List<FlightResponse> flights) {
+		try {
+			byte[] json = objectMapper.writeValueAsBytes(flights);
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+			try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+				gzip.write(json);
+			}
+			return new EncodedFlights(json, compressed.toByteArray());
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Failed to encode flight search results", e);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Drops cached searches for the flight's route and day once the surrounding
+	 * transaction has committed.
+	 */
+	private void invalidateSearchAfterCommit(Flight flight) {
+		Long sourceId = flight.getFromAirport().getId();
+		Long destinationId = flight.getToAirport().getId();
+		LocalDate date = flight.getDepartureTime().toLocalDate();
+		AfterCommit.run(() -> searchCache.invalidate(sourceId, destinationId, date));
+	}
+
+	/**
+	 * Puts the flight's route, day and price into the {@link FareCalendar} once
+	 * the surrounding transaction has committed.
+	 */
+	private void updateFareAfterCommit(Flight flight) {
+		Long id = flight.getId();
+		Long sourceId = flight.getFromAirport().getId();
+		Long destinationId = flight.getToAirport().getId();
+		LocalDate date = flight.getDepartureTime().toLocalDate();
+		BigDecimal price = flight.getPrice();
+		AfterCommit.run(() -> fareCalendar.put(id, sourceId, destinationId, date, price));
+	}
 }
@@ -0,0 +1,170 @@
+package com.version1.frs.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.repository.OutboxEventRepository;
+import com.version1.frs.service.OutboxEventHandler;
+
+/**
+ * Polls the outbox and delivers pending events to the registered
+ * {@link OutboxEventHandler}s on the scheduler thread, keeping side effects off
+ * the request path.
+ *
+ * <p>
+ * Events are processed in ID order. Before delivery, an event is claimed for
+ * {@code outbox.claim-timeout-ms} with a conditional update, so with several
+ * instances each event is delivered by one of them; if that instance dies, the
+ * claim expires and another one retries. Each event is handled and marked as
+ * delivered in one transaction, which rolls back if the claim was lost. If a
+ * handler fails, the event is retried with exponential backoff and later events
+ * of the same aggregate are held back until it succeeds, so per-booking
+ * ordering is preserved. Both conditions are applied in the query, so events in
+ * backoff never crowd out events that are due. After
+ * {@code outbox.max-attempts} failures the event is marked dead and logged; the
+ * later events of its aggregate stay pending until it is dealt with.
+ * </p>
+ * <p>
+ * Delivered events are deleted once they are older than
+ * {@code outbox.done-retention-hours}.
+ * </p>
+ */
+@Component
+public class OutboxDispatcher {
+
+	private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+	/** Upper bound of the retry backoff. */
+	private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final Map<String, List<OutboxEventHandler>> handlersByType;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Duration doneRetention;
+	private final Duration claimTimeout;
+
+	// Constructor injection for dependencies
+	public OutboxDispatcher(OutboxEventRepository outboxEventRepository, List<OutboxEventHandler> handlers,
+			ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+			@Value("${outbox.batch-size:100}") int batchSize, @Value("${outbox.max-attempts:10}") int maxAttempts,
+			@Value("${outbox.done-retention-hours:168}") long doneRetentionHours,
+			@Value("${outbox.claim-timeout-ms:60000}") long claimTimeoutMillis) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.handlersByType = handlers.stream()
+				.flatMap(handler -> handler.eventTypes().stream().map(type -> Map.entry(type, handler)))
+				.collect(Collectors.groupingBy(Map.Entry::getKey,
+						Collectors.mapping(Map.Entry::getValue, Collectors.toList())));
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.doneRetention = Duration.ofHours(doneRetentionHours);
+		this.claimTimeout = Duration.ofMillis(claimTimeoutMillis);
+	}
+
+	/**
+	 * Delivers one batch of pending events.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+	public void dispatchPending() {
+		// At most one event per aggregate is due, so failures need no bookkeeping here
+		for (OutboxEvent event : outboxEventRepository.findDue(LocalDateTime.now(), Limit.of(batchSize))) {
+			deliver(event);
+		}
+	}
+
+	/**
+	 * Deletes delivered events older than the retention period.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}",
+			initialDelayString = "${outbox.purge-interval-ms:3600000}")
+	public void purgeDelivered() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(doneRetention);
+		Integer deleted = transactionTemplate.execute(status -> outboxEventRepository.deleteDoneBefore(cutoff));
+		if (deleted != null && deleted > 0) {
+			log.info("Purged {} delivered outbox events processed before {}", deleted, cutoff);
+		}
+	}
+
+	/**
+	 * Claims an event, runs its handlers and marks it as delivered, or records
+	 * the failure. Events claimed by another dispatcher are skipped.
+	 *
+	 * @param event the event to deliver
+	 */
+	private void deliver(OutboxEvent event) {
+		LocalDateTime now = LocalDateTime.now();
+		// Truncated so that the lease compares equal after a round trip through the database
+		LocalDateTime leaseUntil = now.plus(claimTimeout).truncatedTo(ChronoUnit.MILLIS);
+		Integer claimed = transactionTemplate
+				.execute(status -> outboxEventRepository.claim(event.getEventId(), now, leaseUntil));
+		if (claimed == null || claimed == 0) {
+			return;
+		}
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				JsonNode payload = parse(event);
+				for (OutboxEventHandler handler : handlersByType.getOrDefault(event.getEventType(), List.of())) {
+					handler.handle(event, payload);
+				}
+				if (outboxEventRepository.complete(event.getEventId(), leaseUntil, LocalDateTime.now()) == 0) {
+					throw new IllegalStateException("Claim on outbox event " + event.getEventId() + " expired");
+				}
+			});
+		} catch (RuntimeException e) {
+			recordFailure(event, leaseUntil, e);
+		}
+	}
+
+	private void recordFailure(OutboxEvent event, LocalDateTime leaseUntil, RuntimeException error) {
+		int attempts = event.getAttempts() + 1;
+		boolean dead = attempts >= maxAttempts;
+		if (dead) {
+			log.error("Giving up on outbox event {} ({}) after {} attempts", event.getEventId(), event.getEventType(),
+					attempts, error);
+		} else {
+			log.warn("Outbox event {} ({}) failed, attempt {}: {}", event.getEventId(), event.getEventType(), attempts,
+					error.toString());
+		}
+		Duration backoff = Duration.ofSeconds(1L << Math.min(attempts, 16));
+		LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff.compareTo(MAX_BACKOFF) < 0 ? backoff : MAX_BACKOFF);
+		String message = String.valueOf(error.getMessage());
+		transactionTemplate.executeWithoutResult(status -> outboxEventRepository.findById(event.getEventId())
+				.filter(managed -> OutboxEvent.PENDING.equals(managed.getStatus())
+						&& leaseUntil.equals(managed.getNextAttemptAt()))
+				.ifPresent(managed -> {
+					managed.setAttempts(attempts);
+					managed.setStatus(dead ? OutboxEvent.DEAD : OutboxEvent.PENDING);
+					managed.setNextAttemptAt(nextAttemptAt);
+					managed.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+				}));
+	}
+
+	private JsonNode parse(OutboxEvent event) {
+		try {
+			return objectMapper.readTree(event.getPayload());
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("Malformed payload in outbox event " + event.getEventId(), e);
+		}
+	}
+}
@@ -0,0 +1,46 @@
+package com.version1.frs.service.impl;
+
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.repository.OutboxEventRepository;
+import com.version1.frs.service.OutboxService;
+
+/**
+ * Implementation of the {@link OutboxService} interface.
+ */
+@Service
+public class OutboxServiceImpl implements OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+	private final ObjectMapper objectMapper;
+
+	// Constructor injection for dependencies
+	public OutboxServiceImpl(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+		this.outboxEventRepository = outboxEventRepository;
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void publish(String aggregateType, Long aggregateId, String eventType, Object payload) {
+		OutboxEvent event = new OutboxEvent();
+		event.setAggregateType(aggregateType);
+		event.setAggregateId(aggregateId);
+		event.setEventType(eventType);
+		event.setCreatedAt(LocalDateTime.now());
+		event.setStatus(OutboxEvent.PENDING);
+		try {
+			event.setPayload(objectMapper.writeValueAsString(payload));
+		} catch (JsonProcessingException e) {
+			throw new RuntimeException("Could not serialize " + eventType + " event", e);
+		}
+		outboxEventRepository.save(event);
+	}
+}
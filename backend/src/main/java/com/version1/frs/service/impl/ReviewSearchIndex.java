@@ -0,0 +1,443 @@
+package com.version1.frs.service.impl;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UTFDataFormatException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.version1.frs.dto.ReviewResponse;
+import com.version1.frs.repository.ReviewRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process inverted index over review text with BM25 ranking. Postings map
+ * each term to the reviews containing it and the term frequency; document
+ * lengths and the collection size feed the BM25 formula.
+ *
+ * <p>
+ * The index is persisted in {@code reviews.search.index-dir} as a snapshot of
+ * all indexed documents plus an append-only log of documents indexed since.
+ * Removed reviews are recorded in the log as tombstones. Startup loads both
+ * files instead of re-analyzing the review table, drops documents whose
+ * reviews no longer exist and indexes only reviews whose IDs are missing, e.g.
+ * because the application stopped between a commit and the log append. The log
+ * is folded into a new snapshot periodically.
+ * </p>
+ */
+@Component
+public class ReviewSearchIndex {
+
+	private static final Logger log = LoggerFactory.getLogger(ReviewSearchIndex.class);
+
+	/** BM25 term frequency saturation. */
+	private static final double K1 = 1.2;
+
+	/** BM25 document length normalization. */
+	private static final double B = 0.75;
+
+	private static final int FORMAT_VERSION = 1;
+	private static final String SNAPSHOT_FILE = "reviews.snapshot";
+	private static final String LOG_FILE = "reviews.log";
+
+	/** Term count that marks a log record as a tombstone for a removed review. */
+	private static final int TOMBSTONE = -1;
+
+	/** Reviews loaded per query when catching up with the review table. */
+	private static final int CATCH_UP_BATCH = 500;
+
+	/**
+	 * One indexed review.
+	 *
+	 * @param flightId the reviewed flight, used for filtering
+	 * @param terms    the term frequencies of the review text
+	 * @param length   the number of terms in the review text
+	 */
+	private record Document(long flightId, Map<String, Integer> terms, int length) {
+	}
+
+	/**
+	 * One search hit.
+	 *
+	 * @param reviewId the ID of the matching review
+	 * @param score    the BM25 score
+	 */
+	public record Hit(long reviewId, double score) {
+	}
+
+	private final ReviewRepository reviewRepository;
+	private final Path directory;
+	private final int compactThreshold;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, Document> documents = new HashMap<>();
+	private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+	private long totalLength;
+
+	private DataOutputStream logOut;
+	private int logRecords;
+
+	// Constructor injection for dependencies
+	public ReviewSearchIndex(ReviewRepository reviewRepository,
+			@Value("${reviews.search.index-dir:${java.io.tmpdir}/frs-review-index}") String directory,
+			@Value("${reviews.search.compact-threshold:1000}") int compactThreshold) {
+		this.reviewRepository = reviewRepository;
+		this.directory = Path.of(directory);
+		this.compactThreshold = compactThreshold;
+	}
+
+	// -------------------- Lifecycle --------------------
+
+	/**
+	 * Loads the persisted index and indexes reviews it does not contain yet.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		lock.writeLock().lock();
+		try {
+			Files.createDirectories(directory);
+			readFile(directory.resolve(SNAPSHOT_FILE));
+			logRecords = readFile(directory.resolve(LOG_FILE));
+
+			Set<Long> existing = new LinkedHashSet<>(reviewRepository.findAllReviewIds());
+			List<Long> stale = documents.keySet().stream().filter(id -> !existing.contains(id))
+					.collect(Collectors.toList());
+			stale.forEach(this::drop);
+			int loaded = documents.size();
+
+			Set<Long> missing = new LinkedHashSet<>(existing);
+			missing.removeAll(documents.keySet());
+			List<Long> batch = new ArrayList<>(CATCH_UP_BATCH);
+			for (Long id : missing) {
+				batch.add(id);
+				if (batch.size() == CATCH_UP_BATCH) {
+					catchUp(batch);
+				}
+			}
+			catchUp(batch);
+
+			// Rewrite the snapshot so that a torn log tail is not read again
+			writeSnapshot();
+			log.info("Review search index ready: {} loaded from disk, {} dropped, {} indexed from the database", loaded,
+					stale.size(), missing.size());
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to load review search index from " + directory, e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Folds the log into a new snapshot once it has grown past
+	 * {@code reviews.search.compact-threshold} records.
+	 */
+	@Scheduled(fixedDelayString = "${reviews.search.compact-interval-ms:60000}")
+	public void compact() {
+		lock.writeLock().lock();
+		try {
+			if (logOut != null && logRecords >= compactThreshold) {
+				writeSnapshot();
+			}
+		} catch (IOException e) {
+			log.warn("Failed to compact review search index", e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@PreDestroy
+	public void close() {
+		lock.writeLock().lock();
+		try {
+			if (logOut != null) {
+				logOut.close();
+				logOut = null;
+			}
+		} catch (IOException e) {
+			log.warn("Failed to close review search index log", e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// -------------------- Updates --------------------
+
+	/**
+	 * Adds a review to the index and appends it to the log. Reviews that are
+	 * already indexed are ignored.
+	 *
+	 * @param reviewId   the ID of the review
+	 * @param flightId   the ID of the reviewed flight
+	 * @param reviewText the review text
+	 */
+	public void add(long reviewId, long flightId, String reviewText) {
+		lock.writeLock().lock();
+		try {
+			if (documents.containsKey(reviewId)) {
+				return;
+			}
+			Document document = analyze(flightId, reviewText);
+			put(reviewId, document);
+			if (logOut != null) {
+				writeDocument(logOut, reviewId, document);
+				logOut.flush();
+				logRecords++;
+			}
+		} catch (IOException e) {
+			// The review is searchable now and will be re-indexed on the next startup
+			log.warn("Failed to persist review {} to the search index", reviewId, e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes reviews from the index and appends a tombstone for each to the
+	 * log. Reviews that are not indexed are ignored.
+	 *
+	 * @param reviewIds the IDs of the removed reviews
+	 */
+	public void remove(Collection<Long> reviewIds) {
+		lock.writeLock().lock();
+		try {
+			for (Long reviewId : reviewIds) {
+				if (!drop(reviewId)) {
+					continue;
+				}
+				if (logOut != null) {
+					logOut.writeLong(reviewId);
+					logOut.writeLong(0);
+					logOut.writeInt(0);
+					logOut.writeInt(TOMBSTONE);
+					logRecords++;
+				}
+			}
+			if (logOut != null) {
+				logOut.flush();
+			}
+		} catch (IOException e) {
+			// The reviews are gone from memory now and are dropped again on the next startup
+			log.warn("Failed to persist removal of reviews {} from the search index", reviewIds, e);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// -------------------- Search --------------------
+
+	/**
+	 * Ranks reviews against a query with BM25 and returns the top hits.
+	 *
+	 * @param query  the search query
+	 * @param filter accepts the flight IDs whose reviews may be returned
+	 * @param limit  the maximum number of hits
+	 * @return the hits, best first
+	 */
+	public List<Hit> search(String query, LongPredicate filter, int limit) {
+		Set<String> terms = new HashSet<>(ReviewTextAnalyzer.analyze(query));
+		lock.readLock().lock();
+		try {
+			int n = documents.size();
+			if (n == 0 || terms.isEmpty()) {
+				return List.of();
+			}
+			double averageLength = Math.max(1.0, (double) totalLength / n);
+			Map<Long, Double> scores = new HashMap<>();
+			for (String term : terms) {
+				Map<Long, Integer> posting = postings.get(term);
+				if (posting == null) {
+					continue;
+				}
+				double idf = Math.log(1 + (n - posting.size() + 0.5) / (posting.size() + 0.5));
+				for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+					Document document = documents.get(entry.getKey());
+					if (!filter.test(document.flightId())) {
+						continue;
+					}
+					double tf = entry.getValue();
+					double norm = K1 * (1 - B + B * document.length() / averageLength);
+					scores.merge(entry.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+				}
+			}
+			return top(scores, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static List<Hit> top(Map<Long, Double> scores, int limit) {
+		Comparator<Hit> byScore = Comparator.comparingDouble(Hit::score)
+				.thenComparing(Comparator.comparingLong(Hit::reviewId).reversed());
+		PriorityQueue<Hit> heap = new PriorityQueue<>(limit + 1, byScore);
+		for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+			heap.add(new Hit(entry.getKey(), entry.getValue()));
+			if (heap.size() > limit) {
+				heap.poll();
+			}
+		}
+		List<Hit> hits = new ArrayList<>(heap);
+		hits.sort(byScore.reversed());
+		return hits;
+	}
+
+	// -------------------- Internals --------------------
+
+	private static Document analyze(long flightId, String text) {
+		List<String> tokens = ReviewTextAnalyzer.analyze(text);
+		Map<String, Integer> terms = new HashMap<>();
+		for (String token : tokens) {
+			terms.merge(token, 1, Integer::sum);
+		}
+		return new Document(flightId, terms, tokens.size());
+	}
+
+	private void put(long reviewId, Document document) {
+		if (documents.put(reviewId, document) != null) {
+			return;
+		}
+		totalLength += document.length();
+		document.terms().forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(reviewId, tf));
+	}
+
+	/**
+	 * Removes a document and its postings.
+	 *
+	 * @return true if the review was indexed
+	 */
+	private boolean drop(long reviewId) {
+		Document document = documents.remove(reviewId);
+		if (document == null) {
+			return false;
+		}
+		totalLength -= document.length();
+		for (String term : document.terms().keySet()) {
+			Map<Long, Integer> posting = postings.get(term);
+			posting.remove(reviewId);
+			if (posting.isEmpty()) {
+				postings.remove(term);
+			}
+		}
+		return true;
+	}
+
+	private void catchUp(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+		Collection<ReviewResponse> reviews = reviewRepository.findResponsesByIds(ids);
+		for (ReviewResponse review : reviews) {
+			put(review.getReviewId(), analyze(review.getFlightId(), review.getReviewText()));
+		}
+		ids.clear();
+	}
+
+	/**
+	 * Writes all documents to a new snapshot, replaces the old one atomically and
+	 * starts an empty log. Must be called with the write lock held.
+	 */
+	private void writeSnapshot() throws IOException {
+		Path temp = Files.createTempFile(directory, SNAPSHOT_FILE, ".tmp");
+		try (DataOutputStream out = open(Files.newOutputStream(temp))) {
+			out.writeInt(FORMAT_VERSION);
+			for (Map.Entry<Long, Document> entry : documents.entrySet()) {
+				writeDocument(out, entry.getKey(), entry.getValue());
+			}
+		}
+		Files.move(temp, directory.resolve(SNAPSHOT_FILE), StandardCopyOption.ATOMIC_MOVE,
+				StandardCopyOption.REPLACE_EXISTING);
+
+		if (logOut != null) {
+			logOut.close();
+		}
+		logOut = open(Files.newOutputStream(directory.resolve(LOG_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE));
+		logOut.writeInt(FORMAT_VERSION);
+		logOut.flush();
+		logRecords = 0;
+	}
+
+	/**
+	 * Reads documents and tombstones from a snapshot or log file. A record cut
+	 * short by a crash ends the file; the reviews it would have held are caught
+	 * up from the database, and reviews it would have removed are dropped.
+	 *
+	 * @return the number of records read
+	 */
+	private int readFile(Path file) throws IOException {
+		if (!Files.exists(file)) {
+			return 0;
+		}
+		int count = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != FORMAT_VERSION) {
+				log.warn("Ignoring review search index file {} with unknown format", file);
+				return 0;
+			}
+			while (true) {
+				long reviewId = in.readLong();
+				long flightId = in.readLong();
+				int length = in.readInt();
+				int termCount = in.readInt();
+				if (termCount == TOMBSTONE) {
+					drop(reviewId);
+					count++;
+					continue;
+				}
+				Map<String, Integer> terms = new HashMap<>(termCount * 2);
+				for (int i = 0; i < termCount; i++) {
+					terms.put(in.readUTF(), in.readInt());
+				}
+				put(reviewId, new Document(flightId, terms, length));
+				count++;
+			}
+		} catch (EOFException | UTFDataFormatException e) {
+			return count;
+		}
+	}
+
+	private static void writeDocument(DataOutputStream out, long reviewId, Document document) throws IOException {
+		out.writeLong(reviewId);
+		out.writeLong(document.flightId());
+		out.writeInt(document.length());
+		out.writeInt(document.terms().size());
+		for (Map.Entry<String, Integer> term : document.terms().entrySet()) {
+			out.writeUTF(term.getKey());
+			out.writeInt(term.getValue());
+		}
+	}
+
+	private static DataOutputStream open(OutputStream out) {
+		return new DataOutputStream(new BufferedOutputStream(out));
+	}
+}
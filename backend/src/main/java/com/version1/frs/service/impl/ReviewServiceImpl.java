@@ -1,16 +1,39 @@
 package com.version1.frs.service.impl;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongPredicate;
 import java.util.stream.Collectors;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.version1.frs.dto.AirlineRatingResponse;
+import com.version1.frs.dto.FlightRatingResponse;
+import com.version1.frs.dto.PageResponse;
 import com.version1.frs.dto.ReviewRequest;
 import com.version1.frs.dto.ReviewResponse;
+import com.version1.frs.dto.ReviewSearchResponse;
 import com.version1.frs.model.Flight;
+import com.version1.frs.model.FlightRating;
 import com.version1.frs.model.Review;
 import com.version1.frs.model.User;
+import com.version1.frs.repository.ArchivedReviewRepository;
 import com.version1.frs.repository.BookingRepository;
+import com.version1.frs.repository.FlightRatingRepository;
 import com.version1.frs.repository.FlightRepository;
 import com.version1.frs.repository.ReviewRepository;
 import com.version1.frs.repository.UserRepository;
@@ -19,22 +42,41 @@
 /**
  * Implementation of the {@link ReviewService} interface. Provides methods for
  * managing flight reviews, including posting, retrieving, and mapping reviews.
+ * Each posted review is also added to the flight's {@link FlightRating} rollup
+ * in the same transaction, so ratings never have to be computed from the raw
+ * reviews.
  */
 @Service
 public class ReviewServiceImpl implements ReviewService {
 
+	private static final Logger log = LoggerFactory.getLogger(ReviewServiceImpl.class);
+
+	/** Upper bound for the page size of paginated review queries. */
+	private static final int MAX_PAGE_SIZE = 100;
+
+	/** Search results are only ranked this deep; later pages are empty. */
+	private static final int MAX_SEARCH_RESULTS = 1000;
+
 	private final ReviewRepository reviewRepository;
 	private final UserRepository userRepository;
 	private final FlightRepository flightRepository;
 	private final BookingRepository bookingRepository;
+	private final FlightRatingRepository flightRatingRepository;
+	private final ReviewSearchIndex reviewSearchIndex;
+	private final ArchivedReviewRepository archivedReviewRepository;
 
 	// Constructor injection for dependencies
 	public ReviewServiceImpl(ReviewRepository reviewRepository, UserRepository userRepository,
-			FlightRepository flightRepository, BookingRepository bookingRepository) {
+			FlightRepository flightRepository, BookingRepository bookingRepository,
+			FlightRatingRepository flightRatingRepository, ReviewSearchIndex reviewSearchIndex,
+			ArchivedReviewRepository archivedReviewRepository) {
 		this.reviewRepository = reviewRepository;
 		this.userRepository = userRepository;
 		this.flightRepository = flightRepository;
 		this.bookingRepository = bookingRepository;
+		this.flightRatingRepository = flightRatingRepository;
+		this.reviewSearchIndex = reviewSearchIndex;
+		this.archivedReviewRepository = archivedReviewRepository;
 	}
 
 	/**
@@ -47,6 +89,7 @@ public ReviewServiceImpl(ReviewRepository reviewRepository, UserRepository userR
 	 *                          booked the flight
 	 */
 	@Override
+	@Transactional
 	public ReviewResponse postReview(Long userId, ReviewRequest request) {
 		User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
 
@@ -71,6 +114,8 @@ public ReviewResponse postReview(Long userId, ReviewRequest request) {
 		review.setReviewText(request.getReviewText());
 
 		review = reviewRepository.save(review);
+		recordRating(flight, request.getRating());
+		indexAfterCommit(review);
 		return mapToResponse(review);
 	}
 
@@ -81,32 +126,249 @@ public ReviewResponse postReview(Long userId, ReviewRequest request) {
 	 * @return a list of {@link ReviewResponse} DTOs for the specified flight
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public List<ReviewResponse> getReviewsByFlightId(Long flightId) {
 		List<Review> reviews = reviewRepository.findByFlight_Id(flightId);
 		return reviews.stream().map(this::mapToResponse).collect(Collectors.toList());
 	}
 
 	/**
-	 * Retrieves all reviews posted by a specific user.
+	 * Retrieves all reviews posted by a specific user, including the reviews of
+	 * archived flights.
 	 * 
 	 * @param userId the ID of the user whose reviews are to be fetched
 	 * @return a list of {@link ReviewResponse} DTOs for the specified user
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public List<ReviewResponse> getReviewsByUserId(Long userId) {
 		List<Review> reviews = reviewRepository.findByUser_UserId(userId);
-		return reviews.stream().map(this::mapToResponse).collect(Collectors.toList());
+		List<ReviewResponse> responses = reviews.stream().map(this::mapToResponse).collect(Collectors.toList());
+		responses.addAll(archivedReviewRepository.findRecentByUserId(userId, Pageable.unpaged()).getContent());
+		return responses;
 	}
 
 	/**
-	 * Retrieves all reviews from the system.
+	 * Retrieves the most recent reviews, at most {@link #MAX_PAGE_SIZE}. This is
+	 * the first page of {@link #getRecentReviews(int, int)}.
 	 * 
-	 * @return a list of all {@link ReviewResponse} DTOs
+	 * @return a list of the latest {@link ReviewResponse} DTOs
 	 */
 	@Override
+	@Transactional(readOnly = true)
 	public List<ReviewResponse> getAllReviews() {
-		List<Review> reviews = reviewRepository.findAll(); // Using JpaRepository's findAll method
-		return reviews.stream().map(this::mapToResponse).collect(Collectors.toList());
+		return reviewRepository.findRecent(PageRequest.of(0, MAX_PAGE_SIZE)).getContent();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PageResponse<ReviewResponse> getRecentReviews(int page, int size) {
+		return toPage(reviewRepository.findRecent(pageRequest(page, size)));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public PageResponse<ReviewResponse> getRecentReviewsByFlightId(Long flightId, int page, int size) {
+		return toPage(reviewRepository.findRecentByFlightId(flightId, pageRequest(page, size)));
+	}
+
+	/**
+	 * Pages through a user's reviews across the live and archive tables. Both
+	 * are read most recent first up to the end of the requested page, merged by
+	 * review ID and cut down to the page.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public PageResponse<ReviewResponse> getRecentReviewsByUserId(Long userId, int page, int size) {
+		Pageable pageable = pageRequest(page, size);
+		int offset = (int) pageable.getOffset();
+		Pageable head = PageRequest.of(0, offset + pageable.getPageSize() + 1);
+		List<ReviewResponse> archived = archivedReviewRepository.findRecentByUserId(userId, head).getContent();
+		if (archived.isEmpty()) {
+			return toPage(reviewRepository.findRecentByUserId(userId, pageable));
+		}
+		List<ReviewResponse> merged = new ArrayList<>(reviewRepository.findRecentByUserId(userId, head).getContent());
+		merged.addAll(archived);
+		merged.sort(Comparator.comparing(ReviewResponse::getReviewId).reversed());
+		List<ReviewResponse> content = merged.subList(Math.min(offset, merged.size()),
+				Math.min(offset + pageable.getPageSize(), merged.size()));
+		return new PageResponse<>(new ArrayList<>(content), pageable.getPageNumber(), pageable.getPageSize(),
+				merged.size() > offset + pageable.getPageSize());
+	}
+
+	/**
+	 * Ranks reviews with the in-memory search index, then loads only the reviews
+	 * on the requested page.
+	 *
+	 * @param query    the search words
+	 * @param flightId restricts results to one flight, or null
+	 * @param airline  restricts results to one airline, or null
+	 * @param page     the zero-based page number
+	 * @param size     the page size, capped at 100
+	 * @return a page of {@link ReviewSearchResponse} DTOs
+	 */
+	@Override
+	public PageResponse<ReviewSearchResponse> searchReviews(String query, Long flightId, String airline, int page,
+			int size) {
+		int pageNumber = Math.max(page, 0);
+		int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+		int offset = pageNumber * pageSize;
+		if (offset >= MAX_SEARCH_RESULTS) {
+			return new PageResponse<>(List.of(), pageNumber, pageSize, false);
+		}
+
+		LongPredicate filter = id -> true;
+		if (flightId != null) {
+			filter = id -> id == flightId;
+		}
+		if (airline != null && !airline.isBlank()) {
+			Set<Long> airlineFlights = new HashSet<>(flightRepository.findIdsByAirline(airline.trim()));
+			filter = filter.and(airlineFlights::contains);
+		}
+
+		List<ReviewSearchIndex.Hit> hits = reviewSearchIndex.search(query, filter, offset + pageSize + 1);
+		boolean hasNext = hits.size() > offset + pageSize;
+		List<ReviewSearchIndex.Hit> pageHits = hits.subList(Math.min(offset, hits.size()),
+				Math.min(offset + pageSize, hits.size()));
+
+		Map<Long, ReviewResponse> reviews = reviewRepository
+				.findResponsesByIds(pageHits.stream().map(ReviewSearchIndex.Hit::reviewId).collect(Collectors.toList()))
+				.stream().collect(Collectors.toMap(ReviewResponse::getReviewId, Function.identity()));
+		List<ReviewSearchResponse> content = pageHits.stream().filter(hit -> reviews.containsKey(hit.reviewId()))
+				.map(hit -> new ReviewSearchResponse(reviews.get(hit.reviewId()), hit.score()))
+				.collect(Collectors.toList());
+		return new PageResponse<>(content, pageNumber, pageSize, hasNext);
+	}
+
+	/**
+	 * Retrieves a flight's rating with a single primary-key read of its rollup.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the {@link FlightRatingResponse} DTO
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public FlightRatingResponse getFlightRating(Long flightId) {
+		return flightRatingRepository.findById(flightId).map(this::mapToRating)
+				.orElseGet(() -> new FlightRatingResponse(flightId, 0, 0, histogram(0, 0, 0, 0, 0)));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<AirlineRatingResponse> getAirlineRatings() {
+		return flightRatingRepository.summarizeByAirline();
+	}
+
+	/**
+	 * Seeds rollups for reviewed flights that do not have one yet.
+	 *
+	 * @return the number of rollups created
+	 */
+	@Override
+	@Transactional
+	public int rebuildMissingRatings() {
+		List<Flight> flights = flightRatingRepository.findReviewedFlightsWithoutRating();
+		flights.forEach(flight -> flightRatingRepository.save(snapshot(flight)));
+		return flights.size();
+	}
+
+	/**
+	 * Seeds missing rollups once the application has started, so that flights
+	 * reviewed before this feature was deployed report their ratings.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void seedOnStartup() {
+		int created = rebuildMissingRatings();
+		if (created > 0) {
+			log.info("Created rating rollups for {} existing flights", created);
+		}
+	}
+
+	/**
+	 * Adds a review to the search index once the posting transaction has
+	 * committed, so rolled-back reviews are never searchable.
+	 *
+	 * @param review the saved review
+	 */
+	private void indexAfterCommit(Review review) {
+		long reviewId = review.getReviewId();
+		long flightId = review.getFlight().getId();
+		String text = review.getReviewText();
+		AfterCommit.run(() -> reviewSearchIndex.add(reviewId, flightId, text));
+	}
+
+	/**
+	 * Adds a review to the flight's rollup with a single UPDATE statement. The
+	 * first review of a flight seeds the rollup from the review table instead;
+	 * since that query flushes the new review, it is not counted twice.
+	 *
+	 * @param flight the reviewed flight
+	 * @param rating the rating of the new review
+	 */
+	private void recordRating(Flight flight, float rating) {
+		if (flightRatingRepository.applyReview(flight.getId(), rating, stars(rating)) == 0) {
+			flightRatingRepository.save(snapshot(flight));
+		}
+	}
+
+	/**
+	 * Builds a rollup for a flight with totals computed from its reviews.
+	 *
+	 * @param flight the flight to snapshot
+	 * @return the populated rollup entity
+	 */
+	private FlightRating snapshot(Flight flight) {
+		FlightRating rating = new FlightRating();
+		rating.setFlightId(flight.getId());
+		rating.setAirline(flight.getAirline());
+		long[] stars = new long[5];
+		double sum = 0;
+		List<Float> ratings = reviewRepository.findRatingsByFlightId(flight.getId());
+		for (Float value : ratings) {
+			sum += value;
+			stars[stars(value) - 1]++;
+		}
+		rating.setReviewCount(ratings.size());
+		rating.setRatingSum(sum);
+		rating.setOneStar(stars[0]);
+		rating.setTwoStars(stars[1]);
+		rating.setThreeStars(stars[2]);
+		rating.setFourStars(stars[3]);
+		rating.setFiveStars(stars[4]);
+		return rating;
+	}
+
+	private static Pageable pageRequest(int page, int size) {
+		return PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+	}
+
+	private static PageResponse<ReviewResponse> toPage(Slice<ReviewResponse> slice) {
+		return new PageResponse<>(slice.getContent(), slice.getNumber(), slice.getSize(), slice.hasNext());
+	}
+
+	/**
+	 * Rounds a rating to its histogram bucket, 1 to 5 stars.
+	 */
+	private static int stars(float rating) {
+		return Math.max(1, Math.min(5, Math.round(rating)));
+	}
+
+	private static Map<Integer, Long> histogram(long one, long two, long three, long four, long five) {
+		Map<Integer, Long> histogram = new LinkedHashMap<>();
+		histogram.put(1, one);
+		histogram.put(2, two);
+		histogram.put(3, three);
+		histogram.put(4, four);
+		histogram.put(5, five);
+		return histogram;
+	}
+
+	private FlightRatingResponse mapToRating(FlightRating rating) {
+		double average = rating.getReviewCount() == 0 ? 0 : rating.getRatingSum() / rating.getReviewCount();
+		return new FlightRatingResponse(rating.getFlightId(), rating.getReviewCount(), average,
+				histogram(rating.getOneStar(), rating.getTwoStars(), rating.getThreeStars(), rating.getFourStars(),
+						rating.getFiveStars()));
 	}
 
 	/**
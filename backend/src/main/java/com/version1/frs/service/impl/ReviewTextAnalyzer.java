@@ -0,0 +1,103 @@
+package com.version1.frs.service.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns review text and search queries into index terms: lower-cased words and
+ * numbers, without common English stop words, reduced to a stem by a light
+ * suffix stripper so that e.g. "delays", "delayed" and "delaying" all match
+ * "delay". Documents and queries must go through the same analysis.
+ */
+public final class ReviewTextAnalyzer {
+
+	private static final Set<String> STOP_WORDS = Set.of("a", "an", "and", "are", "as", "at", "be", "but", "by",
+			"for", "if", "in", "into", "is", "it", "no", "not", "of", "on", "or", "so", "such", "that", "the",
+			"their", "then", "there", "these", "they", "this", "to", "was", "we", "were", "will", "with", "i", "my",
+			"me", "our", "you", "your", "very", "too", "had", "has", "have");
+
+	/** Terms longer than this are cut, so a single pasted blob cannot bloat the index. */
+	private static final int MAX_TERM_LENGTH = 40;
+
+	private ReviewTextAnalyzer() {
+	}
+
+	/**
+	 * Splits text into index terms, in order of appearance and including
+	 * repetitions.
+	 *
+	 * @param text the text to analyze, may be null
+	 * @return the terms
+	 */
+	public static List<String> analyze(String text) {
+		List<String> terms = new ArrayList<>();
+		if (text == null) {
+			return terms;
+		}
+		for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+			if (token.length() < 2 || STOP_WORDS.contains(token)) {
+				continue;
+			}
+			String term = stem(token);
+			terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+		}
+		return terms;
+	}
+
+	/**
+	 * Strips plural, past-tense, progressive and adverb suffixes. This covers the
+	 * first steps of the Porter algorithm, which is where most of the recall gain
+	 * for short review texts comes from.
+	 */
+	static String stem(String word) {
+		if (word.length() <= 3 || !Character.isLetter(word.charAt(0))) {
+			return word;
+		}
+		String w = word;
+		if (w.endsWith("sses")) {
+			w = w.substring(0, w.length() - 2);
+		} else if (w.endsWith("ies") && w.length() > 4) {
+			w = w.substring(0, w.length() - 3) + "y";
+		} else if (w.endsWith("s") && !w.endsWith("ss") && !w.endsWith("us") && !w.endsWith("is")) {
+			w = w.substring(0, w.length() - 1);
+		}
+
+		if (w.endsWith("eed")) {
+			return w.length() > 4 ? w.substring(0, w.length() - 1) : w;
+		}
+		String stripped = null;
+		if (w.endsWith("ing") && w.length() > 5) {
+			stripped = w.substring(0, w.length() - 3);
+		} else if (w.endsWith("ed") && w.length() > 4) {
+			stripped = w.substring(0, w.length() - 2);
+		} else if (w.endsWith("ly") && w.length() > 5) {
+			return w.substring(0, w.length() - 2);
+		}
+		if (stripped == null || !hasVowel(stripped)) {
+			return w;
+		}
+		int n = stripped.length();
+		char last = stripped.charAt(n - 1);
+		if (n > 2 && last == stripped.charAt(n - 2) && !isVowel(last) && last != 'l' && last != 's'
+				&& last != 'z') {
+			// stopped -> stop, planned -> plan
+			return stripped.substring(0, n - 1);
+		}
+		return stripped;
+	}
+
+	private static boolean hasVowel(String s) {
+		for (int i = 0; i < s.length(); i++) {
+			if (isVowel(s.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isVowel(char c) {
+		return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+	}
+}
@@ -0,0 +1,238 @@
+package com.version1.frs.service.impl;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.version1.frs.model.Airplane;
+import com.version1.frs.model.CabinLayout;
+
+/**
+ * Immutable, in-memory form of an airplane's seat layout. Every seat gets a
+ * stable index (cabin by cabin, row by row, left to right) which is the bit
+ * position used in a flight's occupancy bitset. Rows are split into blocks of
+ * seats that sit next to each other without an aisle in between, which is what
+ * group seating looks for.
+ */
+public final class SeatLayout {
+
+	/** Letters used by the default layout when an airplane has no cabins. */
+	static final String DEFAULT_LETTERS = "ABC DEF";
+
+	/** Cabin class used by the default layout. */
+	static final String DEFAULT_CABIN = "ECONOMY";
+
+	private final String[] labels;
+	private final String[] cabins;
+	private final int[] rowNumbers;
+	private final Map<String, Integer> indexByLabel;
+	private final List<int[][]> rows;
+
+	private SeatLayout(List<String> labels, List<String> cabins, List<Integer> rowNumbers, List<int[][]> rows) {
+		this.labels = labels.toArray(new String[0]);
+		this.cabins = cabins.toArray(new String[0]);
+		this.rowNumbers = rowNumbers.stream().mapToInt(Integer::intValue).toArray();
+		this.rows = List.copyOf(rows);
+		this.indexByLabel = new HashMap<>(labels.size() * 2);
+		for (int i = 0; i < this.labels.length; i++) {
+			indexByLabel.put(this.labels[i], i);
+		}
+	}
+
+	/**
+	 * Builds the layout of an airplane from its cabins, or a default six-abreast
+	 * economy layout sized to its capacity when no cabins are defined.
+	 *
+	 * @param airplane the airplane to build the layout for
+	 * @return the seat layout
+	 */
+	public static SeatLayout of(Airplane airplane) {
+		Builder builder = new Builder();
+		if (airplane.getCabinLayouts().isEmpty()) {
+			int perRow = DEFAULT_LETTERS.replace(" ", "").length();
+			int remaining = airplane.getCapacity();
+			for (int row = 1; remaining > 0; row++) {
+				builder.addRow(DEFAULT_CABIN, row, DEFAULT_LETTERS, Math.min(perRow, remaining));
+				remaining -= perRow;
+			}
+		} else {
+			for (CabinLayout cabin : airplane.getCabinLayouts()) {
+				for (int row = cabin.getFirstRow(); row <= cabin.getLastRow(); row++) {
+					builder.addRow(cabin.getCabinClass(), row, cabin.getSeatLetters(), Integer.MAX_VALUE);
+				}
+			}
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Gets the total number of seats.
+	 *
+	 * @return the number of seats in the layout
+	 */
+	public int size() {
+		return labels.length;
+	}
+
+	/**
+	 * Gets the seat number at the given index, e.g. "12C".
+	 *
+	 * @param index the seat index
+	 * @return the seat number
+	 */
+	public String label(int index) {
+		return labels[index];
+	}
+
+	/**
+	 * Gets the cabin class of the seat at the given index.
+	 *
+	 * @param index the seat index
+	 * @return the cabin class
+	 */
+	public String cabin(int index) {
+		return cabins[index];
+	}
+
+	/**
+	 * Gets the row number of the seat at the given index.
+	 *
+	 * @param index the seat index
+	 * @return the row number
+	 */
+	public int row(int index) {
+		return rowNumbers[index];
+	}
+
+	/**
+	 * Looks up the index of a seat number.
+	 *
+	 * @param seatNumber the seat number, case-insensitive
+	 * @return the seat index, or -1 if the seat does not exist
+	 */
+	public int indexOf(String seatNumber) {
+		Integer index = indexByLabel.get(seatNumber.trim().toUpperCase());
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * Finds {@code count} free seats next to each other. Seats within one block
+	 * (no aisle in between) are preferred, then seats in the same row across an
+	 * aisle.
+	 *
+	 * @param occupied the occupancy bitset
+	 * @param count    the number of seats wanted
+	 * @return the seat indexes, or null if no row can seat the group together
+	 */
+	public int[] findAdjacent(BitSet occupied, int count) {
+		for (int[][] row : rows) {
+			for (int[] block : row) {
+				int[] found = findRun(block, occupied, count);
+				if (found != null) {
+					return found;
+				}
+			}
+		}
+		for (int[][] row : rows) {
+			int[] found = findRun(flatten(row), occupied, count);
+			if (found != null) {
+				return found;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the first {@code count} free seats in layout order, regardless of
+	 * adjacency.
+	 *
+	 * @param occupied the occupancy bitset
+	 * @param count    the number of seats wanted
+	 * @return the seat indexes, or null if fewer seats are free
+	 */
+	public int[] findFirstFree(BitSet occupied, int count) {
+		int[] found = new int[count];
+		int seat = -1;
+		for (int i = 0; i < count; i++) {
+			seat = occupied.nextClearBit(seat + 1);
+			if (seat >= labels.length) {
+				return null;
+			}
+			found[i] = seat;
+		}
+		return found;
+	}
+
+	private static int[] findRun(int[] seats, BitSet occupied, int count) {
+		int run = 0;
+		for (int i = 0; i < seats.length; i++) {
+			run = occupied.get(seats[i]) ? 0 : run + 1;
+			if (run == count) {
+				int[] found = new int[count];
+				System.arraycopy(seats, i - count + 1, found, 0, count);
+				return found;
+			}
+		}
+		return null;
+	}
+
+	private static int[] flatten(int[][] row) {
+		int length = 0;
+		for (int[] block : row) {
+			length += block.length;
+		}
+		int[] seats = new int[length];
+		int offset = 0;
+		for (int[] block : row) {
+			System.arraycopy(block, 0, seats, offset, block.length);
+			offset += block.length;
+		}
+		return seats;
+	}
+
+	/**
+	 * Accumulates seats row by row while a layout is being built.
+	 */
+	private static final class Builder {
+
+		private final List<String> labels = new ArrayList<>();
+		private final List<String> cabins = new ArrayList<>();
+		private final List<Integer> rowNumbers = new ArrayList<>();
+		private final List<int[][]> rows = new ArrayList<>();
+
+		void addRow(String cabin, int row, String letters, int maxSeats) {
+			List<int[]> blocks = new ArrayList<>();
+			List<Integer> block = new ArrayList<>();
+			int added = 0;
+			for (char letter : letters.toUpperCase().toCharArray()) {
+				if (letter == ' ') {
+					closeBlock(blocks, block);
+					continue;
+				}
+				if (added == maxSeats) {
+					break;
+				}
+				block.add(labels.size());
+				labels.add(row + String.valueOf(letter));
+				cabins.add(cabin);
+				rowNumbers.add(row);
+				added++;
+			}
+			closeBlock(blocks, block);
+			rows.add(blocks.toArray(new int[0][]));
+		}
+
+		private static void closeBlock(List<int[]> blocks, List<Integer> block) {
+			if (!block.isEmpty()) {
+				blocks.add(block.stream().mapToInt(Integer::intValue).toArray());
+				block.clear();
+			}
+		}
+
+		SeatLayout build() {
+			return new SeatLayout(labels, cabins, rowNumbers, rows);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.version1.frs.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.version1.frs.dto.SeatMapResponse;
+
+/**
+ * In-memory cache of flight seat maps and airplane seat layouts. Seat map
+ * reads are served from here; the database copy is only touched when a flight
+ * is first requested or when a booking changes the occupancy, in which case
+ * the new state is published after the transaction commits.
+ */
+@Component
+public class SeatMapCache {
+
+	/**
+	 * Immutable view of a flight's seat map at a given version. The occupancy
+	 * bitset must not be modified once the snapshot is published.
+	 *
+	 * @param version    the seat map version the snapshot was taken from
+	 * @param airplaneId    the airplane operating the flight
+	 * @param departureTime the scheduled departure of the flight
+	 * @param layout     the seat layout of the airplane
+	 * @param occupied   the occupancy bitset
+	 * @param response   the pre-built seat map response
+	 */
+	public record Snapshot(long version, Long airplaneId, LocalDateTime departureTime, SeatLayout layout,
+			BitSet occupied, SeatMapResponse response) {
+	}
+
+	private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+	private final Map<Long, SeatLayout> layouts = new ConcurrentHashMap<>();
+
+	/**
+	 * Gets the cached seat map of a flight.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the snapshot, or null if the flight is not cached
+	 */
+	public Snapshot get(Long flightId) {
+		return snapshots.get(flightId);
+	}
+
+	/**
+	 * Publishes a seat map snapshot. Snapshots arriving out of order are ignored
+	 * so that a slow commit callback cannot overwrite a newer state.
+	 *
+	 * @param flightId the ID of the flight
+	 * @param snapshot the new snapshot
+	 */
+	public void publish(Long flightId, Snapshot snapshot) {
+		snapshots.merge(flightId, snapshot,
+				(current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+	}
+
+	/**
+	 * Removes a flight's seat map from the cache.
+	 *
+	 * @param flightId the ID of the flight
+	 */
+	public void evict(Long flightId) {
+		snapshots.remove(flightId);
+	}
+
+	/**
+	 * Gets the seat layout of an airplane, building it on first use. The builder
+	 * may load the airplane from the database, so it runs outside
+	 * {@code computeIfAbsent}: blocking I/O inside the map's bin lock would pin
+	 * the carrier of a virtual thread. Two concurrent misses may both build the
+	 * layout; the first one stored wins.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 * @param builder    builds the layout when it is not cached
+	 * @return the seat layout
+	 */
+	public SeatLayout layout(Long airplaneId, Supplier<SeatLayout> builder) {
+		SeatLayout layout = layouts.get(airplaneId);
+		if (layout != null) {
+			return layout;
+		}
+		layout = builder.get();
+		SeatLayout existing = layouts.putIfAbsent(airplaneId, layout);
+		return existing != null ? existing : layout;
+	}
+
+	/**
+	 * Removes an airplane's seat layout and the seat maps of all of its flights
+	 * from the cache.
+	 *
+	 * @param airplaneId the ID of the airplane
+	 */
+	public void evictLayout(Long airplaneId) {
+		layouts.remove(airplaneId);
+		snapshots.values().removeIf(snapshot -> airplaneId.equals(snapshot.airplaneId()));
+	}
+}
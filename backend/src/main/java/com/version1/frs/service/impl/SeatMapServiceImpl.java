@@ -0,0 +1,431 @@
+package com.version1.frs.service.impl;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.version1.frs.dto.CabinLayoutRequest;
+import com.version1.frs.dto.CabinLayoutResponse;
+import com.version1.frs.dto.SeatMapResponse;
+import com.version1.frs.dto.SeatResponse;
+import com.version1.frs.model.Airplane;
+import com.version1.frs.model.BookedTicket;
+import com.version1.frs.model.CabinLayout;
+import com.version1.frs.model.Flight;
+import com.version1.frs.model.FlightSeatMap;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.model.TableVersion;
+import com.version1.frs.repository.AirplaneRepository;
+import com.version1.frs.repository.BookedTicketRepository;
+import com.version1.frs.repository.FlightRepository;
+import com.version1.frs.repository.FlightSeatMapRepository;
+import com.version1.frs.service.AnalyticsService;
+import com.version1.frs.service.OutboxService;
+import com.version1.frs.service.SeatMapService;
+import com.version1.frs.service.TableVersionService;
+
+/**
+ * Implementation of the {@link SeatMapService} interface. Occupancy is kept as
+ * a bitset per flight, persisted in {@link FlightSeatMap} and mirrored in the
+ * {@link SeatMapCache}. Seat assignment locks the flight's seat map row, so
+ * concurrent bookings of the same flight are serialized while bookings of
+ * different flights proceed independently.
+ * <p>
+ * Seat maps are created with their flight and, for older flights, on startup.
+ * Reads never write: a flight without a seat map is shown with its unseated
+ * tickets in the first free seats, and the seat map is only stored by the next
+ * booking of the flight.
+ */
+@Service
+public class SeatMapServiceImpl implements SeatMapService {
+
+	private static final Logger log = LoggerFactory.getLogger(SeatMapServiceImpl.class);
+
+	private final FlightSeatMapRepository seatMapRepository;
+	private final FlightRepository flightRepository;
+	private final AirplaneRepository airplaneRepository;
+	private final BookedTicketRepository bookedTicketRepository;
+	private final SeatMapCache cache;
+	private final FlightSearchCache searchCache;
+	private final TableVersionService tableVersionService;
+	private final AnalyticsService analyticsService;
+	private final OutboxService outboxService;
+	private final TransactionTemplate newTransaction;
+
+	// Constructor injection for dependencies
+	public SeatMapServiceImpl(FlightSeatMapRepository seatMapRepository, FlightRepository flightRepository,
+			AirplaneRepository airplaneRepository, BookedTicketRepository bookedTicketRepository, SeatMapCache cache,
+			FlightSearchCache searchCache, TableVersionService tableVersionService, AnalyticsService analyticsService,
+			OutboxService outboxService, PlatformTransactionManager transactionManager) {
+		this.seatMapRepository = seatMapRepository;
+		this.flightRepository = flightRepository;
+		this.airplaneRepository = airplaneRepository;
+		this.bookedTicketRepository = bookedTicketRepository;
+		this.cache = cache;
+		this.searchCache = searchCache;
+		this.tableVersionService = tableVersionService;
+		this.analyticsService = analyticsService;
+		this.outboxService = outboxService;
+		this.newTransaction = new TransactionTemplate(transactionManager);
+		this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public SeatMapResponse getSeatMap(Long flightId) {
+		return snapshot(flightId).response();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public int getAvailableSeats(Long flightId) {
+		return snapshot(flightId).response().getAvailableSeats();
+	}
+
+	@Override
+	public Long getUpcomingSeatMapVersion(Long flightId) {
+		SeatMapCache.Snapshot cached = cache.get(flightId);
+		return cached != null && cached.departureTime().isAfter(LocalDateTime.now()) ? cached.version() : null;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<CabinLayoutResponse> getLayout(Long airplaneId) {
+		Airplane airplane = airplaneRepository.findById(airplaneId)
+				.orElseThrow(() -> new RuntimeException("Airplane not found with ID: " + airplaneId));
+		return mapToLayoutResponse(airplane.getCabinLayouts());
+	}
+
+	/**
+	 * Assigns the requested seats first, then seats the remaining passengers as a
+	 * group in the first row block that fits them, falling back to the first free
+	 * seats when no row can keep them together.
+	 *
+	 * @param flight         the flight being booked
+	 * @param requestedSeats one entry per passenger: a seat number or null
+	 * @return the assigned seat numbers, in passenger order
+	 */
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public List<String> reserveSeats(Flight flight, List<String> requestedSeats) {
+		FlightSeatMap seatMap = seatMapRepository.findByIdForUpdate(flight.getId())
+				.orElseGet(() -> lockAndCreate(flight));
+		SeatLayout layout = layoutOf(flight.getAirplane());
+		BitSet occupied = BitSet.valueOf(seatMap.getOccupancy());
+
+		String[] assigned = new String[requestedSeats.size()];
+		int unassigned = 0;
+		for (int i = 0; i < assigned.length; i++) {
+			String requested = requestedSeats.get(i);
+			if (requested == null || requested.isBlank()) {
+				unassigned++;
+				continue;
+			}
+			int seat = layout.indexOf(requested);
+			if (seat < 0) {
+				throw new RuntimeException("Seat " + requested + " does not exist on this flight.");
+			}
+			if (occupied.get(seat)) {
+				throw new RuntimeException("Seat " + layout.label(seat) + " is already taken.");
+			}
+			occupied.set(seat);
+			assigned[i] = layout.label(seat);
+		}
+
+		if (unassigned > 0) {
+			int[] seats = layout.findAdjacent(occupied, unassigned);
+			if (seats == null) {
+				seats = layout.findFirstFree(occupied, unassigned);
+			}
+			if (seats == null) {
+				throw new RuntimeException("Not enough seats available on this flight.");
+			}
+			int next = 0;
+			for (int i = 0; i < assigned.length; i++) {
+				if (assigned[i] == null) {
+					occupied.set(seats[next]);
+					assigned[i] = layout.label(seats[next++]);
+				}
+			}
+		}
+
+		store(seatMap, occupied);
+		publishAfterCommit(flight, layout, seatMap);
+		return Arrays.asList(assigned);
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void releaseSeats(Flight flight, List<String> seatNumbers) {
+		FlightSeatMap seatMap = seatMapRepository.findByIdForUpdate(flight.getId()).orElse(null);
+		if (seatMap == null || seatNumbers.isEmpty()) {
+			return;
+		}
+		SeatLayout layout = layoutOf(flight.getAirplane());
+		BitSet occupied = BitSet.valueOf(seatMap.getOccupancy());
+		for (String seatNumber : seatNumbers) {
+			int seat = layout.indexOf(seatNumber);
+			if (seat >= 0) {
+				occupied.clear(seat);
+			}
+		}
+		store(seatMap, occupied);
+		publishAfterCommit(flight, layout, seatMap);
+	}
+
+	@Override
+	@Transactional
+	public int createSeatMap(Flight flight) {
+		FlightSeatMap seatMap = new FlightSeatMap();
+		seatMap.setFlightId(flight.getId());
+		seatMapRepository.save(seatMap);
+		return layoutOf(flight.getAirplane()).size();
+	}
+
+	@Override
+	@Transactional
+	public void deleteSeatMap(Long flightId) {
+		if (seatMapRepository.existsById(flightId)) {
+			seatMapRepository.deleteById(flightId);
+		}
+		AfterCommit.run(() -> cache.evict(flightId));
+	}
+
+	@Override
+	@Transactional
+	public List<CabinLayoutResponse> updateLayout(Long airplaneId, List<CabinLayoutRequest> cabins) {
+		Airplane airplane = airplaneRepository.findById(airplaneId)
+				.orElseThrow(() -> new RuntimeException("Airplane not found with ID: " + airplaneId));
+		if (seatMapRepository.existsOccupiedForAirplane(airplaneId)) {
+			throw new RuntimeException("Cannot change the layout of an airplane with booked seats.");
+		}
+
+		List<CabinLayoutRequest> sorted = new ArrayList<>(cabins);
+		sorted.sort((a, b) -> Integer.compare(a.getFirstRow(), b.getFirstRow()));
+		int previousLastRow = 0;
+		for (CabinLayoutRequest cabin : sorted) {
+			if (cabin.getLastRow() < cabin.getFirstRow()) {
+				throw new RuntimeException("Last row must not be before first row in cabin " + cabin.getCabinClass());
+			}
+			if (cabin.getFirstRow() <= previousLastRow) {
+				throw new RuntimeException("Cabin " + cabin.getCabinClass() + " overlaps the previous cabin.");
+			}
+			previousLastRow = cabin.getLastRow();
+		}
+
+		airplane.getCabinLayouts().clear();
+		for (CabinLayoutRequest request : sorted) {
+			CabinLayout cabin = new CabinLayout();
+			cabin.setAirplane(airplane);
+			cabin.setCabinClass(request.getCabinClass().toUpperCase());
+			cabin.setFirstRow(request.getFirstRow());
+			cabin.setLastRow(request.getLastRow());
+			cabin.setSeatLetters(request.getSeatLetters().toUpperCase());
+			airplane.getCabinLayouts().add(cabin);
+		}
+		airplane.setCapacity(SeatLayout.of(airplane).size());
+		airplaneRepository.save(airplane);
+		analyticsService.updateCapacity(airplaneId, airplane.getCapacity());
+		tableVersionService.increment(TableVersion.AIRPLANES);
+
+		// No seat is occupied, so the existing seat maps fit the new layout as they are
+		AfterCommit.run(() -> {
+			cache.evictLayout(airplaneId);
+			searchCache.invalidateAll();
+		});
+
+		return mapToLayoutResponse(airplane.getCabinLayouts());
+	}
+
+	@Override
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void updateCapacity(Airplane airplane, int capacity) {
+		if (!airplane.getCabinLayouts().isEmpty()) {
+			// The cabin layout defines the seats
+			capacity = SeatLayout.of(airplane).size();
+		} else if (capacity != airplane.getCapacity()
+				&& seatMapRepository.existsOccupiedForAirplane(airplane.getAirplaneId())) {
+			throw new RuntimeException("Cannot change the capacity of an airplane with booked seats.");
+		}
+		// Seat maps without occupied seats fit the resized layout as they are
+		airplane.setCapacity(capacity);
+		analyticsService.updateCapacity(airplane.getAirplaneId(), capacity);
+	}
+
+	@Override
+	public void evictLayout(Long airplaneId) {
+		AfterCommit.run(() -> {
+			cache.evictLayout(airplaneId);
+			searchCache.invalidateAll();
+		});
+	}
+
+	/**
+	 * Creates seat maps for upcoming flights that do not have one yet, so that
+	 * the first booking of such a flight does not have to.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void seedOnStartup() {
+		List<Long> flightIds = seatMapRepository.findUpcomingFlightIdsWithoutSeatMap(LocalDateTime.now());
+		for (Long flightId : flightIds) {
+			newTransaction.executeWithoutResult(status -> flightRepository.findById(flightId).ifPresent(this::initialize));
+		}
+		if (!flightIds.isEmpty()) {
+			log.info("Created seat maps for {} upcoming flights", flightIds.size());
+		}
+	}
+
+	/**
+	 * Returns the cached seat map of a flight, reading it in the current
+	 * transaction on a cache miss. The loaded snapshot is cached once that
+	 * transaction has committed.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the seat map snapshot
+	 */
+	private SeatMapCache.Snapshot snapshot(Long flightId) {
+		SeatMapCache.Snapshot cached = cache.get(flightId);
+		if (cached != null) {
+			return cached;
+		}
+		Flight flight = flightRepository.findById(flightId)
+				.orElseThrow(() -> new RuntimeException("Flight not found"));
+		SeatLayout layout = layoutOf(flight.getAirplane());
+		FlightSeatMap seatMap = seatMapRepository.findById(flightId).orElse(null);
+		if (seatMap == null) {
+			// Not created yet; show the legacy tickets without storing anything
+			seatMap = new FlightSeatMap();
+			seatMap.setFlightId(flightId);
+			store(seatMap, seatUnseated(flight, layout, false));
+		}
+		SeatMapCache.Snapshot loaded = toSnapshot(flight, layout, seatMap);
+		AfterCommit.run(() -> cache.publish(flightId, loaded));
+		return loaded;
+	}
+
+	/**
+	 * Creates the seat map of a flight that has none yet, in the booking
+	 * transaction. The flight row is locked first, so concurrent first bookings
+	 * wait for each other instead of inserting the seat map twice.
+	 *
+	 * @param flight the flight being booked
+	 * @return the locked seat map
+	 */
+	private FlightSeatMap lockAndCreate(Flight flight) {
+		flightRepository.findByIdForUpdate(flight.getId());
+		return seatMapRepository.findByIdForUpdate(flight.getId()).orElseGet(() -> {
+			FlightSeatMap seatMap = initialize(flight);
+			seatMapRepository.flush();
+			return seatMap;
+		});
+	}
+
+	/**
+	 * Creates the seat map of a flight that does not have one yet. Tickets booked
+	 * before seat maps existed are given the first free seats, so that the
+	 * occupancy matches the number of tickets sold.
+	 *
+	 * @param flight the flight to create the seat map for
+	 * @return the new, not yet flushed seat map
+	 */
+	private FlightSeatMap initialize(Flight flight) {
+		FlightSeatMap seatMap = new FlightSeatMap();
+		seatMap.setFlightId(flight.getId());
+		BitSet occupied = seatUnseated(flight, layoutOf(flight.getAirplane()), true);
+		store(seatMap, occupied);
+		if (!occupied.isEmpty()) {
+			// The rendered tickets of these bookings show no seat yet
+			outboxService.publish(OutboxEvent.FLIGHT, flight.getId(), OutboxEvent.SEATS_ASSIGNED,
+					Map.of("flightId", flight.getId(), "tickets", occupied.cardinality()));
+		}
+		return seatMapRepository.save(seatMap);
+	}
+
+	/**
+	 * Places the tickets booked before seat maps existed in the first free seats.
+	 *
+	 * @param flight the flight
+	 * @param layout the seat layout of the flight
+	 * @param assign whether to store the seat numbers on the tickets
+	 * @return the occupancy
+	 */
+	private BitSet seatUnseated(Flight flight, SeatLayout layout, boolean assign) {
+		BitSet occupied = new BitSet(layout.size());
+		List<BookedTicket> unseated = bookedTicketRepository
+				.findByBooking_Flight_IdAndSeatNumberIsNullOrderByTicketIdAsc(flight.getId());
+		int[] seats = layout.findFirstFree(occupied, Math.min(unseated.size(), layout.size()));
+		for (int i = 0; seats != null && i < seats.length; i++) {
+			occupied.set(seats[i]);
+			if (assign) {
+				unseated.get(i).setSeatNumber(layout.label(seats[i]));
+			}
+		}
+		return occupied;
+	}
+
+	private SeatLayout layoutOf(Airplane airplane) {
+		return cache.layout(airplane.getAirplaneId(), () -> SeatLayout.of(airplane));
+	}
+
+	private static void store(FlightSeatMap seatMap, BitSet occupied) {
+		seatMap.setOccupancy(occupied.toByteArray());
+		seatMap.setOccupiedCount(occupied.cardinality());
+	}
+
+	/**
+	 * Publishes the new occupancy to the cache once the surrounding transaction
+	 * has committed, so readers never see seats of a rolled-back booking, and
+	 * drops the cached searches whose seat availability it changes.
+	 */
+	private void publishAfterCommit(Flight flight, SeatLayout layout, FlightSeatMap seatMap) {
+		Long flightId = flight.getId();
+		Long airplaneId = flight.getAirplane().getAirplaneId();
+		LocalDateTime departureTime = flight.getDepartureTime();
+		Long sourceId = flight.getFromAirport().getId();
+		Long destinationId = flight.getToAirport().getId();
+		LocalDate date = departureTime.toLocalDate();
+		AfterCommit.run(() -> {
+			cache.publish(flightId, toSnapshot(flightId, airplaneId, departureTime, layout, seatMap));
+			searchCache.invalidate(sourceId, destinationId, date);
+		});
+	}
+
+	private SeatMapCache.Snapshot toSnapshot(Flight flight, SeatLayout layout, FlightSeatMap seatMap) {
+		return toSnapshot(flight.getId(), flight.getAirplane().getAirplaneId(), flight.getDepartureTime(), layout,
+				seatMap);
+	}
+
+	private static SeatMapCache.Snapshot toSnapshot(Long flightId, Long airplaneId, LocalDateTime departureTime,
+			SeatLayout layout, FlightSeatMap seatMap) {
+		BitSet occupied = BitSet.valueOf(seatMap.getOccupancy());
+		List<SeatResponse> seats = new ArrayList<>(layout.size());
+		for (int i = 0; i < layout.size(); i++) {
+			seats.add(new SeatResponse(layout.label(i), layout.cabin(i), layout.row(i), occupied.get(i)));
+		}
+		int available = Math.max(0, layout.size() - occupied.cardinality());
+		SeatMapResponse response = new SeatMapResponse(flightId, layout.size(), available, List.copyOf(seats));
+		long version = seatMap.getVersion() != null ? seatMap.getVersion() : 0L;
+		return new SeatMapCache.Snapshot(version, airplaneId, departureTime, layout, occupied, response);
+	}
+
+	private static List<CabinLayoutResponse> mapToLayoutResponse(List<CabinLayout> cabins) {
+		return cabins.stream().map(c -> new CabinLayoutResponse(c.getCabinClass(), c.getFirstRow(), c.getLastRow(),
+				c.getSeatLetters())).collect(Collectors.toList());
+	}
+}
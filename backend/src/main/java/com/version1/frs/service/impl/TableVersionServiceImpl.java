@@ -0,0 +1,100 @@
+package com.version1.frs.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.version1.frs.model.TableVersion;
+import com.version1.frs.repository.TableVersionRepository;
+import com.version1.frs.service.TableVersionService;
+
+/**
+ * Implementation of the {@link TableVersionService} interface. Versions are
+ * kept in memory and re-read from the database at most once per refresh
+ * interval, so an ETag check normally costs no query. Local writes update the
+ * in-memory copy as soon as they commit; versions only ever grow, so a stale
+ * read never moves a counter backwards.
+ */
+@Service
+public class TableVersionServiceImpl implements TableVersionService {
+
+	private static final List<String> TABLES = List.of(TableVersion.AIRPORTS, TableVersion.AIRPLANES,
+			TableVersion.FLIGHTS);
+
+	private final TableVersionRepository tableVersionRepository;
+	private final long refreshMillis;
+	private final Map<String, Long> versions = new ConcurrentHashMap<>();
+	private final ReentrantLock refreshLock = new ReentrantLock();
+	private volatile long refreshedAt;
+
+	// Constructor injection for dependencies
+	public TableVersionServiceImpl(TableVersionRepository tableVersionRepository,
+			@Value("${http-cache.version-refresh-ms:1000}") long refreshMillis) {
+		this.tableVersionRepository = tableVersionRepository;
+		this.refreshMillis = refreshMillis;
+	}
+
+	@Override
+	public long currentVersion(String tableName) {
+		refreshIfDue(!versions.containsKey(tableName));
+		return versions.getOrDefault(tableName, 0L);
+	}
+
+	@Override
+	@Transactional
+	public void increment(String tableName) {
+		if (tableVersionRepository.increment(tableName) == 0) {
+			tableVersionRepository.saveAndFlush(new TableVersion(tableName, System.currentTimeMillis()));
+		}
+		long version = tableVersionRepository.findVersion(tableName);
+		AfterCommit.run(() -> versions.merge(tableName, version, Math::max));
+	}
+
+	/**
+	 * Creates the counters of tables that do not have one yet.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void seedOnStartup() {
+		long now = System.currentTimeMillis();
+		for (String table : TABLES) {
+			if (!tableVersionRepository.existsById(table)) {
+				tableVersionRepository.save(new TableVersion(table, now));
+			}
+		}
+	}
+
+	/**
+	 * Re-reads all counters if the refresh interval has passed. Only one thread
+	 * refreshes at a time; the others keep using the current values unless the
+	 * table is not known yet, in which case they wait for the refresh.
+	 */
+	private void refreshIfDue(boolean missing) {
+		if (!missing && System.currentTimeMillis() - refreshedAt < refreshMillis) {
+			return;
+		}
+		if (missing) {
+			refreshLock.lock();
+		} else if (!refreshLock.tryLock()) {
+			return;
+		}
+		try {
+			if (!missing && System.currentTimeMillis() - refreshedAt < refreshMillis) {
+				return;
+			}
+			for (TableVersion row : tableVersionRepository.findAll()) {
+				versions.merge(row.getTableName(), row.getVersion(), Math::max);
+			}
+			refreshedAt = System.currentTimeMillis();
+		} finally {
+			refreshLock.unlock();
+		}
+	}
+}
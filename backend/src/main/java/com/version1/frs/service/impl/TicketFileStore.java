@@ -0,0 +1,89 @@
+package com.version1.frs.service.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Content-addressed file cache for rendered tickets. Each file is named after
+ * the SHA-256 hash of its bytes and spread over 256 sub-directories by the
+ * first hash byte. Files are written to a temporary name and moved into place,
+ * so readers never see a partial file and storing the same content twice is
+ * harmless.
+ */
+@Component
+public class TicketFileStore {
+
+	private final Path root;
+
+	// Constructor injection for dependencies
+	public TicketFileStore(@Value("${tickets.cache-dir:${java.io.tmpdir}/frs-tickets}") String root) {
+		this.root = Path.of(root);
+	}
+
+	/**
+	 * Stores a file unless a file with the same content exists already.
+	 *
+	 * @param content the file content
+	 * @return the hex-encoded SHA-256 hash of the content
+	 */
+	public String store(byte[] content) {
+		String hash = hash(content);
+		Path target = resolve(hash);
+		if (Files.exists(target)) {
+			return hash;
+		}
+		try {
+			Files.createDirectories(target.getParent());
+			Path temp = Files.createTempFile(target.getParent(), hash, ".tmp");
+			try {
+				Files.write(temp, content);
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to store ticket file " + hash, e);
+		}
+		return hash;
+	}
+
+	/**
+	 * Gets the path of a stored file.
+	 *
+	 * @param hash the content hash
+	 * @return the path, which may not exist
+	 */
+	public Path resolve(String hash) {
+		return root.resolve(hash.substring(0, 2)).resolve(hash + ".pdf");
+	}
+
+	/**
+	 * Deletes a stored file, if present.
+	 *
+	 * @param hash the content hash
+	 */
+	public void delete(String hash) {
+		try {
+			Files.deleteIfExists(resolve(hash));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to delete ticket file " + hash, e);
+		}
+	}
+
+	private static String hash(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
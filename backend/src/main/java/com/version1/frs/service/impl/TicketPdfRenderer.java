@@ -0,0 +1,188 @@
+package com.version1.frs.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.version1.frs.model.Airport;
+import com.version1.frs.model.BookedTicket;
+import com.version1.frs.model.Booking;
+import com.version1.frs.model.Flight;
+
+/**
+ * Renders the ticket of a booking as a small, self-contained PDF using only the
+ * standard PDF fonts, so no rendering library is needed. The output depends on
+ * nothing but the booking, which makes it stable for content addressing: the
+ * same booking always produces the same bytes.
+ */
+public final class TicketPdfRenderer {
+
+	private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+	/** A4 portrait, in points. */
+	private static final int PAGE_WIDTH = 595;
+	private static final int PAGE_HEIGHT = 842;
+	private static final int MARGIN = 50;
+	private static final int LEADING = 16;
+	private static final int LINES_PER_PAGE = (PAGE_HEIGHT - 2 * MARGIN) / LEADING;
+
+	/** Font resource names, registered on every page. */
+	private static final String REGULAR = "F1";
+	private static final String BOLD = "F2";
+	private static final String MONO = "F3";
+
+	/**
+	 * One line of text on the ticket.
+	 */
+	private record Line(String font, int size, String text) {
+	}
+
+	private TicketPdfRenderer() {
+	}
+
+	/**
+	 * Renders the ticket of a booking. The booking's user, flight, airports and
+	 * tickets must be loaded.
+	 *
+	 * @param booking the booking to render
+	 * @return the PDF bytes
+	 */
+	public static byte[] render(Booking booking) {
+		return toPdf(layout(booking));
+	}
+
+	private static List<Line> layout(Booking booking) {
+		Flight flight = booking.getFlight();
+		List<Line> lines = new ArrayList<>();
+		lines.add(new Line(BOLD, 18, "E-Ticket / Itinerary Receipt"));
+		lines.add(new Line(REGULAR, 11, ""));
+		lines.add(new Line(REGULAR, 11, "Booking ID: " + booking.getBookingId()));
+		lines.add(new Line(REGULAR, 11, "Booked on: " + booking.getBookingTime().format(DATE_TIME)));
+		lines.add(new Line(REGULAR, 11, "Booked by: " + booking.getUser().getUserName()));
+		lines.add(new Line(REGULAR, 11, ""));
+		lines.add(new Line(BOLD, 12, flight.getAirline() + " - Flight " + flight.getId()));
+		lines.add(new Line(REGULAR, 11, "From: " + describe(flight.getFromAirport())));
+		lines.add(new Line(REGULAR, 11, "To: " + describe(flight.getToAirport())));
+		lines.add(new Line(REGULAR, 11, "Departure: " + flight.getDepartureTime().format(DATE_TIME)));
+		lines.add(new Line(REGULAR, 11, "Arrival: " + flight.getArrivalTime().format(DATE_TIME)));
+		lines.add(new Line(REGULAR, 11, "Total paid: INR " + booking.getTotalAmount().toPlainString()));
+		lines.add(new Line(REGULAR, 11, ""));
+		lines.add(new Line(BOLD, 12, "Passengers"));
+		lines.add(new Line(MONO, 10, String.format("%-6s %-32s %4s  %s", "SEAT", "NAME", "AGE", "GENDER")));
+		for (BookedTicket ticket : booking.getBookedTickets()) {
+			String seat = ticket.getSeatNumber() != null ? ticket.getSeatNumber() : "-";
+			lines.add(new Line(MONO, 10, String.format("%-6s %-32s %4d  %s", seat, ticket.getPassengerName(),
+					ticket.getPassengerAge(), ticket.getPassengerGender())));
+		}
+		return lines;
+	}
+
+	private static String describe(Airport airport) {
+		return airport.getAirportCode() + " - " + airport.getAirportName() + ", " + airport.getAirportCity();
+	}
+
+	/**
+	 * Lays the lines out on as many pages as needed and writes the PDF objects
+	 * followed by the cross-reference table. Object 1 is the catalog, 2 the page
+	 * tree, 3 to 5 the fonts, followed by a page and a content stream per page.
+	 */
+	private static byte[] toPdf(List<Line> lines) {
+		List<List<Line>> pages = new ArrayList<>();
+		for (int i = 0; i < lines.size(); i += LINES_PER_PAGE) {
+			pages.add(lines.subList(i, Math.min(lines.size(), i + LINES_PER_PAGE)));
+		}
+
+		List<byte[]> objects = new ArrayList<>();
+		StringBuilder kids = new StringBuilder();
+		for (int i = 0; i < pages.size(); i++) {
+			kids.append(6 + 2 * i).append(" 0 R ");
+		}
+		objects.add(ascii("<< /Type /Catalog /Pages 2 0 R >>"));
+		objects.add(ascii("<< /Type /Pages /Kids [ " + kids + "] /Count " + pages.size() + " >>"));
+		objects.add(font("Helvetica"));
+		objects.add(font("Helvetica-Bold"));
+		objects.add(font("Courier"));
+		for (int i = 0; i < pages.size(); i++) {
+			objects.add(ascii("<< /Type /Page /Parent 2 0 R /MediaBox [0 0 " + PAGE_WIDTH + " " + PAGE_HEIGHT
+					+ "] /Resources << /Font << /" + REGULAR + " 3 0 R /" + BOLD + " 4 0 R /" + MONO
+					+ " 5 0 R >> >> /Contents " + (7 + 2 * i) + " 0 R >>"));
+			objects.add(stream(content(pages.get(i))));
+		}
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out, ascii("%PDF-1.4\n"));
+		long[] offsets = new long[objects.size()];
+		for (int i = 0; i < objects.size(); i++) {
+			offsets[i] = out.size();
+			write(out, ascii((i + 1) + " 0 obj\n"));
+			write(out, objects.get(i));
+			write(out, ascii("\nendobj\n"));
+		}
+		long xref = out.size();
+		StringBuilder trailer = new StringBuilder();
+		trailer.append("xref\n0 ").append(objects.size() + 1).append('\n');
+		trailer.append("0000000000 65535 f \n");
+		for (long offset : offsets) {
+			trailer.append(String.format("%010d 00000 n \n", offset));
+		}
+		trailer.append("trailer\n<< /Size ").append(objects.size() + 1).append(" /Root 1 0 R >>\n");
+		trailer.append("startxref\n").append(xref).append("\n%%EOF\n");
+		write(out, ascii(trailer.toString()));
+		return out.toByteArray();
+	}
+
+	private static byte[] content(List<Line> lines) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out, ascii("BT\n" + LEADING + " TL\n" + MARGIN + " " + (PAGE_HEIGHT - MARGIN) + " Td\n"));
+		for (Line line : lines) {
+			write(out, ascii("/" + line.font() + " " + line.size() + " Tf\n("));
+			write(out, literal(line.text()));
+			write(out, ascii(") Tj\nT*\n"));
+		}
+		write(out, ascii("ET"));
+		return out.toByteArray();
+	}
+
+	private static byte[] stream(byte[] data) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		write(out, ascii("<< /Length " + data.length + " >>\nstream\n"));
+		write(out, data);
+		write(out, ascii("\nendstream"));
+		return out.toByteArray();
+	}
+
+	private static byte[] font(String name) {
+		return ascii("<< /Type /Font /Subtype /Type1 /BaseFont /" + name + " /Encoding /WinAnsiEncoding >>");
+	}
+
+	/**
+	 * Encodes text for a PDF literal string. The standard fonts only cover Latin-1
+	 * here, so other characters are replaced with '?'; backslashes and
+	 * parentheses are escaped.
+	 */
+	private static byte[] literal(String text) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(text.length() + 8);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '\\' || c == '(' || c == ')') {
+				out.write('\\');
+				out.write(c);
+			} else if (c < 0x20 || c > 0xFF || c == 0x7F) {
+				out.write('?');
+			} else {
+				out.write(c);
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] ascii(String text) {
+		return text.getBytes(StandardCharsets.US_ASCII);
+	}
+
+	private static void write(ByteArrayOutputStream out, byte[] bytes) {
+		out.write(bytes, 0, bytes.length);
+	}
+}
@@ -0,0 +1,227 @@
+package com.version1.frs.service.impl;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.model.TicketDocument;
+import com.version1.frs.repository.BookingRepository;
+import com.version1.frs.repository.TicketDocumentRepository;
+import com.version1.frs.service.OutboxEventHandler;
+import com.version1.frs.service.TicketService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of the {@link TicketService} interface. Booking events from
+ * the outbox schedule rendering on a small, bounded worker pool; the PDF is
+ * stored in the {@link TicketFileStore} and recorded in a
+ * {@link TicketDocument} row. Cancellations drop the row and, once committed,
+ * the file. Changes to the flight, its airports or its seat assignments drop
+ * the affected tickets in the same way and render them again.
+ */
+@Service
+public class TicketServiceImpl implements TicketService, OutboxEventHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(TicketServiceImpl.class);
+
+	private final TicketDocumentRepository ticketDocumentRepository;
+	private final BookingRepository bookingRepository;
+	private final TicketFileStore fileStore;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor workers;
+
+	/** Bookings queued or being rendered, so a ticket is never rendered twice at once. */
+	private final Set<Long> rendering = ConcurrentHashMap.newKeySet();
+
+	// Constructor injection for dependencies
+	public TicketServiceImpl(TicketDocumentRepository ticketDocumentRepository, BookingRepository bookingRepository,
+			TicketFileStore fileStore, PlatformTransactionManager transactionManager,
+			@Value("${tickets.render.threads:2}") int threads,
+			@Value("${tickets.render.queue-size:500}") int queueSize) {
+		this.ticketDocumentRepository = ticketDocumentRepository;
+		this.bookingRepository = bookingRepository;
+		this.fileStore = fileStore;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueSize), task -> {
+					Thread thread = new Thread(task, "ticket-render-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	@Override
+	public Set<String> eventTypes() {
+		return Set.of(OutboxEvent.BOOKING_CREATED, OutboxEvent.BOOKING_CANCELLED, OutboxEvent.FLIGHT_UPDATED,
+				OutboxEvent.SEATS_ASSIGNED, OutboxEvent.AIRPORT_UPDATED);
+	}
+
+	/**
+	 * Schedules rendering for new bookings and invalidates the tickets of
+	 * cancelled ones. If the worker pool is saturated, the event fails and is
+	 * retried by the outbox with backoff. Flight, seat and airport changes
+	 * invalidate every ticket showing the changed data and schedule it again;
+	 * tickets that do not fit into the queue are rendered on their next download.
+	 *
+	 * @param event   the booking, flight or airport event
+	 * @param payload the event data
+	 */
+	@Override
+	public void handle(OutboxEvent event, JsonNode payload) {
+		Long aggregateId = event.getAggregateId();
+		switch (event.getEventType()) {
+		case OutboxEvent.BOOKING_CANCELLED -> invalidate(aggregateId);
+		case OutboxEvent.FLIGHT_UPDATED, OutboxEvent.SEATS_ASSIGNED ->
+			rerender(ticketDocumentRepository.findByFlightId(aggregateId));
+		case OutboxEvent.AIRPORT_UPDATED -> rerender(ticketDocumentRepository.findByAirportId(aggregateId));
+		default -> {
+			if (!scheduleRender(aggregateId)) {
+				throw new RuntimeException("Ticket render queue is full.");
+			}
+		}
+		}
+	}
+
+	/**
+	 * Retrieves the rendered ticket of a booking, scheduling rendering if it is
+	 * missing.
+	 *
+	 * @param bookingId the ID of the booking
+	 * @return the ticket file, or null if it is not ready yet
+	 */
+	@Override
+	public TicketFile getTicket(Long bookingId) {
+		TicketDocument document = ticketDocumentRepository.findById(bookingId).orElse(null);
+		if (document != null) {
+			Path path = fileStore.resolve(document.getContentHash());
+			if (Files.exists(path)) {
+				return new TicketFile(path, document.getContentHash(), document.getContentLength());
+			}
+		}
+		scheduleRender(bookingId);
+		return null;
+	}
+
+	@Override
+	public boolean scheduleRender(Long bookingId) {
+		if (!rendering.add(bookingId)) {
+			return true;
+		}
+		try {
+			workers.execute(() -> {
+				try {
+					render(bookingId);
+				} catch (RuntimeException e) {
+					log.warn("Failed to render ticket for booking {}", bookingId, e);
+				} finally {
+					rendering.remove(bookingId);
+				}
+			});
+			return true;
+		} catch (RejectedExecutionException e) {
+			rendering.remove(bookingId);
+			return false;
+		}
+	}
+
+	/**
+	 * Deletes the ticket row of a booking; the file is deleted after commit if no
+	 * other row refers to it.
+	 *
+	 * @param bookingId the ID of the booking
+	 */
+	@Override
+	@Transactional
+	public void invalidate(Long bookingId) {
+		ticketDocumentRepository.findById(bookingId).ifPresent(this::drop);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		workers.shutdownNow();
+	}
+
+	/**
+	 * Drops outdated tickets and, once that has committed, schedules them to be
+	 * rendered from the current data.
+	 *
+	 * @param documents the outdated ticket rows
+	 */
+	private void rerender(List<TicketDocument> documents) {
+		List<Long> bookingIds = documents.stream().map(TicketDocument::getBookingId).collect(Collectors.toList());
+		documents.forEach(this::drop);
+		AfterCommit.run(() -> bookingIds.forEach(this::scheduleRender));
+	}
+
+	/**
+	 * Deletes a ticket row; the file is deleted after commit if no other row
+	 * refers to it.
+	 *
+	 * @param document the ticket row
+	 */
+	private void drop(TicketDocument document) {
+		ticketDocumentRepository.delete(document);
+		String hash = document.getContentHash();
+		if (!ticketDocumentRepository.existsByContentHash(hash)) {
+			AfterCommit.run(() -> fileStore.delete(hash));
+		}
+	}
+
+	/**
+	 * Renders and stores the ticket of a booking. The booking is read and the
+	 * ticket row written in separate short transactions so that no connection is
+	 * held while the PDF is rendered to disk; if the booking was cancelled in the
+	 * meantime, the row is not written and the file is dropped again. A file
+	 * replaced by the new rendering is deleted once no row refers to it.
+	 *
+	 * @param bookingId the ID of the booking
+	 */
+	private void render(Long bookingId) {
+		byte[] pdf = transactionTemplate
+				.execute(status -> bookingRepository.findById(bookingId).map(TicketPdfRenderer::render).orElse(null));
+		if (pdf == null) {
+			return;
+		}
+		String hash = fileStore.store(pdf);
+		Boolean saved = transactionTemplate.execute(status -> {
+			if (!bookingRepository.existsById(bookingId)) {
+				return false;
+			}
+			TicketDocument document = ticketDocumentRepository.findById(bookingId).orElseGet(TicketDocument::new);
+			String replaced = document.getContentHash();
+			document.setBookingId(bookingId);
+			document.setContentHash(hash);
+			document.setContentLength(pdf.length);
+			document.setRenderedAt(LocalDateTime.now());
+			ticketDocumentRepository.save(document);
+			if (replaced != null && !replaced.equals(hash) && !ticketDocumentRepository.existsByContentHash(replaced)) {
+				AfterCommit.run(() -> fileStore.delete(replaced));
+			}
+			return true;
+		});
+		if (!Boolean.TRUE.equals(saved) && !ticketDocumentRepository.existsByContentHash(hash)) {
+			fileStore.delete(hash);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.version1.frs.service.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.repository.WaitlistRepository;
+import com.version1.frs.service.OutboxEventHandler;
+import com.version1.frs.service.SeatsReleasedEvent;
+import com.version1.frs.service.WaitlistService;
+
+/**
+ * Collects flights whose seats were released and promotes their waitlists on
+ * the scheduler thread. Cancellations reach it as outbox events, so they never
+ * wait for, or roll back with, a promotion, and are not lost if the
+ * application stops in between; several cancellations on the same flight
+ * between two runs are served by one batch.
+ */
+@Component
+public class WaitlistPromoter implements OutboxEventHandler {
+
+	private static final Logger log = LoggerFactory.getLogger(WaitlistPromoter.class);
+
+	private final WaitlistService waitlistService;
+	private final WaitlistRepository waitlistRepository;
+	private final Set<Long> pendingFlights = ConcurrentHashMap.newKeySet();
+
+	// Constructor injection for dependencies
+	public WaitlistPromoter(WaitlistService waitlistService, WaitlistRepository waitlistRepository) {
+		this.waitlistService = waitlistService;
+		this.waitlistRepository = waitlistRepository;
+	}
+
+	@Override
+	public Set<String> eventTypes() {
+		return Set.of(OutboxEvent.BOOKING_CANCELLED);
+	}
+
+	/**
+	 * Marks the flight of a cancelled booking for promotion.
+	 *
+	 * @param event   the cancellation event
+	 * @param payload the event data, holding the flight ID
+	 */
+	@Override
+	public void handle(OutboxEvent event, JsonNode payload) {
+		pendingFlights.add(payload.path("flightId").asLong());
+	}
+
+	/**
+	 * Marks a flight for promotion once the transaction that published the event
+	 * has committed.
+	 *
+	 * @param event the released seats event
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSeatsReleased(SeatsReleasedEvent event) {
+		pendingFlights.add(event.flightId());
+	}
+
+	/**
+	 * Resumes promotion for flights that still had customers waiting when the
+	 * application was last stopped.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeOnStartup() {
+		pendingFlights.addAll(waitlistRepository.findFlightIdsWithWaitingEntries());
+	}
+
+	/**
+	 * Promotes the waitlists of all flights marked since the previous run.
+	 */
+	@Scheduled(fixedDelayString = "${waitlist.promotion.interval-ms:2000}")
+	public void promotePending() {
+		for (Long flightId : pendingFlights) {
+			pendingFlights.remove(flightId);
+			try {
+				waitlistService.promote(flightId);
+			} catch (RuntimeException e) {
+				log.warn("Waitlist promotion failed for flight {}", flightId, e);
+			}
+		}
+	}
+}
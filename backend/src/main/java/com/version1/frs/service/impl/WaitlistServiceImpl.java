@@ -0,0 +1,253 @@
+package com.version1.frs.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.version1.frs.dto.BookingRequest;
+import com.version1.frs.dto.BookingResponse;
+import com.version1.frs.dto.PassengerRequest;
+import com.version1.frs.dto.PassengerResponse;
+import com.version1.frs.dto.WaitlistResponse;
+import com.version1.frs.model.Flight;
+import com.version1.frs.model.User;
+import com.version1.frs.model.WaitlistEntry;
+import com.version1.frs.model.WaitlistPassenger;
+import com.version1.frs.repository.FlightRepository;
+import com.version1.frs.repository.UserRepository;
+import com.version1.frs.repository.WaitlistRepository;
+import com.version1.frs.service.BookingService;
+import com.version1.frs.service.SeatMapService;
+import com.version1.frs.service.SeatsReleasedEvent;
+import com.version1.frs.service.WaitlistService;
+
+/**
+ * Implementation of the {@link WaitlistService} interface. Promotion reuses
+ * {@link BookingService#bookFlight} so that seat assignment, wallet debit and
+ * analytics behave exactly as for a direct booking. Each promoted entry gets
+ * its own short transaction, so one customer's failure does not roll back the
+ * others and the seat map lock is never held for a whole batch.
+ */
+@Service
+public class WaitlistServiceImpl implements WaitlistService {
+
+	private static final Logger log = LoggerFactory.getLogger(WaitlistServiceImpl.class);
+
+	private final WaitlistRepository waitlistRepository;
+	private final FlightRepository flightRepository;
+	private final UserRepository userRepository;
+	private final BookingService bookingService;
+	private final SeatMapService seatMapService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+
+	// Constructor injection for dependencies
+	public WaitlistServiceImpl(WaitlistRepository waitlistRepository, FlightRepository flightRepository,
+			UserRepository userRepository, BookingService bookingService, SeatMapService seatMapService,
+			ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+			@Value("${waitlist.promotion.batch-size:20}") int batchSize) {
+		this.waitlistRepository = waitlistRepository;
+		this.flightRepository = flightRepository;
+		this.userRepository = userRepository;
+		this.bookingService = bookingService;
+		this.seatMapService = seatMapService;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	@Transactional
+	public WaitlistResponse joinWaitlist(BookingRequest request, Long userId) {
+		User user = userRepository.findById(userId).orElseThrow(() -> new RuntimeException("User not found"));
+
+		Flight flight = flightRepository.findById(request.getFlightId())
+				.orElseThrow(() -> new RuntimeException("Flight not found"));
+
+		if (flight.getDepartureTime().isBefore(LocalDateTime.now())) {
+			throw new RuntimeException("This flight has already departed.");
+		}
+		if (seatMapService.getAvailableSeats(flight.getId()) >= request.getPassengers().size()) {
+			throw new RuntimeException("Seats are available on this flight; please book directly.");
+		}
+		if (waitlistRepository.existsByUser_UserIdAndFlight_IdAndStatus(userId, flight.getId(),
+				WaitlistEntry.WAITING)) {
+			throw new RuntimeException("You are already on the waitlist for this flight.");
+		}
+
+		WaitlistEntry entry = new WaitlistEntry();
+		entry.setUser(user);
+		entry.setFlight(flight);
+		entry.setRequestedAt(LocalDateTime.now());
+		entry.setStatus(WaitlistEntry.WAITING);
+		for (PassengerRequest p : request.getPassengers()) {
+			WaitlistPassenger passenger = new WaitlistPassenger();
+			passenger.setEntry(entry);
+			passenger.setPassengerName(p.getPassengerName());
+			passenger.setPassengerAge(p.getPassengerAge());
+			passenger.setPassengerGender(p.getPassengerGender());
+			entry.getPassengers().add(passenger);
+		}
+		waitlistRepository.save(entry);
+
+		// Seats may have been released between the availability check and now
+		eventPublisher.publishEvent(new SeatsReleasedEvent(flight.getId()));
+
+		return mapToDto(entry);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<WaitlistResponse> getWaitlistByUser(Long userId) {
+		return waitlistRepository.findByUser_UserIdOrderByWaitlistIdDesc(userId).stream().map(this::mapToDto)
+				.collect(Collectors.toList());
+	}
+
+	@Override
+	@Transactional
+	public void cancelEntry(Long waitlistId, Long userId) {
+		WaitlistEntry entry = waitlistRepository.findById(waitlistId)
+				.orElseThrow(() -> new RuntimeException("Waitlist entry not found"));
+		if (!entry.getUser().getUserId().equals(userId)) {
+			throw new RuntimeException("Waitlist entry not found");
+		}
+		if (!WaitlistEntry.WAITING.equals(entry.getStatus())) {
+			throw new RuntimeException("Waitlist entry is already " + entry.getStatus().toLowerCase() + ".");
+		}
+		entry.setStatus(WaitlistEntry.CANCELLED);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<WaitlistResponse> getWaitlistByFlight(Long flightId) {
+		return waitlistRepository.findByFlight_IdOrderByWaitlistIdAsc(flightId).stream().map(this::mapToDto)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Works through the queue in batches of {@code waitlist.promotion.batch-size}.
+	 * Promotion stops at the first entry that does not fit into the free seats,
+	 * so a large group at the head of the queue is not overtaken by smaller ones
+	 * behind it.
+	 *
+	 * @param flightId the ID of the flight
+	 * @return the number of entries promoted
+	 */
+	@Override
+	public int promote(Long flightId) {
+		int promoted = 0;
+		while (true) {
+			List<Candidate> batch = transactionTemplate.execute(status -> loadBatch(flightId));
+			for (Candidate candidate : batch) {
+				if (candidate.departed()) {
+					fail(candidate, "This flight has already departed.");
+					continue;
+				}
+				if (seatMapService.getAvailableSeats(flightId) < candidate.request().getPassengers().size()) {
+					return promoted;
+				}
+				try {
+					if (Boolean.TRUE.equals(transactionTemplate.execute(status -> book(candidate)))) {
+						promoted++;
+					}
+				} catch (ObjectOptimisticLockingFailureException e) {
+					// Withdrawn by the customer while being promoted; the booking was rolled back
+				} catch (RuntimeException e) {
+					if (seatMapService.getAvailableSeats(flightId) < candidate.request().getPassengers().size()) {
+						// A direct booking took the seats first; retry on the next release
+						return promoted;
+					}
+					fail(candidate, e.getMessage());
+				}
+			}
+			if (batch.size() < batchSize) {
+				if (promoted > 0) {
+					log.info("Promoted {} waitlist entries on flight {}", promoted, flightId);
+				}
+				return promoted;
+			}
+		}
+	}
+
+	private List<Candidate> loadBatch(Long flightId) {
+		return waitlistRepository
+				.findByFlight_IdAndStatusOrderByWaitlistIdAsc(flightId, WaitlistEntry.WAITING, Limit.of(batchSize))
+				.stream().map(this::toCandidate).collect(Collectors.toList());
+	}
+
+	/**
+	 * Books a candidate and marks its entry as promoted, unless the entry was
+	 * withdrawn or handled since the batch was loaded.
+	 *
+	 * @param candidate the entry to promote
+	 * @return true if a booking was made
+	 */
+	private boolean book(Candidate candidate) {
+		WaitlistEntry entry = waitlistRepository.findById(candidate.waitlistId()).orElse(null);
+		if (entry == null || !WaitlistEntry.WAITING.equals(entry.getStatus())) {
+			return false;
+		}
+		BookingResponse booking = bookingService.bookFlight(candidate.request(), candidate.userId());
+		entry.setStatus(WaitlistEntry.PROMOTED);
+		entry.setBookingId(booking.getBookingId());
+		waitlistRepository.saveAndFlush(entry);
+		return true;
+	}
+
+	private void fail(Candidate candidate, String reason) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> waitlistRepository.findById(candidate.waitlistId())
+					.filter(entry -> WaitlistEntry.WAITING.equals(entry.getStatus())).ifPresent(entry -> {
+						entry.setStatus(WaitlistEntry.FAILED);
+						entry.setFailureReason(reason);
+					}));
+		} catch (ObjectOptimisticLockingFailureException e) {
+			// Withdrawn concurrently; nothing left to record
+		}
+	}
+
+	/**
+	 * Detaches the data needed to promote an entry, so the booking transaction
+	 * does not depend on entities loaded in another one.
+	 */
+	private Candidate toCandidate(WaitlistEntry entry) {
+		BookingRequest request = new BookingRequest();
+		request.setFlightId(entry.getFlight().getId());
+		request.setPassengers(entry.getPassengers().stream().map(p -> {
+			PassengerRequest passenger = new PassengerRequest();
+			passenger.setPassengerName(p.getPassengerName());
+			passenger.setPassengerAge(p.getPassengerAge());
+			passenger.setPassengerGender(p.getPassengerGender());
+			return passenger;
+		}).collect(Collectors.toList()));
+		boolean departed = entry.getFlight().getDepartureTime().isBefore(LocalDateTime.now());
+		return new Candidate(entry.getWaitlistId(), entry.getUser().getUserId(), request, departed);
+	}
+
+	private record Candidate(Long waitlistId, Long userId, BookingRequest request, boolean departed) {
+	}
+
+	private WaitlistResponse mapToDto(WaitlistEntry entry) {
+		List<PassengerResponse> passengers = entry.getPassengers().stream()
+				.map(p -> new PassengerResponse(p.getPassengerName(), p.getPassengerAge(), p.getPassengerGender()))
+				.collect(Collectors.toList());
+		Long position = WaitlistEntry.WAITING.equals(entry.getStatus())
+				? waitlistRepository.countAhead(entry.getFlight().getId(), entry.getWaitlistId()) + 1
+				: null;
+		return new WaitlistResponse(entry.getWaitlistId(), entry.getUser().getUserId(), entry.getFlight().getId(),
+				entry.getRequestedAt(), entry.getStatus(), position, entry.getBookingId(), entry.getFailureReason(),
+				passengers);
+	}
+}
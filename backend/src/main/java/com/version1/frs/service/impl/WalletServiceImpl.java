@@ -1,13 +1,19 @@
 package com.version1.frs.service.impl;
 
+import java.math.BigDecimal;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.version1.frs.config.ReadYourWrites;
 import com.version1.frs.dto.WalletRequest;
 import com.version1.frs.dto.WalletResponse;
+import com.version1.frs.model.OutboxEvent;
 import com.version1.frs.model.Wallet;
 import com.version1.frs.repository.WalletRepository;
+import com.version1.frs.service.OutboxService;
 import com.version1.frs.service.WalletService;
 
 /**
@@ -19,11 +25,16 @@
 public class WalletServiceImpl implements WalletService {
 
 	private WalletRepository walletRepository;
+	private OutboxService outboxService;
+	private ReadYourWrites readYourWrites;
 
 	// Constructor injection for dependencies
 
-	public WalletServiceImpl(WalletRepository walletRepository) {
+	public WalletServiceImpl(WalletRepository walletRepository, OutboxService outboxService,
+			ReadYourWrites readYourWrites) {
 		this.walletRepository = walletRepository;
+		this.outboxService = outboxService;
+		this.readYourWrites = readYourWrites;
 	}
 
 	/**
@@ -49,6 +60,7 @@ public WalletResponse getWalletByUserId(Long userId) {
 	 * @throws RuntimeException if the wallet is not found
 	 */
 	@Override
+	@Transactional
 	public WalletResponse updateWallet(Long walletId, WalletRequest request) {
 		Optional<Wallet> optionalWallet = walletRepository.findById(walletId);
 		if (optionalWallet.isPresent()) {
@@ -56,6 +68,7 @@ public WalletResponse updateWallet(Long walletId, WalletRequest request) {
 			wallet.setBalance(request.getBalance());
 
 			wallet = walletRepository.save(wallet);
+			publish(wallet, OutboxEvent.WALLET_BALANCE_SET, request.getBalance());
 
 			return mapToResponse(wallet);
 		} else {
@@ -72,6 +85,7 @@ public WalletResponse updateWallet(Long walletId, WalletRequest request) {
 	 * @throws RuntimeException if the wallet is not found for the user
 	 */
 	@Override
+	@Transactional
 	public WalletResponse addMoney(Long userId, WalletRequest request) {
 		// Get wallet by user ID
 		Wallet wallet = walletRepository.findByUser_UserId(userId)
@@ -81,6 +95,7 @@ public WalletResponse addMoney(Long userId, WalletRequest request) {
 		wallet.setBalance(wallet.getBalance().add(request.getBalance()));
 
 		wallet = walletRepository.save(wallet);
+		publish(wallet, OutboxEvent.WALLET_CREDITED, request.getBalance());
 
 		return mapToResponse(wallet);
 	}
@@ -95,6 +110,7 @@ public WalletResponse addMoney(Long userId, WalletRequest request) {
 	 *                          insufficient balance
 	 */
 	@Override
+	@Transactional
 	public WalletResponse makePayment(Long userId, WalletRequest request) {
 		// Get wallet by user ID
 		Wallet wallet = walletRepository.findByUser_UserId(userId)
@@ -109,10 +125,27 @@ public WalletResponse makePayment(Long userId, WalletRequest request) {
 		wallet.setBalance(wallet.getBalance().subtract(request.getBalance()));
 
 		wallet = walletRepository.save(wallet);
+		publish(wallet, OutboxEvent.WALLET_DEBITED, request.getBalance());
 
 		return mapToResponse(wallet);
 	}
 
+	/**
+	 * Records a wallet change in the outbox, in the transaction making the change,
+	 * and keeps the owner's reads on the primary once it has committed.
+	 *
+	 * @param wallet    the changed wallet
+	 * @param eventType the outbox event type
+	 * @param amount    the amount credited, debited or set
+	 */
+	private void publish(Wallet wallet, String eventType, BigDecimal amount) {
+		outboxService.publish(OutboxEvent.WALLET, wallet.getWalletId(), eventType, Map.of("walletId",
+				wallet.getWalletId(), "userId", wallet.getUser().getUserId(), "amount", amount, "balance",
+				wallet.getBalance()));
+		Long userId = wallet.getUser().getUserId();
+		AfterCommit.run(() -> readYourWrites.recordWrite(userId));
+	}
+
 	/**
 	 * Maps a {@link Wallet} entity to a {@link WalletResponse} DTO.
 	 * 
@@ -0,0 +1,84 @@
+package com.version1.frs.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.version1.frs.security.UserDetailsImpl;
+
+class ReplicaRoutingDataSourceTest {
+
+	private final ReadYourWrites readYourWrites = new ReadYourWrites(60_000);
+	private final ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(mock(DataSource.class),
+			mock(DataSource.class), readYourWrites);
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void readWriteTransactionsUseThePrimary() {
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+	}
+
+	@Test
+	void readOnlyTransactionsUseTheReplica() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		authenticate(42L);
+
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+	}
+
+	@Test
+	void readWriteTransactionsDoNotPinTheUser() {
+		authenticate(42L);
+		routing.determineCurrentLookupKey();
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+	}
+
+	@Test
+	void readsOfAUserWithARecentWriteStayOnThePrimary() {
+		readYourWrites.recordWrite(42L);
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+		authenticate(42L);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+		authenticate(7L);
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+
+		SecurityContextHolder.clearContext();
+		assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.REPLICA);
+	}
+
+	@Test
+	void pinExpiresAfterTheWindow() throws InterruptedException {
+		ReadYourWrites shortWindow = new ReadYourWrites(1);
+		shortWindow.recordWrite(42L);
+		assertThat(shortWindow.isPinned(42L)).isTrue();
+
+		Thread.sleep(5);
+
+		assertThat(shortWindow.isPinned(42L)).isFalse();
+		assertThat(shortWindow.isPinned(7L)).isFalse();
+	}
+
+	private static void authenticate(Long userId) {
+		UserDetailsImpl user = new UserDetailsImpl(userId, "user" + userId + "@example.com", "", List.of());
+		SecurityContextHolder.getContext()
+				.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+	}
+}
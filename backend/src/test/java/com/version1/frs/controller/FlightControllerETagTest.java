@@ -0,0 +1,84 @@
+package com.version1.frs.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.version1.frs.dto.FlightResponse;
+import com.version1.frs.service.AirportService;
+import com.version1.frs.service.BookingExportService;
+import com.version1.frs.service.FlightService;
+
+class FlightControllerETagTest {
+
+	private static final String ETAG = "\"flight-7-1.2.3.4\"";
+
+	private FlightService flightService;
+	private FlightController controller;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@BeforeEach
+	void setUp() {
+		flightService = mock(FlightService.class);
+		controller = new FlightController(flightService, mock(BookingExportService.class),
+				mock(AirportService.class));
+		request = new MockHttpServletRequest("GET", "/api/flights/7");
+		response = new MockHttpServletResponse();
+	}
+
+	@Test
+	void matchingETagIsAnsweredWith304WithoutLoadingTheFlight() {
+		when(flightService.getFlightETag(7L)).thenReturn(ETAG);
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+		ResponseEntity<FlightResponse> result = controller.getFlightById(7L, webRequest());
+
+		assertThat(result).isNull();
+		assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+		assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+		verify(flightService, never()).getFlightById(7L);
+	}
+
+	@Test
+	void changedETagReturnsTheFlightWithTheNewETag() {
+		FlightResponse flight = new FlightResponse();
+		when(flightService.getFlightETag(7L)).thenReturn(ETAG);
+		when(flightService.getFlightById(7L)).thenReturn(flight);
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"flight-7-0.0.0.0\"");
+
+		ResponseEntity<FlightResponse> result = controller.getFlightById(7L, webRequest());
+
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(result.getBody()).isSameAs(flight);
+		assertThat(result.getHeaders().getETag()).isEqualTo(ETAG);
+	}
+
+	@Test
+	void flightWithoutETagIsAlwaysLoaded() {
+		// Departed, or seat map not cached: the service reports no ETag
+		when(flightService.getFlightETag(7L)).thenReturn(null);
+		when(flightService.getFlightById(7L)).thenThrow(new RuntimeException("This flight has already expired."));
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, ETAG);
+
+		assertThatThrownBy(() -> controller.getFlightById(7L, webRequest()))
+				.hasMessage("This flight has already expired.");
+		assertThat(response.getStatus()).isNotEqualTo(HttpStatus.NOT_MODIFIED.value());
+	}
+
+	private ServletWebRequest webRequest() {
+		return new ServletWebRequest(request, response);
+	}
+}
@@ -0,0 +1,173 @@
+package com.version1.frs.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.version1.frs.model.Airplane;
+import com.version1.frs.model.Airport;
+import com.version1.frs.model.ArchivedBooking;
+import com.version1.frs.model.ArchivedFlight;
+import com.version1.frs.model.ArchivedReview;
+import com.version1.frs.model.ArchivedTicket;
+import com.version1.frs.model.BookedTicket;
+import com.version1.frs.model.Booking;
+import com.version1.frs.model.Flight;
+import com.version1.frs.model.Review;
+import com.version1.frs.model.User;
+
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.show-sql=false" })
+@Import(FlightArchiveRepository.class)
+class FlightArchiveRepositoryTest {
+
+	private static final LocalDateTime CUTOFF = LocalDateTime.now().minusDays(90);
+
+	@Autowired
+	private FlightArchiveRepository archiveRepository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private Airplane airplane;
+	private Airport from;
+	private Airport to;
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		airplane = new Airplane();
+		airplane.setAirplaneName("Test");
+		airplane.setAirplaneNumber("T-1");
+		airplane.setAirplaneModel("A320");
+		airplane.setManufacturer("Airbus");
+		airplane.setCapacity(180);
+		entityManager.persist(airplane);
+		from = entityManager.persist(airport("DEL"));
+		to = entityManager.persist(airport("BOM"));
+
+		user = new User();
+		user.setUserName("Customer");
+		user.setUserEmail("customer@example.com");
+		user.setUserGender("F");
+		user.setUserPassword("secret");
+		user.setUserRole("CUSTOMER");
+		entityManager.persist(user);
+	}
+
+	@Test
+	void findDepartedFlightIdsReturnsDepartedFlightsInIdOrder() {
+		Flight first = flight(CUTOFF.minusDays(10));
+		Flight second = flight(CUTOFF.minusDays(20));
+		flight(CUTOFF.plusDays(1));
+
+		assertThat(archiveRepository.findDepartedFlightIds(CUTOFF, 10)).containsExactly(first.getId(),
+				second.getId());
+		assertThat(archiveRepository.findDepartedFlightIds(CUTOFF, 1)).containsExactly(first.getId());
+	}
+
+	@Test
+	void moveToArchiveReportsAndMovesEveryRowOfTheChunk() {
+		Flight departed = flight(CUTOFF.minusDays(1));
+		booking(departed, 2);
+		booking(departed, 1);
+		review(departed);
+		Flight recent = flight(CUTOFF.plusDays(1));
+		booking(recent, 1);
+		review(recent);
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Long> reviewIds = archiveRepository.findReviewIds(List.of(departed.getId()));
+		FlightArchiveRepository.MovedRows moved = archiveRepository.moveToArchive(List.of(departed.getId()),
+				LocalDateTime.now());
+
+		assertThat(reviewIds).hasSize(1);
+		assertThat(moved).isEqualTo(new FlightArchiveRepository.MovedRows(1, 2, 3, 1));
+		assertThat(count(ArchivedFlight.class)).isEqualTo(1);
+		assertThat(count(ArchivedBooking.class)).isEqualTo(2);
+		assertThat(count(ArchivedTicket.class)).isEqualTo(3);
+		assertThat(count(ArchivedReview.class)).isEqualTo(1);
+
+		assertThat(count(Flight.class)).isEqualTo(1);
+		assertThat(count(Booking.class)).isEqualTo(1);
+		assertThat(count(BookedTicket.class)).isEqualTo(1);
+		assertThat(count(Review.class)).isEqualTo(1);
+		assertThat(entityManager.find(Flight.class, recent.getId())).isNotNull();
+	}
+
+	@Test
+	void moveToArchiveOfAFlightWithoutBookingsMovesOnlyTheFlight() {
+		Flight departed = flight(CUTOFF.minusDays(1));
+		entityManager.flush();
+
+		FlightArchiveRepository.MovedRows moved = archiveRepository.moveToArchive(List.of(departed.getId()),
+				LocalDateTime.now());
+
+		assertThat(moved).isEqualTo(new FlightArchiveRepository.MovedRows(1, 0, 0, 0));
+		assertThat(count(Flight.class)).isZero();
+	}
+
+	private long count(Class<?> entity) {
+		return entityManager.getEntityManager()
+				.createQuery("SELECT COUNT(e) FROM " + entity.getSimpleName() + " e", Long.class).getSingleResult();
+	}
+
+	private Flight flight(LocalDateTime departure) {
+		Flight flight = new Flight();
+		flight.setAirplane(airplane);
+		flight.setFromAirport(from);
+		flight.setToAirport(to);
+		flight.setDepartureTime(departure);
+		flight.setArrivalTime(departure.plusHours(2));
+		flight.setPrice(new BigDecimal("4500.00"));
+		flight.setAirline("Test Air");
+		return entityManager.persist(flight);
+	}
+
+	private void booking(Flight flight, int passengers) {
+		Booking booking = new Booking();
+		booking.setUser(user);
+		booking.setFlight(flight);
+		booking.setBookingTime(flight.getDepartureTime().minusDays(7));
+		booking.setTotalAmount(flight.getPrice().multiply(BigDecimal.valueOf(passengers)));
+		for (int i = 0; i < passengers; i++) {
+			BookedTicket ticket = new BookedTicket();
+			ticket.setBooking(booking);
+			ticket.setPassengerName("Passenger " + i);
+			ticket.setPassengerAge(30);
+			ticket.setPassengerGender("M");
+			ticket.setSeatNumber((i + 1) + "A");
+			booking.getBookedTickets().add(ticket);
+		}
+		entityManager.persist(booking);
+	}
+
+	private void review(Flight flight) {
+		Review review = new Review();
+		review.setUser(user);
+		review.setFlight(flight);
+		review.setRating(4.5f);
+		review.setReviewText("Smooth flight");
+		entityManager.persist(review);
+	}
+
+	private static Airport airport(String code) {
+		Airport airport = new Airport();
+		airport.setAirportCode(code);
+		airport.setAirportName(code + " International");
+		airport.setAirportCity(code);
+		airport.setAirportState(code);
+		airport.setAirportCountry("India");
+		return airport;
+	}
+}
@@ -0,0 +1,73 @@
+package com.version1.frs.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.version1.frs.dto.BulkheadStatsResponse;
+
+class BulkheadTest {
+
+	@Test
+	void rejectsImmediatelyWhenThePermitsAndTheQueueAreTaken() throws InterruptedException {
+		Bulkhead bulkhead = new Bulkhead("booking", 2, 0, 5_000);
+
+		assertThat(bulkhead.tryEnter()).isTrue();
+		assertThat(bulkhead.tryEnter()).isTrue();
+		long start = System.nanoTime();
+		assertThat(bulkhead.tryEnter()).isFalse();
+		assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(1));
+
+		BulkheadStatsResponse stats = bulkhead.stats();
+		assertThat(stats.getActive()).isEqualTo(2);
+		assertThat(stats.getAdmitted()).isEqualTo(2);
+		assertThat(stats.getRejected()).isEqualTo(1);
+		assertThat(stats.getTimedOut()).isZero();
+	}
+
+	@Test
+	void queuedRequestTimesOutWhenNoPermitIsReleased() throws InterruptedException {
+		Bulkhead bulkhead = new Bulkhead("wallet", 1, 1, 50);
+
+		assertThat(bulkhead.tryEnter()).isTrue();
+		assertThat(bulkhead.tryEnter()).isFalse();
+
+		BulkheadStatsResponse stats = bulkhead.stats();
+		assertThat(stats.getTimedOut()).isEqualTo(1);
+		assertThat(stats.getRejected()).isEqualTo(1);
+		assertThat(stats.getPeakQueued()).isEqualTo(1);
+		assertThat(stats.getQueued()).isZero();
+	}
+
+	@Test
+	void queuedRequestIsAdmittedOnceAPermitIsReleased() throws Exception {
+		Bulkhead bulkhead = new Bulkhead("search", 1, 1, 10_000);
+		assertThat(bulkhead.tryEnter()).isTrue();
+
+		CompletableFuture<Boolean> waiting = CompletableFuture.supplyAsync(() -> {
+			try {
+				return bulkhead.tryEnter();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		});
+		while (bulkhead.stats().getQueued() == 0) {
+			Thread.onSpinWait();
+		}
+		bulkhead.release();
+
+		assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(bulkhead.stats().getAdmitted()).isEqualTo(2);
+		assertThat(bulkhead.stats().getActive()).isEqualTo(1);
+	}
+
+	@Test
+	void retryAfterIsAtLeastOneSecond() {
+		assertThat(new Bulkhead("search", 1, 1, 200).retryAfterSeconds()).isEqualTo(1);
+		assertThat(new Bulkhead("search", 1, 1, 3_000).retryAfterSeconds()).isEqualTo(3);
+	}
+}
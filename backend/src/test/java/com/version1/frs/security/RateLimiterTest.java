@@ -0,0 +1,77 @@
+package com.version1.frs.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RateLimiterTest {
+
+	/** 60 per minute: one token per second. */
+	private static final RateLimiter.Limit LIMIT = new RateLimiter.Limit(60, 2);
+	private static final long SECOND = 1_000_000_000L;
+
+	@Test
+	void allowsTheBurstThenRejectsUntilATokenRefills() {
+		RateLimiter limiter = new RateLimiter(100);
+		long now = 0;
+
+		assertThat(limiter.tryAcquire("user", LIMIT, now)).isZero();
+		assertThat(limiter.tryAcquire("user", LIMIT, now)).isZero();
+		assertThat(limiter.tryAcquire("user", LIMIT, now)).isZero();
+		assertThat(limiter.tryAcquire("user", LIMIT, now)).isEqualTo(SECOND);
+		assertThat(limiter.getRejected()).isEqualTo(1);
+
+		assertThat(limiter.tryAcquire("user", LIMIT, now + SECOND / 2)).isEqualTo(SECOND / 2);
+		assertThat(limiter.tryAcquire("user", LIMIT, now + SECOND)).isZero();
+		assertThat(limiter.tryAcquire("user", LIMIT, now + SECOND)).isPositive();
+	}
+
+	@Test
+	void keysHaveSeparateBuckets() {
+		RateLimiter limiter = new RateLimiter(100);
+		RateLimiter.Limit single = new RateLimiter.Limit(60, 0);
+
+		assertThat(limiter.tryAcquire("alice", single, 0)).isZero();
+		assertThat(limiter.tryAcquire("alice", single, 0)).isPositive();
+		assertThat(limiter.tryAcquire("bob", single, 0)).isZero();
+		assertThat(limiter.size()).isEqualTo(2);
+	}
+
+	@Test
+	void evictIdleDropsOnlyRefilledBuckets() {
+		RateLimiter limiter = new RateLimiter(100);
+		RateLimiter.Limit slow = new RateLimiter.Limit(1, 0);
+
+		limiter.tryAcquire("idle", LIMIT, 0);
+		limiter.tryAcquire("busy", slow, 0);
+		limiter.evictIdle(2 * SECOND);
+
+		assertThat(limiter.size()).isEqualTo(1);
+		assertThat(limiter.tryAcquire("busy", slow, 2 * SECOND)).isPositive();
+	}
+
+	@Test
+	void newKeysShareAnOverflowBucketWhenTheMapIsFull() {
+		RateLimiter limiter = new RateLimiter(1);
+		RateLimiter.Limit single = new RateLimiter.Limit(60, 0);
+		long now = 10 * SECOND;
+
+		assertThat(limiter.tryAcquire("alice", single, now)).isZero();
+		assertThat(limiter.tryAcquire("bob", single, now)).isZero();
+		assertThat(limiter.tryAcquire("carol", single, now)).isPositive();
+		assertThat(limiter.size()).isEqualTo(1);
+		assertThat(limiter.getOverflowed()).isEqualTo(2);
+	}
+
+	@Test
+	void fullMapIsSweptOnTheRequestPath() {
+		RateLimiter limiter = new RateLimiter(1);
+		long start = System.nanoTime();
+
+		limiter.tryAcquire("alice", LIMIT, start);
+		assertThat(limiter.tryAcquire("bob", LIMIT, start + 5 * SECOND)).isZero();
+
+		assertThat(limiter.size()).isEqualTo(1);
+		assertThat(limiter.getOverflowed()).isZero();
+	}
+}
@@ -0,0 +1,86 @@
+package com.version1.frs.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.BitSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.version1.frs.model.TableVersion;
+import com.version1.frs.repository.AirplaneRepository;
+import com.version1.frs.repository.AirportRepository;
+import com.version1.frs.repository.BookedTicketRepository;
+import com.version1.frs.repository.FlightRepository;
+import com.version1.frs.repository.FlightSeatMapRepository;
+import com.version1.frs.service.AnalyticsService;
+import com.version1.frs.service.BookingSummaryService;
+import com.version1.frs.service.OutboxService;
+import com.version1.frs.service.TableVersionService;
+
+class FlightServiceImplETagTest {
+
+	private FlightRepository flightRepository;
+	private FlightSeatMapRepository seatMapRepository;
+	private SeatMapCache cache;
+	private FlightServiceImpl service;
+
+	@BeforeEach
+	void setUp() {
+		flightRepository = mock(FlightRepository.class);
+		seatMapRepository = mock(FlightSeatMapRepository.class);
+		cache = new SeatMapCache();
+		TableVersionService tableVersionService = mock(TableVersionService.class);
+		when(tableVersionService.currentVersion(TableVersion.FLIGHTS)).thenReturn(1L);
+		when(tableVersionService.currentVersion(TableVersion.AIRPORTS)).thenReturn(2L);
+		when(tableVersionService.currentVersion(TableVersion.AIRPLANES)).thenReturn(3L);
+		SeatMapServiceImpl seatMapService = new SeatMapServiceImpl(seatMapRepository, flightRepository,
+				mock(AirplaneRepository.class), mock(BookedTicketRepository.class), cache,
+				mock(FlightSearchCache.class), tableVersionService, mock(AnalyticsService.class),
+				mock(OutboxService.class), mock(PlatformTransactionManager.class));
+		service = new FlightServiceImpl(flightRepository, mock(AirplaneRepository.class),
+				mock(AirportRepository.class), mock(AnalyticsService.class), seatMapService,
+				mock(BookingSummaryService.class), mock(OutboxService.class), tableVersionService,
+				mock(FlightSearchCache.class), mock(FareCalendar.class), new ObjectMapper(),
+				mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void eTagCombinesTableVersionsAndTheCachedSeatMapVersion() {
+		cache.publish(7L, snapshot(4L, LocalDateTime.now().plusDays(1)));
+
+		assertThat(service.getFlightETag(7L)).isEqualTo("\"flight-7-1.2.3.4\"");
+	}
+
+	@Test
+	void eTagChangesWhenSeatsAreBooked() {
+		cache.publish(7L, snapshot(4L, LocalDateTime.now().plusDays(1)));
+		String before = service.getFlightETag(7L);
+		cache.publish(7L, snapshot(5L, LocalDateTime.now().plusDays(1)));
+
+		assertThat(service.getFlightETag(7L)).isNotEqualTo(before);
+	}
+
+	@Test
+	void departedFlightHasNoETag() {
+		cache.publish(7L, snapshot(4L, LocalDateTime.now().minusMinutes(1)));
+
+		assertThat(service.getFlightETag(7L)).isNull();
+	}
+
+	@Test
+	void flightWithoutCachedSeatMapHasNoETagAndIsNotReadFromTheDatabase() {
+		assertThat(service.getFlightETag(7L)).isNull();
+		verifyNoInteractions(flightRepository, seatMapRepository);
+	}
+
+	private static SeatMapCache.Snapshot snapshot(long version, LocalDateTime departureTime) {
+		return new SeatMapCache.Snapshot(version, 1L, departureTime, null, new BitSet(), null);
+	}
+}
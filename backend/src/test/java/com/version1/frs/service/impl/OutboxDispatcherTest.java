@@ -0,0 +1,176 @@
+package com.version1.frs.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.version1.frs.model.OutboxEvent;
+import com.version1.frs.repository.OutboxEventRepository;
+import com.version1.frs.service.OutboxEventHandler;
+
+/**
+ * Runs the dispatcher against an embedded H2 database. The tests are not
+ * transactional themselves, so every claim, delivery and failure is committed
+ * exactly as in production.
+ */
+@DataJpaTest(properties = { "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.show-sql=false" })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxDispatcherTest {
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final RecordingHandler handler = new RecordingHandler();
+
+	@BeforeEach
+	void setUp() {
+		outboxEventRepository.deleteAll();
+	}
+
+	@AfterEach
+	void tearDown() {
+		outboxEventRepository.deleteAll();
+	}
+
+	@Test
+	void deliversEventsInOrderAndMarksThemDone() {
+		OutboxEvent first = save(1L);
+		OutboxEvent second = save(2L);
+		OutboxEvent third = save(1L);
+
+		dispatcher(10).dispatchPending();
+		dispatcher(10).dispatchPending();
+
+		assertThat(handler.delivered).containsExactly(first.getEventId(), second.getEventId(), third.getEventId());
+		assertThat(outboxEventRepository.findAll()).allSatisfy(event -> {
+			assertThat(event.getStatus()).isEqualTo(OutboxEvent.DONE);
+			assertThat(event.getProcessedAt()).isNotNull();
+		});
+	}
+
+	@Test
+	void laterEventsOfAnAggregateWaitWhileAnEarlierOneIsRetried() {
+		OutboxEvent failing = save(1L);
+		OutboxEvent blocked = save(1L);
+		OutboxEvent other = save(2L);
+		handler.failing.add(failing.getEventId());
+
+		dispatcher(10).dispatchPending();
+
+		assertThat(handler.delivered).containsExactly(other.getEventId());
+		OutboxEvent retried = reload(failing);
+		assertThat(retried.getStatus()).isEqualTo(OutboxEvent.PENDING);
+		assertThat(retried.getAttempts()).isEqualTo(1);
+		assertThat(retried.getNextAttemptAt()).isAfter(LocalDateTime.now());
+		assertThat(retried.getLastError()).isEqualTo("boom");
+		assertThat(reload(blocked).getStatus()).isEqualTo(OutboxEvent.PENDING);
+		assertThat(outboxEventRepository.findDue(LocalDateTime.now(), Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void eventIsMarkedDeadAfterTheLastAttemptAndKeepsLaterEventsParked() {
+		OutboxEvent failing = save(1L);
+		OutboxEvent parked = save(1L);
+		handler.failing.add(failing.getEventId());
+
+		dispatcher(1).dispatchPending();
+
+		assertThat(reload(failing).getStatus()).isEqualTo(OutboxEvent.DEAD);
+		assertThat(reload(parked).getStatus()).isEqualTo(OutboxEvent.PENDING);
+		assertThat(outboxEventRepository.findDue(LocalDateTime.now().plusDays(1), Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void anEventCanOnlyBeClaimedOnce() {
+		OutboxEvent event = save(1L);
+		LocalDateTime now = LocalDateTime.now();
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+		Integer first = transaction.execute(status -> outboxEventRepository.claim(event.getEventId(), now,
+				now.plusMinutes(1)));
+		Integer second = transaction.execute(status -> outboxEventRepository.claim(event.getEventId(), now,
+				now.plusMinutes(1)));
+
+		assertThat(first).isEqualTo(1);
+		assertThat(second).isZero();
+		assertThat(outboxEventRepository.findDue(now, Limit.of(10))).isEmpty();
+	}
+
+	@Test
+	void completionFailsOnceTheLeaseWasTakenOver() {
+		OutboxEvent event = save(1L);
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime lease = now.plusMinutes(1).withNano(0);
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> outboxEventRepository.claim(event.getEventId(), now, lease));
+
+		Integer stale = transaction.execute(status -> outboxEventRepository.complete(event.getEventId(),
+				lease.minusSeconds(30), now));
+		Integer current = transaction.execute(status -> outboxEventRepository.complete(event.getEventId(), lease,
+				now));
+
+		assertThat(stale).isZero();
+		assertThat(current).isEqualTo(1);
+		assertThat(reload(event).getStatus()).isEqualTo(OutboxEvent.DONE);
+	}
+
+	private OutboxDispatcher dispatcher(int maxAttempts) {
+		return new OutboxDispatcher(outboxEventRepository, List.of(handler), new ObjectMapper(), transactionManager,
+				100, maxAttempts, 168, 60_000);
+	}
+
+	private OutboxEvent save(Long bookingId) {
+		OutboxEvent event = new OutboxEvent();
+		event.setAggregateType(OutboxEvent.BOOKING);
+		event.setAggregateId(bookingId);
+		event.setEventType(OutboxEvent.BOOKING_CREATED);
+		event.setPayload("{\"bookingId\":" + bookingId + "}");
+		event.setCreatedAt(LocalDateTime.now());
+		event.setStatus(OutboxEvent.PENDING);
+		return outboxEventRepository.save(event);
+	}
+
+	private OutboxEvent reload(OutboxEvent event) {
+		return outboxEventRepository.findById(event.getEventId()).orElseThrow();
+	}
+
+	private static final class RecordingHandler implements OutboxEventHandler {
+
+		private final List<Long> delivered = new ArrayList<>();
+		private final Set<Long> failing = new HashSet<>();
+
+		@Override
+		public Set<String> eventTypes() {
+			return Set.of(OutboxEvent.BOOKING_CREATED);
+		}
+
+		@Override
+		public void handle(OutboxEvent event, JsonNode payload) {
+			if (failing.contains(event.getEventId())) {
+				throw new IllegalStateException("boom");
+			}
+			delivered.add(event.getEventId());
+		}
+	}
+}
@@ -0,0 +1,101 @@
+package com.version1.frs.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+
+import org.junit.jupiter.api.Test;
+
+import com.version1.frs.model.Airplane;
+import com.version1.frs.model.CabinLayout;
+
+class SeatLayoutTest {
+
+	@Test
+	void defaultLayoutIsSixAbreastAndSizedToCapacity() {
+		SeatLayout layout = SeatLayout.of(airplane(8));
+
+		assertThat(layout.size()).isEqualTo(8);
+		assertThat(layout.label(0)).isEqualTo("1A");
+		assertThat(layout.label(5)).isEqualTo("1F");
+		assertThat(layout.label(7)).isEqualTo("2B");
+		assertThat(layout.cabin(7)).isEqualTo(SeatLayout.DEFAULT_CABIN);
+		assertThat(layout.row(7)).isEqualTo(2);
+	}
+
+	@Test
+	void cabinLayoutDefinesSeats() {
+		Airplane airplane = airplane(0);
+		airplane.getCabinLayouts().add(cabin(airplane, "BUSINESS", 1, 2, "AC DF"));
+		airplane.getCabinLayouts().add(cabin(airplane, "ECONOMY", 10, 10, "ABC DEF"));
+
+		SeatLayout layout = SeatLayout.of(airplane);
+
+		assertThat(layout.size()).isEqualTo(14);
+		assertThat(layout.label(4)).isEqualTo("2A");
+		assertThat(layout.cabin(8)).isEqualTo("ECONOMY");
+		assertThat(layout.indexOf("10a")).isEqualTo(8);
+		assertThat(layout.indexOf(" 2f ")).isEqualTo(7);
+		assertThat(layout.indexOf("3A")).isEqualTo(-1);
+	}
+
+	@Test
+	void findAdjacentPrefersSeatsWithoutAnAisle() {
+		SeatLayout layout = SeatLayout.of(airplane(12));
+		BitSet occupied = new BitSet();
+		occupied.set(layout.indexOf("1B"));
+
+		int[] seats = layout.findAdjacent(occupied, 3);
+
+		assertThat(labels(layout, seats)).containsExactly("1D", "1E", "1F");
+	}
+
+	@Test
+	void findAdjacentCrossesTheAisleWhenNoBlockFits() {
+		SeatLayout layout = SeatLayout.of(airplane(6));
+		BitSet occupied = new BitSet();
+		occupied.set(layout.indexOf("1A"));
+		occupied.set(layout.indexOf("1F"));
+
+		int[] seats = layout.findAdjacent(occupied, 4);
+
+		assertThat(labels(layout, seats)).containsExactly("1B", "1C", "1D", "1E");
+		assertThat(layout.findAdjacent(occupied, 5)).isNull();
+	}
+
+	@Test
+	void findFirstFreeSkipsOccupiedSeatsAndFailsWhenFull() {
+		SeatLayout layout = SeatLayout.of(airplane(4));
+		BitSet occupied = new BitSet();
+		occupied.set(0);
+		occupied.set(2);
+
+		assertThat(layout.findFirstFree(occupied, 2)).containsExactly(1, 3);
+		assertThat(layout.findFirstFree(occupied, 3)).isNull();
+	}
+
+	private static String[] labels(SeatLayout layout, int[] seats) {
+		String[] labels = new String[seats.length];
+		for (int i = 0; i < seats.length; i++) {
+			labels[i] = layout.label(seats[i]);
+		}
+		return labels;
+	}
+
+	static Airplane airplane(int capacity) {
+		Airplane airplane = new Airplane();
+		airplane.setAirplaneId(1L);
+		airplane.setCapacity(capacity);
+		return airplane;
+	}
+
+	private static CabinLayout cabin(Airplane airplane, String cabinClass, int firstRow, int lastRow, String letters) {
+		CabinLayout cabin = new CabinLayout();
+		cabin.setAirplane(airplane);
+		cabin.setCabinClass(cabinClass);
+		cabin.setFirstRow(firstRow);
+		cabin.setLastRow(lastRow);
+		cabin.setSeatLetters(letters);
+		return cabin;
+	}
+}
@@ -0,0 +1,145 @@
+package com.version1.frs.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.version1.frs.model.Airplane;
+import com.version1.frs.model.Airport;
+import com.version1.frs.model.Flight;
+import com.version1.frs.model.FlightSeatMap;
+import com.version1.frs.repository.AirplaneRepository;
+import com.version1.frs.repository.BookedTicketRepository;
+import com.version1.frs.repository.FlightRepository;
+import com.version1.frs.repository.FlightSeatMapRepository;
+import com.version1.frs.service.AnalyticsService;
+import com.version1.frs.service.OutboxService;
+import com.version1.frs.service.TableVersionService;
+
+class SeatMapServiceImplTest {
+
+	private FlightSeatMapRepository seatMapRepository;
+	private AnalyticsService analyticsService;
+	private SeatMapCache cache;
+	private SeatMapServiceImpl service;
+
+	private Flight flight;
+	private FlightSeatMap seatMap;
+
+	@BeforeEach
+	void setUp() {
+		seatMapRepository = mock(FlightSeatMapRepository.class);
+		analyticsService = mock(AnalyticsService.class);
+		cache = new SeatMapCache();
+		service = new SeatMapServiceImpl(seatMapRepository, mock(FlightRepository.class),
+				mock(AirplaneRepository.class), mock(BookedTicketRepository.class), cache,
+				mock(FlightSearchCache.class), mock(TableVersionService.class), analyticsService,
+				mock(OutboxService.class), mock(PlatformTransactionManager.class));
+
+		flight = new Flight();
+		flight.setId(7L);
+		flight.setAirplane(SeatLayoutTest.airplane(12));
+		flight.setFromAirport(airport(1L));
+		flight.setToAirport(airport(2L));
+		flight.setDepartureTime(LocalDateTime.now().plusDays(1));
+
+		seatMap = new FlightSeatMap();
+		seatMap.setFlightId(7L);
+		seatMap.setVersion(3L);
+		when(seatMapRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(seatMap));
+	}
+
+	@Test
+	void reserveSeatsSetsRequestedSeatsAndSeatsTheRestTogether() {
+		List<String> seats = service.reserveSeats(flight, Arrays.asList("2a", null, null));
+
+		assertThat(seats).containsExactly("2A", "1A", "1B");
+		assertThat(occupied()).isEqualTo(bits(0, 1, 6));
+		assertThat(seatMap.getOccupiedCount()).isEqualTo(3);
+		assertThat(cache.get(7L).response().getAvailableSeats()).isEqualTo(9);
+	}
+
+	@Test
+	void reserveSeatsRejectsTakenAndUnknownSeats() {
+		seatMap.setOccupancy(bits(0).toByteArray());
+
+		assertThatThrownBy(() -> service.reserveSeats(flight, List.of("1A")))
+				.hasMessage("Seat 1A is already taken.");
+		assertThatThrownBy(() -> service.reserveSeats(flight, List.of("9Z")))
+				.hasMessage("Seat 9Z does not exist on this flight.");
+		assertThat(occupied()).isEqualTo(bits(0));
+	}
+
+	@Test
+	void reserveSeatsFailsWhenTheFlightIsFull() {
+		BitSet full = new BitSet();
+		full.set(0, 11);
+		seatMap.setOccupancy(full.toByteArray());
+
+		assertThatThrownBy(() -> service.reserveSeats(flight, Arrays.asList(null, null)))
+				.hasMessage("Not enough seats available on this flight.");
+	}
+
+	@Test
+	void releaseSeatsClearsOnlyTheGivenSeats() {
+		seatMap.setOccupancy(bits(0, 1, 6).toByteArray());
+
+		service.releaseSeats(flight, List.of("1B", "2A", "unknown"));
+
+		assertThat(occupied()).isEqualTo(bits(0));
+		assertThat(seatMap.getOccupiedCount()).isEqualTo(1);
+		assertThat(cache.get(7L).occupied()).isEqualTo(bits(0));
+	}
+
+	@Test
+	void updateCapacityIsRejectedWhileSeatsAreBooked() {
+		Airplane airplane = SeatLayoutTest.airplane(12);
+		when(seatMapRepository.existsOccupiedForAirplane(1L)).thenReturn(true);
+
+		assertThatThrownBy(() -> service.updateCapacity(airplane, 18))
+				.hasMessage("Cannot change the capacity of an airplane with booked seats.");
+		assertThat(airplane.getCapacity()).isEqualTo(12);
+		verify(analyticsService, never()).updateCapacity(anyLong(), anyInt());
+	}
+
+	@Test
+	void updateCapacityResizesTheDefaultLayoutAndTheRollups() {
+		Airplane airplane = SeatLayoutTest.airplane(12);
+
+		service.updateCapacity(airplane, 18);
+
+		assertThat(airplane.getCapacity()).isEqualTo(18);
+		verify(analyticsService).updateCapacity(1L, 18);
+	}
+
+	private BitSet occupied() {
+		return BitSet.valueOf(seatMap.getOccupancy());
+	}
+
+	private static BitSet bits(int... indexes) {
+		BitSet bits = new BitSet();
+		Arrays.stream(indexes).forEach(bits::set);
+		return bits;
+	}
+
+	private static Airport airport(Long id) {
+		Airport airport = new Airport();
+		airport.setId(id);
+		return airport;
+	}
+}